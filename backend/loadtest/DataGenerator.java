@@ -0,0 +1,396 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Genera un juego de datos grande y sesgado directamente en PostgreSQL, con inserciones por
+ * lotes (JDBC batch + reWriteBatchedInserts). Solo necesita el driver de PostgreSQL; lo más
+ * cómodo es lanzarlo con loadtest/generate.sh.
+ *
+ * El reparto de tareas entre proyectos sigue una ley de Zipf con exponente --skew: con el valor
+ * por defecto unos pocos proyectos acumulan miles de tareas y la mayoría se queda en decenas,
+ * como en una instalación real. Miembros, boards y etiquetas crecen con el tamaño del proyecto.
+ * Con la misma --seed y los mismos parámetros se generan los mismos datos; solo cambia el
+ * prefijo de los emails (--prefix), para poder generar varias veces sobre la misma base.
+ *
+ * El esquema lo crea la aplicación (ddl-auto), así que hay que arrancarla al menos una vez antes.
+ * Los contadores de estadísticas no se generan: se reconstruyen en la primera escritura de cada
+ * proyecto, que cae dentro del calentamiento del LoadDriver.
+ *
+ * Al terminar escribe --out con lo que necesita LoadDriver --workload=realistic: la contraseña
+ * de los usuarios y, por proyecto, sus boards, los emails de sus miembros y sus tareas.
+ */
+public class DataGenerator {
+
+    /** BCrypt (coste 10, como SecurityConfig) de la contraseña de todos los usuarios generados. */
+    private static final String PASSWORD = "carga123";
+    private static final String PASSWORD_HASH = "$2a$10$jKbh.9Ukfo7HEFkfqPbT3OkDnFozL9Cpoen8/6rpkVJ6sdZ6iUqQK";
+
+    private static final String[] BOARD_NAMES = {"Por Hacer", "En Progreso", "Hecho", "Revisión", "Bloqueado", "QA", "Backlog", "Despliegue"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+    private static final String[] COLORS = {"#e74c3c", "#3498db", "#2ecc71", "#f1c40f", "#9b59b6", "#1abc9c"};
+    private static final String[] WORDS = {"login", "pagos", "informe", "migración", "cache", "api", "móvil", "tablero",
+            "notificaciones", "exportar", "permisos", "búsqueda", "rendimiento", "onboarding", "factura", "correo"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String url = options.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/taskmanager");
+        String dbUser = options.getOrDefault("db-user", "postgres");
+        String dbPassword = options.getOrDefault("db-password", "postgres");
+        int userCount = Integer.parseInt(options.getOrDefault("users", "2000"));
+        int projectCount = Integer.parseInt(options.getOrDefault("projects", "300"));
+        int taskCount = Integer.parseInt(options.getOrDefault("tasks", "200000"));
+        double skew = Double.parseDouble(options.getOrDefault("skew", "1.1"));
+        int minTasks = Integer.parseInt(options.getOrDefault("min-tasks", "5"));
+        int tasksPerMember = Integer.parseInt(options.getOrDefault("tasks-per-member", "40"));
+        int maxMembers = Integer.parseInt(options.getOrDefault("max-members", "300"));
+        int batchSize = Integer.parseInt(options.getOrDefault("batch-size", "1000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        String prefix = options.getOrDefault("prefix", "carga" + Long.toString(System.currentTimeMillis(), 36));
+        Path out = Path.of(options.getOrDefault("out", "target/loadtest-dataset.tsv"));
+
+        if (options.containsKey("help") || userCount < 2 || projectCount < 1) {
+            System.err.println("Uso: java -cp postgresql.jar DataGenerator.java [--jdbc-url=] [--db-user=] [--db-password=] "
+                    + "[--users=2000] [--projects=300] [--tasks=200000] [--skew=1.1] [--min-tasks=5] "
+                    + "[--tasks-per-member=40] [--max-members=300] [--batch-size=1000] [--seed=42] [--prefix=] "
+                    + "[--out=target/loadtest-dataset.tsv]");
+            System.exit(2);
+        }
+
+        Random random = new Random(seed);
+        int[] tasksPerProject = zipf(projectCount, taskCount, minTasks, skew);
+
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", dbUser);
+        connectionProperties.setProperty("password", dbPassword);
+        connectionProperties.setProperty("reWriteBatchedInserts", "true");
+
+        long start = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(url, connectionProperties)) {
+            connection.setAutoCommit(false);
+            Generator generator = new Generator(connection, random, batchSize);
+
+            List<String> emails = new ArrayList<>(userCount);
+            for (int i = 0; i < userCount; i++) {
+                emails.add(prefix + "-" + i + "@loadtest.local");
+            }
+            // Un 5% de jefes de proyecto, que son los dueños de los proyectos
+            int managers = Math.max(1, userCount / 20);
+            List<Long> userIds = generator.insertUsers(emails, managers);
+            connection.commit();
+            System.out.printf("usuarios=%d%n", userIds.size());
+
+            List<ProjectData> projects = new ArrayList<>(projectCount);
+            int generatedTasks = 0;
+            for (int p = 0; p < projectCount; p++) {
+                int tasks = tasksPerProject[p];
+                int members = Math.max(2, Math.min(Math.min(maxMembers, userCount), tasks / tasksPerMember));
+                int owner = random.nextInt(managers);
+
+                Set<Integer> team = new LinkedHashSet<>();
+                team.add(owner);
+                while (team.size() < members) {
+                    team.add(random.nextInt(userCount));
+                }
+                List<Integer> teamIndexes = new ArrayList<>(team);
+
+                ProjectData project = generator.insertProject(p, userIds, teamIndexes,
+                        boardCount(tasks), labelCount(tasks), tasks);
+                project.memberEmails = teamIndexes.stream().map(emails::get).toList();
+                projects.add(project);
+                connection.commit();
+
+                generatedTasks += tasks;
+                if (p < 5 || (p + 1) % 50 == 0 || p == projectCount - 1) {
+                    System.out.printf("proyecto %d/%d: %d tareas, %d miembros, %d boards (total %d tareas)%n",
+                            p + 1, projectCount, tasks, members, project.boardIds.size(), generatedTasks);
+                }
+            }
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+
+            writeManifest(out, projects);
+            System.out.printf("proyectos=%d tareas=%d en %.1f s, manifiesto en %s%n",
+                    projects.size(), generatedTasks, (System.nanoTime() - start) / 1e9, out);
+        }
+    }
+
+    /**
+     * Reparte total tareas entre n proyectos con pesos 1/rango^skew, con un mínimo por proyecto.
+     */
+    static int[] zipf(int n, int total, int min, double skew) {
+        double[] weights = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, skew);
+            sum += weights[i];
+        }
+        int[] result = new int[n];
+        int remaining = Math.max(0, total - min * n);
+        for (int i = 0; i < n; i++) {
+            result[i] = min + (int) Math.round(remaining * weights[i] / sum);
+        }
+        return result;
+    }
+
+    private static int boardCount(int tasks) {
+        if (tasks >= 5000) {
+            return BOARD_NAMES.length;
+        }
+        if (tasks >= 500) {
+            return 5;
+        }
+        return tasks >= 50 ? 4 : 3;
+    }
+
+    private static int labelCount(int tasks) {
+        return Math.min(15, 3 + tasks / 200);
+    }
+
+    private static void writeManifest(Path out, List<ProjectData> projects) throws IOException {
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println("# project\tid\tboardIds\tmemberEmails\ttaskIds");
+            writer.println("password\t" + PASSWORD);
+            for (ProjectData project : projects) {
+                writer.println("project\t" + project.id
+                        + "\t" + join(project.boardIds)
+                        + "\t" + String.join(",", project.memberEmails)
+                        + "\t" + join(project.taskIds));
+            }
+        }
+    }
+
+    private static String join(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (arg.startsWith("--")) {
+                options.put(arg.substring(2), "");
+            }
+        }
+        return options;
+    }
+
+    private static class ProjectData {
+
+        private Long id;
+        private final List<Long> boardIds = new ArrayList<>();
+        private final List<Long> taskIds = new ArrayList<>();
+        private List<String> memberEmails;
+    }
+
+    private static class Generator {
+
+        private final Connection connection;
+        private final Random random;
+        private final int batchSize;
+        private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        Generator(Connection connection, Random random, int batchSize) {
+            this.connection = connection;
+            this.random = random;
+            this.batchSize = batchSize;
+        }
+
+        List<Long> insertUsers(List<String> emails, int managers) throws SQLException {
+            List<Long> ids = new ArrayList<>(emails.size());
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO users (email, password, full_name, role, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"})) {
+                for (int i = 0; i < emails.size(); i++) {
+                    Timestamp createdAt = Timestamp.valueOf(now.minusDays(random.nextInt(720)));
+                    insert.setString(1, emails.get(i));
+                    insert.setString(2, PASSWORD_HASH);
+                    insert.setString(3, "Usuario de carga " + i);
+                    insert.setString(4, i < managers ? "PROJECT_MANAGER" : "MEMBER");
+                    insert.setTimestamp(5, createdAt);
+                    insert.setTimestamp(6, createdAt);
+                    insert.addBatch();
+                    if ((i + 1) % batchSize == 0) {
+                        flush(insert, ids);
+                    }
+                }
+                flush(insert, ids);
+            }
+            return ids;
+        }
+
+        ProjectData insertProject(int index, List<Long> userIds, List<Integer> team, int boards, int labels, int tasks)
+                throws SQLException {
+            ProjectData project = new ProjectData();
+            Timestamp createdAt = Timestamp.valueOf(now.minusDays(30 + random.nextInt(365)));
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO projects (name, description, owner_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    new String[]{"id"})) {
+                insert.setString(1, "Proyecto de carga " + index);
+                insert.setString(2, tasks + " tareas generadas");
+                insert.setLong(3, userIds.get(team.get(0)));
+                insert.setTimestamp(4, createdAt);
+                insert.setTimestamp(5, createdAt);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    project.id = keys.getLong(1);
+                }
+            }
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO project_members (project_id, user_id) VALUES (?, ?)")) {
+                for (int member : team) {
+                    insert.setLong(1, project.id);
+                    insert.setLong(2, userIds.get(member));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO boards (name, position, project_id, version) VALUES (?, ?, ?, 0)", new String[]{"id"})) {
+                for (int b = 0; b < boards; b++) {
+                    insert.setString(1, BOARD_NAMES[b]);
+                    insert.setInt(2, b);
+                    insert.setLong(3, project.id);
+                    insert.addBatch();
+                }
+                flush(insert, project.boardIds);
+            }
+
+            List<Long> labelIds = new ArrayList<>(labels);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO labels (name, color, project_id) VALUES (?, ?, ?)", new String[]{"id"})) {
+                for (int l = 0; l < labels; l++) {
+                    insert.setString(1, WORDS[l % WORDS.length] + (l >= WORDS.length ? "-" + l : ""));
+                    insert.setString(2, COLORS[l % COLORS.length]);
+                    insert.setLong(3, project.id);
+                    insert.addBatch();
+                }
+                flush(insert, labelIds);
+            }
+
+            insertTasks(project, team.stream().map(userIds::get).toList(), labelIds, tasks, createdAt.toLocalDateTime());
+            return project;
+        }
+
+        private void insertTasks(ProjectData project, List<Long> members, List<Long> labelIds, int tasks, LocalDateTime since)
+                throws SQLException {
+            int[] nextPosition = new int[project.boardIds.size()];
+            List<long[]> pendingLabels = new ArrayList<>();
+            List<Long> batchIds = new ArrayList<>(batchSize);
+            int ageMinutes = (int) Math.max(1, Duration.between(since, now).toMinutes());
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO tasks (title, description, priority, position, board_id, assignee_id, due_date, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", new String[]{"id"});
+                 PreparedStatement link = connection.prepareStatement(
+                         "INSERT INTO task_labels (task_id, label_id) VALUES (?, ?)")) {
+
+                List<Set<Long>> batchLabels = new ArrayList<>(batchSize);
+                for (int t = 0; t < tasks; t++) {
+                    // Los boards del principio (pendientes, en curso) tienen más tareas que los del final
+                    int board = Math.min(project.boardIds.size() - 1, (int) Math.floor(Math.abs(random.nextGaussian()) * 1.2));
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    Timestamp createdAt = Timestamp.valueOf(since.plusMinutes(random.nextInt(ageMinutes)));
+
+                    insert.setString(1, "Tarea " + t + " de " + word);
+                    insert.setString(2, random.nextInt(3) == 0 ? null : "Revisar " + word + " y " + WORDS[random.nextInt(WORDS.length)]);
+                    if (random.nextInt(10) == 0) {
+                        insert.setNull(3, Types.VARCHAR);
+                    } else {
+                        insert.setString(3, PRIORITIES[random.nextInt(PRIORITIES.length)]);
+                    }
+                    insert.setInt(4, nextPosition[board]++);
+                    insert.setLong(5, project.boardIds.get(board));
+                    if (random.nextInt(5) == 0) {
+                        insert.setNull(6, Types.BIGINT);
+                    } else {
+                        insert.setLong(6, members.get(random.nextInt(members.size())));
+                    }
+                    if (random.nextBoolean()) {
+                        insert.setNull(7, Types.DATE);
+                    } else {
+                        insert.setDate(7, Date.valueOf(LocalDate.now().plusDays(random.nextInt(120) - 30)));
+                    }
+                    insert.setTimestamp(8, createdAt);
+                    insert.setTimestamp(9, createdAt);
+                    insert.addBatch();
+
+                    Set<Long> labels = new LinkedHashSet<>();
+                    int labelsForTask = random.nextInt(3);
+                    for (int l = 0; l < labelsForTask; l++) {
+                        labels.add(labelIds.get(random.nextInt(labelIds.size())));
+                    }
+                    batchLabels.add(labels);
+
+                    if (batchLabels.size() == batchSize || t == tasks - 1) {
+                        batchIds.clear();
+                        flush(insert, batchIds);
+                        for (int i = 0; i < batchIds.size(); i++) {
+                            for (Long labelId : batchLabels.get(i)) {
+                                pendingLabels.add(new long[]{batchIds.get(i), labelId});
+                            }
+                        }
+                        project.taskIds.addAll(batchIds);
+                        batchLabels.clear();
+                    }
+                }
+
+                for (int i = 0; i < pendingLabels.size(); i++) {
+                    link.setLong(1, pendingLabels.get(i)[0]);
+                    link.setLong(2, pendingLabels.get(i)[1]);
+                    link.addBatch();
+                    if ((i + 1) % batchSize == 0) {
+                        link.executeBatch();
+                    }
+                }
+                link.executeBatch();
+            }
+        }
+
+        /**
+         * Ejecuta el lote pendiente y añade los ids generados, en orden de inserción.
+         */
+        private void flush(PreparedStatement insert, List<Long> ids) throws SQLException {
+            insert.executeBatch();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                while (keys.next()) {
+                    ids.add(keys.getLong(1));
+                }
+            }
+        }
+    }
+}
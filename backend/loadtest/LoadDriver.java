@@ -0,0 +1,427 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generador de carga de bucle cerrado para comparar el modo de hilos de plataforma con el
+ * perfil virtual-threads. Sin dependencias: se ejecuta con "java LoadDriver.java".
+ *
+ * Crea un proyecto con tareas usando un usuario que pueda crear proyectos y lanza --clients
+ * clientes que repiten la carga elegida durante --duration segundos:
+ *   get    GET /api/projects/{id}          (lo que hace el tablero al refrescar)
+ *   move   PUT /api/tasks/{id}/move        (arrastrar una tarea a otro board)
+ *   mixed  90% get / 10% move              (pico de polling con algo de edición)
+ *   coalesced  PUT /api/tasks/{id}/move/coalesced (movimientos agrupados por proyecto)
+ *   realistic  70% get / 15% move / 10% POST /api/tasks / 5% POST /api/auth/login, sobre el juego
+ *              de datos de DataGenerator (--dataset=target/loadtest-dataset.tsv)
+ *
+ * Con realistic no se crea proyecto: cada cliente elige una pertenencia (proyecto, miembro) del
+ * manifiesto, inicia sesión como ese usuario y trabaja sobre ese proyecto. Como los proyectos
+ * grandes tienen más miembros, reciben más tráfico, igual que en producción.
+ *
+ * Las peticiones del calentamiento (--warmup segundos) no cuentan en las métricas. Cada cliente
+ * envía su siguiente petición al recibir la respuesta, así que la latencia incluye la cola de
+ * Tomcat, la espera por una conexión del pool y los bloqueos en base de datos. Además del total
+ * se imprimen los percentiles de cada operación.
+ */
+public class LoadDriver {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern BOARDS = Pattern.compile("\"boards\"\\s*:\\s*\\[(.*)");
+
+    private static final Map<String, String> TOKENS = new ConcurrentHashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        String workload = options.getOrDefault("workload", "get");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "200"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int thinkMs = Integer.parseInt(options.getOrDefault("think-ms", "0"));
+        int taskCount = Integer.parseInt(options.getOrDefault("tasks", "60"));
+        String label = options.getOrDefault("label", "");
+        boolean realistic = workload.equals("realistic");
+
+        if (realistic ? !options.containsKey("dataset") : !options.containsKey("email") || !options.containsKey("password")) {
+            System.err.println("Uso: java LoadDriver.java --email=pm@x.com --password=... [--base-url=] "
+                    + "[--workload=get|move|mixed|coalesced] [--clients=200] [--duration=30] [--warmup=5] [--think-ms=0] "
+                    + "[--tasks=60] [--label=]");
+            System.err.println("     java LoadDriver.java --workload=realistic --dataset=target/loadtest-dataset.tsv [--base-url=] "
+                    + "[--clients=200] [--duration=30] [--warmup=5] [--think-ms=0] [--label=]");
+            System.exit(2);
+        }
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Api api = new Api(http, baseUrl);
+
+        Dataset dataset;
+        if (realistic) {
+            dataset = Dataset.load(Path.of(options.get("dataset")));
+        } else {
+            dataset = createProject(api, options.get("email"), options.get("password"), taskCount);
+        }
+
+        Stats stats = new Stats();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmup);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(duration);
+
+        Map<String, List<long[]>> latencies = new ConcurrentHashMap<>();
+        try (AutoCloseableExecutor executor = new AutoCloseableExecutor(clientExecutor(clients))) {
+            for (int c = 0; c < clients; c++) {
+                executor.delegate.submit(() -> {
+                    Map<String, LongList> mine = new HashMap<>();
+                    Session session = dataset.pick(ThreadLocalRandom.current());
+                    try {
+                        // El primer inicio de sesión va dentro del calentamiento y no se mide
+                        session.start(api);
+                    } catch (Exception e) {
+                        stats.count(-1);
+                        return;
+                    }
+                    while (System.nanoTime() < end) {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        String operation = nextOperation(workload, random);
+                        long t0 = System.nanoTime();
+                        int status;
+                        try {
+                            status = session.execute(api, operation, random);
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        long t1 = System.nanoTime();
+                        // Se cuentan las que empiezan dentro de la ventana aunque acaben después: si no,
+                        // las más lentas (esperando conexión o bloqueos) desaparecerían de los percentiles
+                        if (t0 >= measureFrom) {
+                            mine.computeIfAbsent(operation, o -> new LongList()).add(t1 - t0);
+                            stats.count(status);
+                        }
+                        if (thinkMs > 0) {
+                            try {
+                                Thread.sleep(thinkMs);
+                            } catch (InterruptedException e) {
+                                return;
+                            }
+                        }
+                    }
+                    mine.forEach((operation, values) -> latencies
+                            .computeIfAbsent(operation, o -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(values.toArray()));
+                });
+            }
+        }
+
+        Map<String, long[]> byOperation = new TreeMap<>();
+        latencies.forEach((operation, values) ->
+                byOperation.put(operation, values.stream().flatMapToLong(Arrays::stream).sorted().toArray()));
+        long[] all = byOperation.values().stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        long errors = stats.byStatus.entrySet().stream()
+                .filter(e -> e.getKey() < 200 || e.getKey() >= 400)
+                .mapToLong(e -> e.getValue().sum())
+                .sum();
+
+        System.out.printf("label=%s workload=%s clients=%d duration=%ds think=%dms%n", label, workload, clients, duration, thinkMs);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n", all.length, errors, all.length / (double) duration);
+        System.out.printf("latency_ms p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99), percentile(all, 1.0));
+        if (byOperation.size() > 1) {
+            byOperation.forEach((operation, values) -> System.out.printf(
+                    "  %-6s requests=%d throughput=%.1f req/s p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                    operation, values.length, values.length / (double) duration,
+                    percentile(values, 0.50), percentile(values, 0.95), percentile(values, 0.99), percentile(values, 1.0)));
+        }
+        Map<Integer, Long> statuses = new TreeMap<>();
+        stats.byStatus.forEach((status, count) -> statuses.put(status, count.sum()));
+        System.out.println("status " + statuses);
+    }
+
+    private static String nextOperation(String workload, ThreadLocalRandom random) {
+        return switch (workload) {
+            case "move" -> "move";
+            case "coalesced" -> "coalesced";
+            case "mixed" -> random.nextInt(10) == 0 ? "move" : "get";
+            case "realistic" -> {
+                int roll = random.nextInt(100);
+                yield roll < 70 ? "get" : roll < 85 ? "move" : roll < 95 ? "create" : "login";
+            }
+            default -> "get";
+        };
+    }
+
+    /**
+     * Proyecto nuevo con taskCount tareas, creado por el usuario indicado, para las cargas sobre
+     * un único proyecto.
+     */
+    private static Dataset createProject(Api api, String email, String password, int taskCount) throws Exception {
+        String login = api.send("POST", "/api/auth/login", null, loginJson(email, password)).body();
+        String token = first(TOKEN, login);
+
+        String project = api.send("POST", "/api/projects", token,
+                "{\"name\":\"loadtest-" + System.currentTimeMillis() + "\"}").body();
+        long projectId = Long.parseLong(first(ID, project));
+        String detail = api.send("GET", "/api/projects/" + projectId, token, null).body();
+        long[] boardIds = allIds(first(BOARDS, detail));
+
+        long[] taskIds = new long[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            String task = api.send("POST", "/api/tasks", token,
+                    "{\"title\":\"Carga " + i + "\",\"boardId\":" + boardIds[i % boardIds.length] + "}").body();
+            taskIds[i] = Long.parseLong(first(ID, task));
+        }
+
+        ProjectTarget target = new ProjectTarget(projectId, boardIds, taskIds, new String[]{email});
+        TOKENS.put(email, token);
+        return new Dataset(password, List.of(target), false);
+    }
+
+    private static String loginJson(String email, String password) {
+        return "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+    }
+
+    /**
+     * Hilos virtuales si el JDK del generador los tiene, para que el cliente no sea el cuello de botella.
+     */
+    private static ExecutorService clientExecutor(int clients) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(clients);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private static String first(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Respuesta inesperada: " + body);
+        }
+        return matcher.group(1);
+    }
+
+    private static long[] allIds(String json) {
+        Matcher matcher = ID.matcher(json);
+        List<Long> ids = new ArrayList<>();
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        // "boards" es el último campo y en un proyecto recién creado no tienen tareas
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private record ProjectTarget(long projectId, long[] boardIds, long[] taskIds, String[] memberEmails) {
+    }
+
+    /**
+     * Proyectos sobre los que se lanza la carga: el que crea el driver o los del manifiesto de
+     * DataGenerator (líneas "password" y "project id boards miembros tareas", separadas por tabuladores).
+     */
+    private record Dataset(String password, List<ProjectTarget> projects, boolean generated) {
+
+        static Dataset load(Path path) throws Exception {
+            String password = null;
+            List<ProjectTarget> projects = new ArrayList<>();
+            for (String line : Files.readAllLines(path)) {
+                String[] fields = line.split("\t");
+                if (fields[0].equals("password")) {
+                    password = fields[1];
+                } else if (fields[0].equals("project")) {
+                    projects.add(new ProjectTarget(Long.parseLong(fields[1]), longs(fields[2]), longs(fields[4]),
+                            fields[3].split(",")));
+                }
+            }
+            if (password == null || projects.isEmpty()) {
+                throw new IllegalStateException("Manifiesto sin contraseña o sin proyectos: " + path);
+            }
+            System.out.printf("dataset=%s proyectos=%d tareas=%d%n", path, projects.size(),
+                    projects.stream().mapToLong(p -> p.taskIds().length).sum());
+            return new Dataset(password, projects, true);
+        }
+
+        /**
+         * Una pertenencia (proyecto, miembro) al azar: cada proyecto pesa tanto como miembros tiene.
+         */
+        Session pick(ThreadLocalRandom random) {
+            int total = projects.stream().mapToInt(p -> p.memberEmails().length).sum();
+            int index = random.nextInt(total);
+            for (ProjectTarget project : projects) {
+                if (index < project.memberEmails().length) {
+                    return new Session(project, project.memberEmails()[index], password, generated);
+                }
+                index -= project.memberEmails().length;
+            }
+            throw new IllegalStateException();
+        }
+
+        private static long[] longs(String csv) {
+            return csv.isEmpty() ? new long[0] : Arrays.stream(csv.split(",")).mapToLong(Long::parseLong).toArray();
+        }
+    }
+
+    /**
+     * Un cliente: un usuario con su token trabajando sobre uno de sus proyectos.
+     */
+    private static class Session {
+
+        private final ProjectTarget project;
+        private final String email;
+        private final String password;
+        private final boolean randomPositions;
+        private String token;
+
+        Session(ProjectTarget project, String email, String password, boolean randomPositions) {
+            this.project = project;
+            this.email = email;
+            this.password = password;
+            this.randomPositions = randomPositions;
+        }
+
+        /**
+         * Reutiliza el token de otro cliente con el mismo usuario: así los clientes no se
+         * ponen en cola detrás de cientos de BCrypt al arrancar.
+         */
+        void start(Api api) throws Exception {
+            token = TOKENS.get(email);
+            if (token == null) {
+                login(api);
+            }
+        }
+
+        int login(Api api) throws Exception {
+            HttpResponse<String> response = api.send("POST", "/api/auth/login", null, loginJson(email, password));
+            if (response.statusCode() == 200) {
+                token = first(TOKEN, response.body());
+                TOKENS.put(email, token);
+            }
+            return response.statusCode();
+        }
+
+        int execute(Api api, String operation, ThreadLocalRandom random) throws Exception {
+            long[] boards = project.boardIds();
+            long[] tasks = project.taskIds();
+            return switch (operation) {
+                case "login" -> login(api);
+                case "create" -> api.send("POST", "/api/tasks", token,
+                        "{\"title\":\"Carga " + random.nextInt(1_000_000) + "\",\"boardId\":"
+                                + boards[random.nextInt(boards.length)] + "}").statusCode();
+                case "move", "coalesced" -> {
+                    // En los proyectos generados se mueve a una posición cualquiera dentro del tamaño
+                    // medio de un board; en el proyecto del driver, siempre arriba
+                    int position = randomPositions
+                            ? random.nextInt(Math.max(1, tasks.length / boards.length))
+                            : 0;
+                    String suffix = operation.equals("coalesced") ? "/move/coalesced" : "/move";
+                    yield api.send("PUT", "/api/tasks/" + tasks[random.nextInt(tasks.length)] + suffix, token,
+                            "{\"targetBoardId\":" + boards[random.nextInt(boards.length)] + ",\"newPosition\":" + position + "}")
+                            .statusCode();
+                }
+                default -> api.send("GET", "/api/projects/" + project.projectId(), token, null).statusCode();
+            };
+        }
+    }
+
+    private static class Api {
+
+        private final HttpClient http;
+        private final String baseUrl;
+
+        Api(HttpClient http, String baseUrl) {
+            this.http = http;
+            this.baseUrl = baseUrl;
+        }
+
+        HttpResponse<String> send(String method, String path, String bearer, String json) throws Exception {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(60))
+                    .method(method, json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json));
+            if (json != null) {
+                request.header("Content-Type", "application/json");
+            }
+            if (bearer != null) {
+                request.header("Authorization", "Bearer " + bearer);
+            }
+            return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        }
+    }
+
+    private static class Stats {
+
+        private final Map<Integer, LongAdder> byStatus = new ConcurrentHashMap<>();
+
+        void count(int status) {
+            byStatus.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+    }
+
+    private static class LongList {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static class AutoCloseableExecutor implements AutoCloseable {
+
+        private final ExecutorService delegate;
+
+        AutoCloseableExecutor(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            delegate.shutdown();
+            delegate.awaitTermination(1, TimeUnit.HOURS);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mide el tiempo hasta la primera petición correcta: arranca el comando que va después de "--",
+ * lanza la petición cada 10 ms hasta recibir un 2xx y para el proceso. Se repite --runs veces.
+ *
+ * Con --email y --password la petición es un login (usuario, BCrypt, JWT y Hibernate en el camino);
+ * sin ellos, GET /actuator/health. Junto al tiempo total se muestra el "Started ... in" que
+ * registra Spring Boot, para separar el arranque del contexto de lo que tarda la primera petición.
+ *
+ *   java loadtest/StartupTimer.java --runs=5 --email=pm@x.com --password=... -- java -jar target/app.jar
+ */
+public class StartupTimer {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 0 || separator == args.length - 1) {
+            System.err.println("Uso: java StartupTimer.java [--runs=5] [--base-url=http://localhost:8080] [--email= --password=] "
+                    + "[--timeout=120] [--label=] [--log-dir=target] -- <comando que arranca la aplicación>");
+            System.exit(2);
+        }
+        Map<String, String> options = parse(Arrays.copyOfRange(args, 0, separator));
+        List<String> command = List.of(Arrays.copyOfRange(args, separator + 1, args.length));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        int timeout = Integer.parseInt(options.getOrDefault("timeout", "120"));
+        String label = options.getOrDefault("label", "");
+        Path logDir = Path.of(options.getOrDefault("log-dir", "target"));
+        Files.createDirectories(logDir);
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(200))
+                .build();
+        HttpRequest request = options.containsKey("email")
+                ? HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + options.get("email")
+                                + "\",\"password\":\"" + options.get("password") + "\"}"))
+                        .build()
+                : HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build();
+
+        double[] firstRequest = new double[runs];
+        double[] started = new double[runs];
+        for (int run = 0; run < runs; run++) {
+            Path log = logDir.resolve("startup-" + (label.isEmpty() ? "" : label + "-") + run + ".log");
+            long t0 = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+            try {
+                firstRequest[run] = waitForSuccess(http, request, process, t0, timeout);
+            } finally {
+                stop(process);
+            }
+            started[run] = springStarted(log);
+            System.out.printf("run=%d first_request_ms=%.0f spring_started_ms=%.0f%n", run, firstRequest[run], started[run]);
+        }
+
+        Arrays.sort(firstRequest);
+        Arrays.sort(started);
+        System.out.printf("label=%s runs=%d request=%s%n", label, runs, request.uri().getPath());
+        System.out.printf("first_request_ms min=%.0f median=%.0f max=%.0f%n",
+                firstRequest[0], median(firstRequest), firstRequest[runs - 1]);
+        System.out.printf("spring_started_ms min=%.0f median=%.0f max=%.0f%n",
+                started[0], median(started), started[runs - 1]);
+    }
+
+    private static double waitForSuccess(HttpClient http, HttpRequest request, Process process, long t0, int timeoutSeconds)
+            throws InterruptedException {
+        long deadline = t0 + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("La aplicación terminó con código " + process.exitValue() + " antes de responder");
+            }
+            try {
+                int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status >= 200 && status < 300) {
+                    return (System.nanoTime() - t0) / 1_000_000.0;
+                }
+            } catch (IOException e) {
+                // Todavía no escucha
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Sin respuesta correcta en " + timeoutSeconds + " s");
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(20, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static double springStarted(Path log) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) * 1000 : Double.NaN;
+    }
+
+    private static double median(double[] sorted) {
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# Compara hilos de plataforma con el perfil virtual-threads sobre las cargas getProjectById y moveTask.
+#
+# Requisitos: JDK 21+ (con 17 el perfil arranca pero sigue usando hilos de plataforma), PostgreSQL
+# accesible con la configuración habitual y un usuario que pueda crear proyectos.
+#
+#   EMAIL=pm@example.com PASSWORD=secret ./loadtest/compare.sh
+#
+# Variables opcionales: CLIENTS (200), DURATION (30), WARMUP (10), THINK_MS (0), POOL_SIZE (10),
+# PORT (8080), JAR (target/task-manager-*.jar).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+: "${EMAIL:?Falta EMAIL}"
+: "${PASSWORD:?Falta PASSWORD}"
+CLIENTS=${CLIENTS:-200}
+DURATION=${DURATION:-30}
+WARMUP=${WARMUP:-10}
+THINK_MS=${THINK_MS:-0}
+POOL_SIZE=${POOL_SIZE:-10}
+PORT=${PORT:-8080}
+
+if [ -z "${JAR:-}" ]; then
+  mvn -B -q package -DskipTests
+  JAR=$(ls target/*.jar | grep -v original | head -n 1)
+fi
+
+run_mode() {
+  local mode=$1
+  local profile_args=()
+  if [ "$mode" = "virtual" ]; then
+    profile_args=(--spring.profiles.active=virtual-threads)
+  fi
+
+  java -jar "$JAR" "${profile_args[@]}" \
+    --server.port="$PORT" \
+    --spring.jpa.show-sql=false \
+    --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+    > "target/loadtest-$mode.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  for _ in $(seq 1 60); do
+    if curl -s -o /dev/null "http://localhost:$PORT/api/auth/login"; then
+      break
+    fi
+    sleep 1
+  done
+
+  for workload in get move; do
+    java -Dfile.encoding=UTF-8 loadtest/LoadDriver.java \
+      --base-url="http://localhost:$PORT" --email="$EMAIL" --password="$PASSWORD" \
+      --workload="$workload" --clients="$CLIENTS" --duration="$DURATION" --warmup="$WARMUP" \
+      --think-ms="$THINK_MS" --label="$mode"
+    echo
+  done
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform
+run_mode virtual
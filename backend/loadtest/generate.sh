@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+# Genera el juego de datos de carga con loadtest/DataGenerator.java y el driver de PostgreSQL del proyecto.
+#
+# La aplicación tiene que haber arrancado al menos una vez contra la base de datos para crear el esquema.
+#
+#   ./loadtest/generate.sh --users=2000 --projects=300 --tasks=200000 --skew=1.1
+#
+# Los argumentos se pasan tal cual al generador (ver su cabecera). El manifiesto queda en
+# target/loadtest-dataset.tsv salvo que se indique --out.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+mvn -B -q dependency:build-classpath -Dmdep.includeArtifactIds=postgresql -Dmdep.outputFile=target/loadtest-classpath.txt
+java -Dfile.encoding=UTF-8 -cp "$(cat target/loadtest-classpath.txt)" loadtest/DataGenerator.java "$@"
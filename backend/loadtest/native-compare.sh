@@ -0,0 +1,105 @@
+#!/usr/bin/env bash
+# Compara el jar (JVM) con el ejecutable nativo (mvn -Pnative native:compile) bajo la misma carga:
+# tiempo hasta el primer login, memoria residente en reposo y máxima durante la carga (VmRSS y
+# VmHWM de /proc/<pid>/status) y percentiles de latencia de LoadDriver.
+#
+# Los dos modos arrancan con el perfil prod de Spring, así que la base de datos tiene que tener
+# las migraciones aplicadas (mvn -Pprod flyway:migrate). Sin DATASET la carga es mixed sobre un
+# proyecto que crea LoadDriver con EMAIL/PASSWORD; con DATASET (manifiesto de generate.sh) es
+# realistic.
+#
+#   EMAIL=pm@example.com PASSWORD=secret ./loadtest/native-compare.sh
+#   DATASET=target/loadtest-dataset.tsv EMAIL=... PASSWORD=... ./loadtest/native-compare.sh
+#
+# Variables opcionales: CLIENTS (50), DURATION (30), WARMUP (10), PORT (8080), DB_URL, DB_USER,
+# DB_PASSWORD, JVM_OPTS (-Xmx256m, el mismo heap máximo que el ejecutable nativo), MODES
+# ("jvm native"), JAR y NATIVE_BIN para no compilar.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+: "${EMAIL:?Falta EMAIL}"
+: "${PASSWORD:?Falta PASSWORD}"
+CLIENTS=${CLIENTS:-50}
+DURATION=${DURATION:-30}
+WARMUP=${WARMUP:-10}
+PORT=${PORT:-8080}
+DB_URL=${DB_URL:-jdbc:postgresql://localhost:5432/taskmanager}
+DB_USER=${DB_USER:-postgres}
+DB_PASSWORD=${DB_PASSWORD:-postgres}
+JVM_OPTS=${JVM_OPTS:--Xmx256m}
+MODES=${MODES:-jvm native}
+OUT=target/native-compare
+
+# El build nativo mejora las entidades en target/classes, así que cada build parte de clean y los
+# artefactos se guardan fuera de target hasta el final
+STASH=$(mktemp -d)
+trap 'rm -rf "$STASH"' EXIT
+if [[ " $MODES " == *" native "* && -z "${NATIVE_BIN:-}" ]]; then
+  mvn -B -q -Pnative clean native:compile -DskipTests
+  cp target/task-manager "$STASH/task-manager"
+  NATIVE_BIN="$STASH/task-manager"
+fi
+if [[ " $MODES " == *" jvm "* && -z "${JAR:-}" ]]; then
+  mvn -B -q -Pprod clean package -DskipTests
+  cp "$(ls target/*.jar | grep -v original | head -n 1)" "$STASH/app.jar"
+  JAR="$STASH/app.jar"
+fi
+mkdir -p "$OUT"
+
+APP_ARGS=(--spring.profiles.active=prod --server.port="$PORT" --spring.datasource.url="$DB_URL"
+  --spring.datasource.username="$DB_USER" --spring.datasource.password="$DB_PASSWORD")
+if [ -n "${DATASET:-}" ]; then
+  LOAD_ARGS=(--workload=realistic --dataset="$DATASET")
+else
+  LOAD_ARGS=(--workload=mixed --email="$EMAIL" --password="$PASSWORD")
+fi
+
+status_kb() {
+  awk -v key="$2:" '$1 == key { print $2 }' "/proc/$1/status"
+}
+
+run_mode() {
+  local mode=$1
+  shift
+  local t0 pid
+  t0=$(date +%s%N)
+  "$@" "${APP_ARGS[@]}" > "$OUT/$mode.log" 2>&1 &
+  pid=$!
+
+  until curl -s -o /dev/null -w '%{http_code}' -H 'Content-Type: application/json' \
+      -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" "http://localhost:$PORT/api/auth/login" | grep -q '^200$'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "El modo $mode terminó antes de responder (ver $OUT/$mode.log)" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  local first_request_ms=$(( ($(date +%s%N) - t0) / 1000000 ))
+  sleep 2
+  local idle_rss_kb
+  idle_rss_kb=$(status_kb "$pid" VmRSS)
+
+  java -Dfile.encoding=UTF-8 loadtest/LoadDriver.java --base-url="http://localhost:$PORT" "${LOAD_ARGS[@]}" \
+    --clients="$CLIENTS" --duration="$DURATION" --warmup="$WARMUP" --label="$mode" | tee "$OUT/$mode-load.txt"
+
+  local peak_rss_kb
+  peak_rss_kb=$(status_kb "$pid" VmHWM)
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+
+  local p99
+  p99=$(sed -n 's/^latency_ms .*p99=\([0-9.]*\).*/\1/p' "$OUT/$mode-load.txt")
+  printf '%-7s first_request_ms=%-6s idle_rss_mb=%-6s peak_rss_mb=%-6s p99_ms=%s\n' "$mode" "$first_request_ms" \
+    "$((idle_rss_kb / 1024))" "$((peak_rss_kb / 1024))" "$p99" >> "$OUT/summary.txt"
+  echo
+}
+
+: > "$OUT/summary.txt"
+for mode in $MODES; do
+  case $mode in
+    jvm) run_mode jvm java $JVM_OPTS -jar "$JAR" ;;
+    native) run_mode native "$NATIVE_BIN" ;;
+  esac
+done
+cat "$OUT/summary.txt"
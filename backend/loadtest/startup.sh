@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Tiempo hasta la primera petición correcta (login) en tres modos:
+#   default   java -jar con el perfil por defecto (ddl-auto: update, todos los beans al arrancar)
+#   prod      perfil prod: migraciones ya aplicadas, inicialización perezosa, sin introspección JDBC
+#   prod-cds  perfil prod con Spring AOT y el archivo CDS de una ejecución de entrenamiento,
+#             como en el Dockerfile
+#
+# Requisitos: una base de datos con las migraciones aplicadas (mvn -Pprod flyway:migrate) y un
+# usuario para el login.
+#
+#   EMAIL=pm@example.com PASSWORD=secret ./loadtest/startup.sh
+#
+# Variables opcionales: RUNS (5), PORT (8080), DB_URL, DB_USER, DB_PASSWORD.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+: "${EMAIL:?Falta EMAIL}"
+: "${PASSWORD:?Falta PASSWORD}"
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+DB_URL=${DB_URL:-jdbc:postgresql://localhost:5432/taskmanager}
+DB_USER=${DB_USER:-postgres}
+DB_PASSWORD=${DB_PASSWORD:-postgres}
+
+mvn -B -q -Pprod package -DskipTests
+JAR=$(ls target/*.jar | head -n 1)
+
+# CDS no admite el jar anidado de Spring Boot ni directorios en el classpath: las clases de la
+# aplicación van a su propio jar y las dependencias sueltas, en el orden de classpath.idx y con el
+# mismo classpath en el entrenamiento y al arrancar
+rm -rf target/startup && mkdir -p target/startup/app
+(cd target/startup/app && jar -xf "../../../$JAR" && jar -cf application.jar -C BOOT-INF/classes .)
+CP="application.jar:$(sed -e 's/^- "//' -e 's/"$//' target/startup/app/BOOT-INF/classpath.idx | paste -sd:)"
+
+APP_ARGS=(--server.port="$PORT" --spring.datasource.url="$DB_URL"
+  --spring.datasource.username="$DB_USER" --spring.datasource.password="$DB_PASSWORD")
+
+(cd target/startup/app && java -XX:ArchiveClassesAtExit=app.jsa -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+  -cp "$CP" com.taskmanager.TaskManagerApplication --spring.profiles.active=prod "${APP_ARGS[@]}" > ../training.log 2>&1)
+
+timer() {
+  local label=$1
+  shift
+  java -Dfile.encoding=UTF-8 loadtest/StartupTimer.java --runs="$RUNS" --label="$label" --log-dir=target/startup \
+    --base-url="http://localhost:$PORT" --email="$EMAIL" --password="$PASSWORD" -- "$@"
+  echo
+}
+
+timer default java -jar "$JAR" --spring.jpa.show-sql=false "${APP_ARGS[@]}"
+timer prod java -jar "$JAR" --spring.profiles.active=prod "${APP_ARGS[@]}"
+timer prod-cds java -XX:SharedArchiveFile=target/startup/app/app.jsa -Dspring.aot.enabled=true \
+  -cp "$(echo "$CP" | sed 's#\(^\|:\)#\1target/startup/app/#g')" com.taskmanager.TaskManagerApplication \
+  --spring.profiles.active=prod "${APP_ARGS[@]}"
@@ -0,0 +1,83 @@
+package com.taskmanager.security;
+
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Permission;
+import com.taskmanager.enums.Role;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lo que cuesta en CPU autenticar cada petición: firmar y verificar el JWT, el filtro
+ * completo (con el usuario ya resuelto, sin base de datos) y la comprobación de permisos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityBenchmark {
+
+    // El mismo secreto que application.yml
+    private static final String SECRET = "VHVDbGF2ZVNlY3JldGFTdXBlclNlZ3VyYURlQWxNZW5vczI1NkJpdHNQYXJhSFMyNTZBbGdvcml0aG0=";
+
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", 900_000L);
+
+        user = User.builder().id(1L).email("sara@test.com").password("x").fullName("Sara").role(Role.MEMBER).build();
+        token = jwtService.generateToken(user);
+        filter = new JwtAuthenticationFilter(jwtService, username -> user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean verifyToken() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterWithToken() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterWithoutToken() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Benchmark
+    public boolean hasPermission() {
+        return RolePermissions.hasPermission(Role.MEMBER, Permission.TASK_MOVE);
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskmanager.service;
+
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Label;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Role;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Proyectos en memoria con la forma de uno real: 3 boards, 8 miembros, 10 etiquetas y
+ * tareas con descripción, responsable en la mayoría, 0-3 etiquetas y fecha límite en la
+ * mitad. La semilla es fija para que todas las ejecuciones midan el mismo grafo.
+ */
+final class BenchmarkProjects {
+
+    private static final String[] BOARD_NAMES = {"Por Hacer", "En Progreso", "Hecho"};
+    private static final String[] COLORS = {"#e74c3c", "#3498db", "#2ecc71", "#f1c40f", "#9b59b6"};
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    private BenchmarkProjects() {
+    }
+
+    static Project project(int taskCount) {
+        Random random = new Random(42);
+
+        List<User> members = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            members.add(User.builder()
+                    .id((long) i + 1)
+                    .email("miembro" + i + "@empresa.com")
+                    .fullName("Miembro Número " + i)
+                    .role(i == 0 ? Role.PROJECT_MANAGER : Role.MEMBER)
+                    .build());
+        }
+
+        List<Label> labels = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            labels.add(Label.builder().id((long) i + 1).name("etiqueta-" + i).color(COLORS[i % COLORS.length]).build());
+        }
+
+        Project project = Project.builder()
+                .id(1L)
+                .name("Proyecto de referencia")
+                .description("Proyecto generado para los benchmarks")
+                .owner(members.get(0))
+                .members(new HashSet<>(members))
+                .boards(new ArrayList<>())
+                .createdAt(CREATED_AT)
+                .build();
+
+        for (int b = 0; b < BOARD_NAMES.length; b++) {
+            project.getBoards().add(Board.builder()
+                    .id((long) b + 1)
+                    .name(BOARD_NAMES[b])
+                    .position(b)
+                    .project(project)
+                    .tasks(new ArrayList<>())
+                    .build());
+        }
+
+        for (int i = 0; i < taskCount; i++) {
+            Board board = project.getBoards().get(i % BOARD_NAMES.length);
+            Set<Label> taskLabels = new HashSet<>();
+            for (int l = random.nextInt(4); l > 0; l--) {
+                taskLabels.add(labels.get(random.nextInt(labels.size())));
+            }
+            board.getTasks().add(Task.builder()
+                    .id((long) i + 1)
+                    .title("Tarea " + i + " del proyecto de referencia")
+                    .description("Descripción de la tarea " + i + ", con algo de texto para que el JSON tenga un tamaño realista.")
+                    .priority(Priority.values()[random.nextInt(Priority.values().length)])
+                    .position(board.getTasks().size())
+                    .board(board)
+                    .assignee(random.nextInt(5) == 0 ? null : members.get(random.nextInt(members.size())))
+                    .labels(taskLabels)
+                    .dueDate(random.nextBoolean() ? LocalDate.of(2024, 6, 1).plusDays(random.nextInt(180)) : null)
+                    .createdAt(CREATED_AT.plusMinutes(i))
+                    .build());
+        }
+        return project;
+    }
+}
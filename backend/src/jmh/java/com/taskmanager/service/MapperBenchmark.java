@@ -0,0 +1,64 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.NormalizedProjectResponse;
+import com.taskmanager.dto.ProjectDetailResponse;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de pasar entidades ya cargadas a DTOs, sin base de datos: una tarea suelta con
+ * TaskService y el detalle completo de un proyecto con ProjectService, anidado y normalizado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private TaskService taskService;
+    private ProjectService projectService;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        // Los mappers no usan los repositorios
+        taskService = new TaskService(null, null, null, null, null, null);
+        projectService = new ProjectService(null, null, null, null, null, null, null, null, null);
+        task = BenchmarkProjects.project(1).getBoards().get(0).getTasks().get(0);
+    }
+
+    @Benchmark
+    public TaskResponse taskToResponse() {
+        return taskService.mapToResponse(task);
+    }
+
+    @Benchmark
+    public ProjectDetailResponse projectToDetailResponse(ProjectGraph graph) {
+        return projectService.mapToDetailResponse(graph.project);
+    }
+
+    @Benchmark
+    public NormalizedProjectResponse projectToNormalizedResponse(ProjectGraph graph) {
+        return projectService.mapToNormalizedResponse(graph.project);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ProjectGraph {
+
+        @Param({"100", "1000", "10000"})
+        private int taskCount;
+
+        private Project project;
+
+        @Setup
+        public void setUp() {
+            project = BenchmarkProjects.project(taskCount);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.entity.Project;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización del detalle de proyecto tal como la hace el controlador, en las dos formas:
+ * nested (la de siempre) y normalized (?shape=normalized). El ObjectMapper se construye con
+ * los mismos valores por defecto que usa Spring Boot. El tamaño del JSON de cada combinación
+ * sale en los resultados como el contador bytes (ver Payload).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectDetailSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int taskCount;
+
+    @Param({"nested", "normalized"})
+    private String shape;
+
+    private ObjectMapper objectMapper;
+    private Object response;
+
+    /**
+     * Bytes del último JSON serializado. Se asigna, no se acumula, así que JMH lo informa
+     * tal cual junto al tiempo de cada combinación.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ProjectService projectService = new ProjectService(null, null, null, null, null, null, null, null, null);
+        Project project = BenchmarkProjects.project(taskCount);
+        response = shape.equals("normalized")
+                ? projectService.mapToNormalizedResponse(project)
+                : projectService.mapToDetailResponse(project);
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        payload.bytes = json.length;
+        return json;
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanager.config;
+
+import com.taskmanager.enums.AuditDurability;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Feed de actividad y auditoría (app.activity).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.activity")
+public class ActivityProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Entradas pendientes en memoria; potencia de dos.
+     */
+    private int bufferSize = 8192;
+
+    private int batchSize = 500;
+
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * Espera máxima por hueco con el buffer lleno; después la entrada se descarta y se
+     * cuenta en buffer.entries.dropped.
+     */
+    private Duration offerTimeout = Duration.ofMillis(200);
+
+    private AuditDurability auditDurability = AuditDurability.SYNC;
+}
@@ -0,0 +1,34 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Registro de transiciones entre boards y sus agregados diarios (app.analytics).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsProperties {
+
+    private boolean enabled = true;
+
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Transiciones escritas por transacción.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Transiciones pendientes en memoria. Si se llena, se pide un vaciado al planificador.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Espera máxima por hueco con la cola llena; después la transición se descarta y se
+     * cuenta en buffer.entries.dropped.
+     */
+    private Duration offerTimeout = Duration.ofMillis(200);
+}
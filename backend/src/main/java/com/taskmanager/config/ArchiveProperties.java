@@ -0,0 +1,33 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Archivado de tareas terminadas (app.archive).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Nombres de los boards cuyas tareas se consideran terminadas.
+     */
+    private List<String> doneBoards = new ArrayList<>(List.of("Hecho"));
+
+    /**
+     * Tiempo sin modificaciones a partir del cual una tarea terminada se archiva.
+     */
+    private Duration minAge = Duration.ofDays(30);
+
+    /**
+     * Tareas movidas por transacción.
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Envuelve cada pool Hikari en un ConcurrencyLimitedDataSource con tantos permisos como
+ * conexiones (app.datasource.concurrency-limit). Se aplica después del binding de
+ * propiedades, así que ve el tamaño final de cada pool.
+ */
+@Slf4j
+public class DataSourceConcurrencyLimitPostProcessor implements BeanPostProcessor, EnvironmentAware, Ordered {
+
+    private static final String PREFIX = "app.datasource.concurrency-limit";
+
+    // Hikari deja maximumPoolSize en -1 hasta arrancar el pool y entonces aplica este valor
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource pool)) {
+            return bean;
+        }
+
+        Binder binder = Binder.get(environment);
+        int poolSize = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+        int permits = binder.bind(PREFIX + ".permits", Integer.class).orElse(poolSize);
+        Duration timeout = binder.bind(PREFIX + ".acquire-timeout", Duration.class)
+                .orElse(Duration.ofMillis(pool.getConnectionTimeout()));
+
+        log.info("Pool {} limitado a {} conexiones concurrentes (espera máxima {} ms)",
+                pool.getPoolName() != null ? pool.getPoolName() : beanName, permits, timeout.toMillis());
+        return new ConcurrencyLimitedDataSource(pool, permits, timeout);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * Avisos de fecha límite (app.due-dates).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.due-dates")
+public class DueDateProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Días por delante que se mantienen en memoria. Debe cubrir reminder-lead más el
+     * intervalo de refresco, o algunos recordatorios se cargarían tarde.
+     */
+    private Duration window = Duration.ofDays(2);
+
+    /**
+     * Antelación del recordatorio respecto al final del día de la fecha límite.
+     */
+    private Duration reminderLead = Duration.ofHours(24);
+
+    private Duration tick = Duration.ofSeconds(1);
+
+    private int wheelSize = 64;
+
+    /**
+     * Tareas leídas por consulta al cargar una ventana.
+     */
+    private int loadBatchSize = 1000;
+
+    /**
+     * Zona horaria en la que una fecha límite termina a medianoche.
+     */
+    private ZoneId zone = ZoneId.systemDefault();
+}
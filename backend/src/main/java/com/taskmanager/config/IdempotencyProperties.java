@@ -0,0 +1,26 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Respuestas guardadas para la cabecera Idempotency-Key (app.idempotency).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Claves en memoria; al superarse se descarta la usada hace más tiempo.
+     */
+    private int maxEntries = 10000;
+
+    /**
+     * Tiempo durante el que un reintento con la misma clave recibe la respuesta original.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    private Duration sweepInterval = Duration.ofMinutes(5);
+}
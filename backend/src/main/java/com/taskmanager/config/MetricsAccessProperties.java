@@ -0,0 +1,21 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Quién puede leer /actuator/prometheus (app.metrics). El endpoint no lleva JWT, así que
+ * solo responde a las direcciones de esta lista; al resto se le deniega el acceso.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.metrics")
+public class MetricsAccessProperties {
+
+    /**
+     * Direcciones IP o rangos CIDR (p. ej. 10.0.0.0/8) desde los que se hace el scrape.
+     */
+    private List<String> allowedAddresses = new ArrayList<>(List.of("127.0.0.1/32", "::1/128"));
+}
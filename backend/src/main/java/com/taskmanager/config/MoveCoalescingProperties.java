@@ -0,0 +1,27 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Movimientos agrupados de PUT /api/tasks/{id}/move/coalesced (app.move-coalescing).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.move-coalescing")
+public class MoveCoalescingProperties {
+
+    /**
+     * Con false cada movimiento se aplica en el momento, sin esperar a otros.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Tiempo que el primer movimiento de un proyecto espera a que lleguen otros antes de
+     * aplicarlos todos juntos.
+     */
+    private Duration window = Duration.ofMillis(150);
+
+    private int maxBatchSize = 100;
+}
@@ -0,0 +1,91 @@
+package com.taskmanager.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Metadatos para la imagen nativa (mvn -Pnative native:compile) de lo que se usa por reflexión
+ * y Spring AOT no ve al procesar el contexto:
+ * - DTOs y enums: Jackson los (de)serializa por reflexión y no todos aparecen en la firma de un
+ *   controlador (los anidados en otras respuestas, los builders de Lombok que van con ellos).
+ * - Entidades: Hibernate lee y escribe sus campos y crea instancias con el constructor vacío.
+ * - jjwt: la API carga la implementación por nombre (Jwts, Keys) y el serializador Jackson con
+ *   ServiceLoader.
+ * - El proxy JDK de Connection que crea ConcurrencyLimitedDataSource.
+ * - ehcache.xml y las migraciones, que se leen como recursos del classpath.
+ *
+ * Los builders de Lombok son código generado en compilación y no necesitan nada más.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    static final String DTO_PACKAGE = "com.taskmanager.dto";
+    static final String ENUM_PACKAGE = "com.taskmanager.enums";
+    static final String ENTITY_PACKAGE = "com.taskmanager.entity";
+
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionAlgorithm",
+            "io.jsonwebtoken.impl.compression.GzipCompressionAlgorithm",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : classesIn(DTO_PACKAGE, classLoader)) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+        }
+        for (Class<?> type : classesIn(ENUM_PACKAGE, classLoader)) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+        }
+        for (Class<?> type : classesIn(ENTITY_PACKAGE, classLoader)) {
+            hints.reflection().registerType(type,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        hints.proxies().registerJdkProxy(Connection.class);
+
+        hints.resources().registerPattern("ehcache.xml");
+        hints.resources().registerPattern("db/migration/*.sql");
+    }
+
+    private static List<Class<?>> classesIn(String basePackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) -> true);
+        List<Class<?>> classes = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            classes.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return classes;
+    }
+}
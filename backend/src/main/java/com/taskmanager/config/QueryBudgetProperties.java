@@ -0,0 +1,26 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Presupuesto de acceso a base de datos por petición HTTP (app.query-budget). Las
+ * peticiones que lo superan se registran en WARN y en la métrica
+ * http.server.requests.query.budget.exceeded.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Sentencias SQL por petición, incluida la carga del usuario autenticado.
+     */
+    private int maxStatements = 20;
+
+    /**
+     * Entidades cargadas por petición (desde base de datos o desde la cache de segundo nivel).
+     */
+    private int maxEntityLoads = 2000;
+}
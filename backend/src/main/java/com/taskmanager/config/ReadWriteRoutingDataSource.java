@@ -0,0 +1,58 @@
+package com.taskmanager.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Envía las transacciones @Transactional(readOnly = true) a la réplica y todo lo demás al primario.
+ *
+ * Tiene que ir detrás de un LazyConnectionDataSourceProxy: el JpaTransactionManager pide la
+ * conexión antes de marcar la transacción como read-only, y el proxy retrasa la elección
+ * hasta la primera sentencia.
+ *
+ * Las escrituras se anotan en el ReplicaLagGuard al confirmarse la transacción, no al elegir
+ * la conexión: si la transacción se deshace no hay nada que la réplica tenga que alcanzar.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagGuard lagGuard;
+
+    public ReadWriteRoutingDataSource(ReplicaLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+
+        String userKey = currentUserKey();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return lagGuard.mustReadFromPrimary(userKey) ? Route.PRIMARY : Route.REPLICA;
+        }
+
+        if (userKey != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    lagGuard.recordWrite(userKey);
+                }
+            });
+        }
+        return Route.PRIMARY;
+    }
+
+    private String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
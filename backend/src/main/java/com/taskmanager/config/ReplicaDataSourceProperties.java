@@ -0,0 +1,30 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la réplica de lectura. Solo se usa con app.datasource.replica.enabled=true.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    /**
+     * Ventana durante la cual un usuario que acaba de escribir sigue leyendo del primario.
+     * Debe cubrir el retraso de replicación esperado.
+     */
+    private Duration lagGuard = Duration.ofSeconds(2);
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Recuerda qué usuarios escribieron recientemente para que sus lecturas vayan al primario
+ * mientras la réplica pueda no tener sus cambios (read-your-writes).
+ *
+ * Solo se registra por usuario y cuando la escritura ya está confirmada (ver
+ * ReadWriteRoutingDataSource): los hilos del servidor se reutilizan entre usuarios, así que
+ * marcar el hilo mandaría al primario a quien llegue después por ese mismo hilo.
+ */
+public class ReplicaLagGuard {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final ConcurrentMap<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    public ReplicaLagGuard(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String userKey) {
+        long now = System.nanoTime();
+        lastWriteByUser.put(userKey, now);
+        if (lastWriteByUser.size() > PURGE_THRESHOLD) {
+            lastWriteByUser.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+    public boolean mustReadFromPrimary(String userKey) {
+        if (userKey == null) {
+            return false;
+        }
+        Long userWrite = lastWriteByUser.get(userKey);
+        return userWrite != null && System.nanoTime() - userWrite <= windowNanos;
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskmanager.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Planificadores de las tareas @Scheduled.
+ *
+ * Los flush de ActivityLogWriter y TaskTransitionWriter van en su propio planificador
+ * (BUFFER_FLUSH_SCHEDULER): en el compartido, un archivado o una purga larga los retrasaría,
+ * los buffers se llenarían y las peticiones acabarían escribiendo los lotes ellas mismas.
+ *
+ * MOVE_BATCH_SCHEDULER aplica los lotes de TaskMoveCoalescer al cerrarse su ventana, fuera de
+ * los hilos del servidor.
+ *
+ * Al declarar un TaskScheduler Spring Boot deja de crear el suyo, así que taskScheduler (el
+ * de las demás tareas) se crea aquí igual que lo haría él, con spring.task.scheduling.*.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({ArchiveProperties.class, DueDateProperties.class, AnalyticsProperties.class,
+        ActivityProperties.class, IdempotencyProperties.class, MoveCoalescingProperties.class})
+public class SchedulingConfig {
+
+    public static final String BUFFER_FLUSH_SCHEDULER = "bufferFlushScheduler";
+    public static final String MOVE_BATCH_SCHEDULER = "moveBatchScheduler";
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskScheduler taskSchedulerVirtualThreads(SimpleAsyncTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Un hilo por writer, para que un flush lento de uno no retrase al otro.
+     */
+    @Bean(name = BUFFER_FLUSH_SCHEDULER)
+    public ThreadPoolTaskScheduler bufferFlushScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("buffer-flush-");
+        return scheduler;
+    }
+
+    /**
+     * Varios hilos para que el lote de un proyecto con muchos boards no retrase los de los demás.
+     */
+    @Bean(name = MOVE_BATCH_SCHEDULER)
+    public ThreadPoolTaskScheduler moveBatchScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("move-batch-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Con app.schema.verify (perfil prod) Hibernate no toca el esquema: las migraciones de
+ * db/migration se aplican antes de desplegar (mvn -Pprod flyway:migrate). Al arrancar se
+ * comprueba que la base de datos tiene aplicada la última migración que trae el jar; si no,
+ * el arranque falla antes de que la instancia se marque como lista.
+ *
+ * Se ejecuta como ApplicationRunner, después del refresco del contexto, así que la ejecución
+ * de entrenamiento del archivo CDS (spring.context.exit=onRefresh) no necesita base de datos.
+ */
+@Slf4j
+public class SchemaVersionVerifier implements ApplicationRunner {
+
+    static final String MIGRATIONS = "classpath*:db/migration/V*__*.sql";
+
+    private static final Pattern VERSION = Pattern.compile("^V([0-9._]+)__.*\\.sql$");
+
+    /**
+     * Orden de versiones de Flyway: por partes numéricas, así 1.10 va después de 1.9.
+     */
+    static final Comparator<String> VERSION_ORDER = (a, b) -> {
+        String[] left = a.split("\\.");
+        String[] right = b.split("\\.");
+        for (int i = 0; i < Math.max(left.length, right.length); i++) {
+            long l = i < left.length ? Long.parseLong(left[i]) : 0;
+            long r = i < right.length ? Long.parseLong(right[i]) : 0;
+            if (l != r) {
+                return Long.compare(l, r);
+            }
+        }
+        return 0;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourcePatternResolver resourceResolver;
+
+    public SchemaVersionVerifier(JdbcTemplate jdbcTemplate, ResourcePatternResolver resourceResolver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.resourceResolver = resourceResolver;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        String expected = latestMigration();
+        if (expected == null) {
+            throw new IllegalStateException("No hay migraciones en " + MIGRATIONS);
+        }
+
+        String applied;
+        try {
+            List<String> versions = jdbcTemplate.queryForList(
+                    "SELECT version FROM flyway_schema_history WHERE success AND version IS NOT NULL",
+                    String.class);
+            applied = versions.stream().max(VERSION_ORDER).orElse(null);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("No se pudo leer flyway_schema_history; aplica las migraciones "
+                    + "con mvn -Pprod flyway:migrate antes de arrancar", e);
+        }
+
+        if (applied == null || VERSION_ORDER.compare(applied, expected) < 0) {
+            throw new IllegalStateException("El esquema está en la versión " + applied + " y esta versión de la "
+                    + "aplicación necesita la " + expected + "; aplica las migraciones antes de desplegar");
+        }
+        log.info("Esquema en la versión {} (la aplicación necesita la {})", applied, expected);
+    }
+
+    String latestMigration() throws IOException {
+        return Arrays.stream(resourceResolver.getResources(MIGRATIONS))
+                .map(Resource::getFilename)
+                .filter(Objects::nonNull)
+                .map(VERSION::matcher)
+                .filter(Matcher::matches)
+                .map(m -> m.group(1).replace('_', '.'))
+                .max(VERSION_ORDER)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskmanager.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Arranque del perfil prod. Con spring.main.lazy-initialization los beans se crean al usarse
+ * por primera vez, salvo los que necesita cualquier primera petición: el DataSource y el
+ * EntityManagerFactory (arrancar Hibernate en la primera petición la haría tardar segundos).
+ * Los beans con @Scheduled ya los deja fuera Spring Boot.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerPersistenceBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.schema", name = "verify", havingValue = "true")
+    public SchemaVersionVerifier schemaVersionVerifier(JdbcTemplate jdbcTemplate, ResourcePatternResolver resourceResolver) {
+        return new SchemaVersionVerifier(jdbcTemplate, resourceResolver);
+    }
+}
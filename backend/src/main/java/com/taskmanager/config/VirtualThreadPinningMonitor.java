@@ -0,0 +1,99 @@
+package com.taskmanager.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Avisa cuando un hilo virtual se bloquea sin poder soltar su hilo portador (pinning), lo
+ * que ocurre al esperar dentro de un bloque synchronized o de código nativo. Escucha el
+ * evento JFR jdk.VirtualThreadPinned y atribuye cada caso al primer frame de
+ * com.taskmanager de la pila, o al primero de la pila si no hay ninguno nuestro.
+ *
+ * Cada ubicación se registra como WARN la primera vez y después solo se cuenta; al parar
+ * se escribe el resumen. En Java anterior a 21 el evento no existe y no se registra nada.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String OWN_PACKAGE = "com.taskmanager.";
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedByLocation = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        if (Runtime.version().feature() < 21) {
+            log.warn("Java {} no tiene hilos virtuales: spring.threads.virtual.enabled no tiene efecto",
+                    Runtime.version().feature());
+            return;
+        }
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Monitor de pinning de hilos virtuales activo (umbral {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        if (stream == null) {
+            return;
+        }
+        stream.close();
+        stream = null;
+        pinnedByLocation.forEach((location, count) ->
+                log.info("Pinning de hilos virtuales en {}: {} veces", location, count.sum()));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public Map<String, Long> getPinnedCounts() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        pinnedByLocation.forEach((location, count) -> counts.put(location, count.sum()));
+        return counts;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String location = locate(event.getStackTrace());
+        LongAdder count = pinnedByLocation.computeIfAbsent(location, key -> new LongAdder());
+        count.increment();
+
+        if (count.sum() == 1) {
+            log.warn("Hilo virtual fijado a su portador durante {} ms en {}", event.getDuration().toMillis(), location);
+        } else {
+            log.debug("Hilo virtual fijado a su portador durante {} ms en {}", event.getDuration().toMillis(), location);
+        }
+    }
+
+    private static String locate(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "desconocido";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame frame = frames.stream()
+                .filter(f -> f.getMethod().getType().getName().startsWith(OWN_PACKAGE))
+                .findFirst()
+                .orElse(frames.get(0));
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
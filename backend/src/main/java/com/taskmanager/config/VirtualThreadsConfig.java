@@ -0,0 +1,30 @@
+package com.taskmanager.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Piezas del modo de hilos virtuales (perfil virtual-threads). Los hilos virtuales en sí
+ * los activa Spring Boot con spring.threads.virtual.enabled para Tomcat, @Async y
+ * @Scheduled; aquí solo se añade el límite de conexiones y el diagnóstico de pinning.
+ */
+@Configuration
+public class VirtualThreadsConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.concurrency-limit", name = "enabled", havingValue = "true")
+    public static DataSourceConcurrencyLimitPostProcessor dataSourceConcurrencyLimitPostProcessor() {
+        return new DataSourceConcurrencyLimitPostProcessor();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.virtual-threads.pinning-monitor", name = "enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(Environment environment) {
+        return new VirtualThreadPinningMonitor(environment.getProperty(
+                "app.virtual-threads.pinning-monitor.threshold", Duration.class, Duration.ofMillis(20)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.dto.ColumnTimeStats;
+import com.taskmanager.dto.CumulativeFlowResponse;
+import com.taskmanager.dto.WeeklyThroughput;
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.FlowAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final FlowAnalyticsService flowAnalyticsService;
+    private final UserRepository userRepository;
+
+    @GetMapping("/cumulative-flow")
+    public ResponseEntity<CumulativeFlowResponse> getCumulativeFlow(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(flowAnalyticsService.getCumulativeFlow(projectId, from, to, currentUser));
+    }
+
+    @GetMapping("/time-in-column")
+    public ResponseEntity<List<ColumnTimeStats>> getTimeInColumn(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(flowAnalyticsService.getTimeInColumn(projectId, from, to, currentUser));
+    }
+
+    @GetMapping("/throughput")
+    public ResponseEntity<List<WeeklyThroughput>> getThroughput(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(flowAnalyticsService.getThroughput(projectId, from, to, currentUser));
+    }
+
+    private User getUserFromDetails(UserDetails userDetails) {
+        return userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.dto.ArchivedTaskResponse;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.TaskArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/archive")
+@RequiredArgsConstructor
+public class ArchiveController {
+
+    private final TaskArchiveService taskArchiveService;
+    private final UserRepository userRepository;
+
+    @GetMapping
+    public ResponseEntity<List<ArchivedTaskResponse>> searchArchive(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(taskArchiveService.searchArchive(projectId, q, page, size, currentUser));
+    }
+
+    @PostMapping("/{archivedTaskId}/restore")
+    public ResponseEntity<TaskResponse> restoreTask(
+            @PathVariable Long projectId,
+            @PathVariable Long archivedTaskId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(taskArchiveService.restoreTask(projectId, archivedTaskId, currentUser));
+    }
+
+    private User getUserFromDetails(UserDetails userDetails) {
+        return userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+    }
+}
@@ -2,10 +2,14 @@ package com.taskmanager.controller;
 
 import com.taskmanager.dto.BoardRequest;
 import com.taskmanager.dto.BoardReorderRequest;
-import com.taskmanager.entity.Board;
+import com.taskmanager.dto.BoardResponse;
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskResponse;
 import com.taskmanager.entity.User;
 import com.taskmanager.repository.UserRepository;
 import com.taskmanager.service.BoardService;
+import com.taskmanager.service.TaskFields;
+import com.taskmanager.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -14,16 +18,19 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/projects/{projectId}/boards")
 @RequiredArgsConstructor
 public class BoardController {
 
     private final BoardService boardService;
+    private final TaskService taskService;
     private final UserRepository userRepository;
 
     @PostMapping
-    public ResponseEntity<Board> createBoard(
+    public ResponseEntity<BoardResponse> createBoard(
             @PathVariable Long projectId,
             @Valid @RequestBody BoardRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
@@ -31,8 +38,19 @@ public class BoardController {
         return new ResponseEntity<>(boardService.createBoard(projectId, request, currentUser), HttpStatus.CREATED);
     }
 
+    @GetMapping("/{boardId}/tasks")
+    public ResponseEntity<List<TaskResponse>> getBoardTasks(
+            @PathVariable Long projectId,
+            @PathVariable Long boardId,
+            TaskFilter filter,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(taskService.getBoardTasks(projectId, boardId, filter, TaskFields.parse(fields), currentUser));
+    }
+
     @PutMapping("/{boardId}")
-    public ResponseEntity<Board> updateBoard(
+    public ResponseEntity<BoardResponse> updateBoard(
             @PathVariable Long projectId,
             @PathVariable Long boardId,
             @Valid @RequestBody BoardRequest request,
@@ -2,15 +2,24 @@ package com.taskmanager.controller;
 
 import com.taskmanager.dto.*;
 import com.taskmanager.entity.User;
+import com.taskmanager.enums.ExportFormat;
+import com.taskmanager.exception.BadRequestException;
 import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.ActivityService;
+import com.taskmanager.service.ProjectExportService;
 import com.taskmanager.service.ProjectService;
+import com.taskmanager.service.ProjectStatsService;
+import com.taskmanager.service.TaskFields;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,6 +29,9 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectExportService projectExportService;
+    private final ProjectStatsService projectStatsService;
+    private final ActivityService activityService;
     private final UserRepository userRepository;
 
     @GetMapping
@@ -39,9 +51,60 @@ public class ProjectController {
     @GetMapping("/{id}")
     public ResponseEntity<ProjectDetailResponse> getProjectById(
             @PathVariable Long id,
+            TaskFilter filter,
+            @RequestParam(required = false) String fields,
             @AuthenticationPrincipal UserDetails userDetails) {
         User currentUser = getUserFromDetails(userDetails);
-        return ResponseEntity.ok(projectService.getProjectById(id, currentUser));
+        return ResponseEntity.ok(projectService.getProjectById(id, filter, TaskFields.parse(fields), currentUser));
+    }
+
+    @GetMapping(value = "/{id}", params = "shape=normalized")
+    public ResponseEntity<NormalizedProjectResponse> getNormalizedProjectById(
+            @PathVariable Long id,
+            TaskFilter filter,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        // Las tareas normalizadas ya solo llevan ids; no se combinan con sparse fieldsets
+        if (fields != null) {
+            throw new BadRequestException("shape=normalized no admite fields");
+        }
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(projectService.getNormalizedProjectById(id, filter, currentUser));
+    }
+
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ProjectStatsResponse> getProjectStats(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(projectStatsService.getStats(id, currentUser));
+    }
+
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<ActivityFeedResponse> getProjectActivity(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(activityService.getProjectActivity(id, cursor, limit, currentUser));
+    }
+
+    @GetMapping("/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportProject(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        projectExportService.checkExportAccess(id, currentUser);
+
+        StreamingResponseBody body = outputStream -> projectExportService.export(id, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"project-" + id + "." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     @PutMapping("/{id}")
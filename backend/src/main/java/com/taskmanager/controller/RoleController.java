@@ -1,21 +1,26 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.dto.CacheRegionStatsResponse;
 import com.taskmanager.dto.ChangeRoleRequest;
 import com.taskmanager.dto.UserResponse;
 import com.taskmanager.entity.User;
 import com.taskmanager.enums.Permission;
 import com.taskmanager.enums.Role;
+import com.taskmanager.event.AuditEvent;
 import com.taskmanager.exception.AccessDeniedException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.CacheStatisticsService;
 import com.taskmanager.service.PermissionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,6 +31,8 @@ public class RoleController {
 
     private final UserRepository userRepository;
     private final PermissionService permissionService;
+    private final CacheStatisticsService cacheStatisticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping("/users")
     public ResponseEntity<List<UserResponse>> getAllUsers(@AuthenticationPrincipal UserDetails userDetails) {
@@ -55,6 +62,7 @@ public class RoleController {
         User targetUser = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado con id: " + userId));
 
+        Role previousRole = targetUser.getRole();
         try {
             Role newRole = Role.valueOf(request.getRole().toUpperCase());
             targetUser.setRole(newRole);
@@ -63,9 +71,25 @@ public class RoleController {
             throw new AccessDeniedException("Rol inválido: " + request.getRole() + ". Roles válidos: ADMIN, PROJECT_MANAGER, MEMBER");
         }
 
+        eventPublisher.publishEvent(AuditEvent.builder()
+                .type(AuditEvent.Type.ROLE_CHANGED)
+                .actorId(currentUser.getId())
+                .targetUserId(targetUser.getId())
+                .details(previousRole + " -> " + targetUser.getRole())
+                .at(LocalDateTime.now())
+                .build());
+
         return ResponseEntity.ok(mapToUserResponse(targetUser));
     }
 
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheRegionStatsResponse>> getCacheStats(@AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
+
+        return ResponseEntity.ok(cacheStatisticsService.getRegionStats(currentUser));
+    }
+
     private UserResponse mapToUserResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
@@ -0,0 +1,35 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.dto.TaskSearchResponse;
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final TaskSearchService taskSearchService;
+    private final UserRepository userRepository;
+
+    @GetMapping
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(taskSearchService.search(q, cursor, limit, currentUser));
+    }
+
+    private User getUserFromDetails(UserDetails userDetails) {
+        return userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+    }
+}
@@ -1,10 +1,19 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.dto.AssignedTasksResponse;
+import com.taskmanager.dto.TaskBatchRequest;
+import com.taskmanager.dto.TaskBatchResponse;
+import com.taskmanager.dto.TaskOperationResult;
+import com.taskmanager.dto.TaskMoveAck;
 import com.taskmanager.dto.TaskMoveRequest;
 import com.taskmanager.dto.TaskRequest;
 import com.taskmanager.dto.TaskResponse;
 import com.taskmanager.entity.User;
 import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.IdempotencyStore;
+import com.taskmanager.service.TaskBatchService;
+import com.taskmanager.service.TaskFields;
+import com.taskmanager.service.TaskMoveCoalescer;
 import com.taskmanager.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,25 +23,70 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
 public class TaskController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final TaskService taskService;
     private final UserRepository userRepository;
+    private final IdempotencyStore idempotencyStore;
+    private final TaskMoveCoalescer taskMoveCoalescer;
+    private final TaskBatchService taskBatchService;
 
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(
             @Valid @RequestBody TaskRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        TaskResponse response = idempotent(idempotencyKey, currentUser, List.of("create", request),
+                () -> taskService.createTask(request, currentUser));
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    /**
+     * Operaciones en orden y en una sola transacción. Si alguna falla no se aplica ninguna y
+     * la respuesta lleva el código de la que falló.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> executeBatch(
+            @Valid @RequestBody TaskBatchRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
         User currentUser = getUserFromDetails(userDetails);
-        return new ResponseEntity<>(taskService.createTask(request, currentUser), HttpStatus.CREATED);
+        TaskBatchResponse response = taskBatchService.execute(request, currentUser);
+        if (response.isApplied()) {
+            return ResponseEntity.ok(response);
+        }
+        int status = response.getResults().stream()
+                .mapToInt(TaskOperationResult::getStatus)
+                .filter(code -> code != HttpStatus.FAILED_DEPENDENCY.value())
+                .findFirst()
+                .orElse(HttpStatus.BAD_REQUEST.value());
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @GetMapping("/mine")
+    public ResponseEntity<AssignedTasksResponse> getMyTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(taskService.getMyTasks(cursor, limit, currentUser));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponse> getTaskById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(taskService.getTaskById(id, TaskFields.parse(fields), currentUser));
     }
 
     @PutMapping("/{id}")
@@ -55,11 +109,37 @@ public class TaskController {
 
     @PutMapping("/{id}/move")
     public ResponseEntity<TaskResponse> moveTask(
+            @PathVariable Long id,
+            @Valid @RequestBody TaskMoveRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getUserFromDetails(userDetails);
+        return ResponseEntity.ok(idempotent(idempotencyKey, currentUser, List.of("move", id, request),
+                () -> taskService.moveTask(id, request, currentUser)));
+    }
+
+    /**
+     * Para el arrastre: los movimientos del proyecto que llegan dentro de la ventana se
+     * aplican juntos y, si son de la misma tarea, solo cuenta el último.
+     */
+    @PutMapping("/{id}/move/coalesced")
+    public ResponseEntity<TaskMoveAck> moveTaskCoalesced(
             @PathVariable Long id,
             @Valid @RequestBody TaskMoveRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
         User currentUser = getUserFromDetails(userDetails);
-        return ResponseEntity.ok(taskService.moveTask(id, request, currentUser));
+        return ResponseEntity.ok(taskMoveCoalescer.moveTask(id, request, currentUser));
+    }
+
+    /**
+     * Con Idempotency-Key, los reintentos de la misma petición reciben la respuesta de la
+     * primera sin volver a llamar al servicio.
+     */
+    private <T> T idempotent(String idempotencyKey, User currentUser, Object fingerprint, Supplier<T> operation) {
+        if (idempotencyKey == null) {
+            return operation.get();
+        }
+        return idempotencyStore.execute(currentUser.getId(), idempotencyKey, fingerprint, operation);
     }
 
     private User getUserFromDetails(UserDetails userDetails) {
@@ -0,0 +1,23 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityEntryResponse {
+
+    private Long id;
+    private String action;
+    private Long actorId;
+    private String actorName;
+    private Long taskId;
+    private String taskTitle;
+    private Long targetUserId;
+    private String details;
+    private String occurredAt;
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTaskResponse {
+
+    private Long id;
+    private Long originalTaskId;
+    private String title;
+    private String description;
+    private String priority;
+    private Long assigneeId;
+    private List<Long> labelIds;
+    private String dueDate;
+    private Long boardId;
+    private String boardName;
+    private String createdAt;
+    private String archivedAt;
+}
@@ -0,0 +1,22 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignedTaskResult {
+
+    private Long taskId;
+    private String title;
+    private String priority;
+    private String dueDate;
+    private Long boardId;
+    private String boardName;
+    private Long projectId;
+    private String projectName;
+}
@@ -0,0 +1,17 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssigneeTaskCount {
+
+    private Long userId;
+    private String fullName;
+    private Long count;
+}
@@ -0,0 +1,21 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnTimeStats {
+
+    private Long boardId;
+    private String boardName;
+    private long transitions;
+    private Double averageHours;
+    private Map<String, Long> histogram;
+}
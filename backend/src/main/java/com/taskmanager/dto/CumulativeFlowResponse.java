@@ -0,0 +1,28 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CumulativeFlowResponse {
+
+    private String from;
+    private String to;
+
+    /**
+     * Boards del proyecto en orden, con las tareas que tenían al final del rango.
+     */
+    private List<BoardTaskCount> boards;
+
+    /**
+     * Un punto por día; counts sigue el orden de boards.
+     */
+    private List<CumulativeFlowPoint> points;
+}
@@ -0,0 +1,20 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedBoardResponse {
+
+    private Long id;
+    private String name;
+    private Integer position;
+    private List<NormalizedTaskResponse> tasks;
+}
@@ -0,0 +1,38 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detalle de proyecto con ?shape=normalized: cada usuario y cada etiqueta aparece una vez en
+ * users y labels (por id) y el owner, los miembros y las tareas solo llevan el id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedProjectResponse {
+
+    private Long id;
+    private String name;
+    private String description;
+    private Long ownerId;
+    private List<Long> memberIds;
+    private List<NormalizedBoardResponse> boards;
+    private String createdAt;
+
+    /**
+     * Owner, miembros y responsables de las tareas (un responsable puede haber dejado el proyecto).
+     */
+    private Map<Long, UserResponse> users;
+
+    /**
+     * Etiquetas usadas por alguna de las tareas incluidas.
+     */
+    private Map<Long, LabelResponse> labels;
+}
@@ -0,0 +1,26 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedTaskResponse {
+
+    private Long id;
+    private String title;
+    private String description;
+    private String priority;
+    private Integer position;
+    private Long assigneeId;
+    private List<Long> labelIds;
+    private String dueDate;
+    private Long boardId;
+    private String createdAt;
+}
@@ -0,0 +1,24 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatsResponse {
+
+    private Long projectId;
+    private long totalTasks;
+    private long unassignedTasks;
+    private long overdueTasks;
+    private List<BoardTaskCount> byBoard;
+    private Map<String, Long> byPriority;
+    private List<AssigneeTaskCount> byAssignee;
+}
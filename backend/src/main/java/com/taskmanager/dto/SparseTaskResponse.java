@@ -0,0 +1,58 @@
+package com.taskmanager.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TaskResponse de una lectura con ?fields=: el JSON lleva exactamente los campos pedidos,
+ * también los que valen null (una tarea sin fecha límite lleva "dueDate": null), y ninguno más.
+ */
+@JsonSerialize(using = SparseTaskResponse.Serializer.class)
+public class SparseTaskResponse extends TaskResponse {
+
+    private final Set<String> fields;
+
+    public SparseTaskResponse(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    private Map<String, Object> requestedValues() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", getId());
+        values.put("title", getTitle());
+        values.put("description", getDescription());
+        values.put("priority", getPriority());
+        values.put("position", getPosition());
+        values.put("assignee", getAssignee());
+        values.put("labels", getLabels());
+        values.put("dueDate", getDueDate());
+        values.put("boardId", getBoardId());
+        values.put("createdAt", getCreatedAt());
+        values.keySet().retainAll(fields);
+        return values;
+    }
+
+    static class Serializer extends StdSerializer<SparseTaskResponse> {
+
+        Serializer() {
+            super(SparseTaskResponse.class);
+        }
+
+        @Override
+        public void serialize(SparseTaskResponse task, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(task);
+            for (Map.Entry<String, Object> field : task.requestedValues().entrySet()) {
+                provider.defaultSerializeField(field.getKey(), field.getValue(), generator);
+            }
+            generator.writeEndObject();
+        }
+    }
+}
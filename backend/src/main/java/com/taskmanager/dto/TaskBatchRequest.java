@@ -0,0 +1,23 @@
+package com.taskmanager.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchRequest {
+
+    @NotEmpty(message = "El lote debe incluir al menos una operación")
+    @Size(max = 200, message = "El lote admite como máximo 200 operaciones")
+    private List<@Valid @NotNull TaskOperation> operations;
+}
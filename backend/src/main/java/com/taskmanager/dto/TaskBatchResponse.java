@@ -0,0 +1,19 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResponse {
+
+    // false si alguna operación falló y el lote completo se deshizo
+    private boolean applied;
+    private List<TaskOperationResult> results;
+}
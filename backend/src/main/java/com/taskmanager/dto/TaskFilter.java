@@ -0,0 +1,36 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Filtros opcionales sobre las tareas de un board o proyecto, recibidos como query params.
+ * Todos los criterios indicados se combinan con AND; labelIds coincide si la tarea tiene
+ * alguna de las etiquetas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+
+    private Long assigneeId;
+    private Boolean unassigned;
+    private List<Long> labelIds;
+    private String priority;
+    private String dueFrom;
+    private String dueTo;
+
+    public boolean isEmpty() {
+        return assigneeId == null
+                && !Boolean.TRUE.equals(unassigned)
+                && (labelIds == null || labelIds.isEmpty())
+                && (priority == null || priority.isBlank())
+                && (dueFrom == null || dueFrom.isBlank())
+                && (dueTo == null || dueTo.isBlank());
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskMoveAck {
+
+    private Long taskId;
+    private Long boardId;
+    private Integer position;
+    private Long boardVersion;
+    // true si un movimiento posterior de la misma tarea lo reemplazó antes de aplicarse
+    private boolean superseded;
+    private int batchSize;
+}
@@ -0,0 +1,31 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.enums.TaskOperationType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Una operación de POST /api/tasks/batch. CREATE y UPDATE usan task, MOVE usa move;
+ * UPDATE, MOVE y DELETE indican la tarea con taskId.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOperation {
+
+    @NotNull(message = "El tipo de operación es obligatorio")
+    private TaskOperationType type;
+
+    private Long taskId;
+
+    @Valid
+    private TaskRequest task;
+
+    @Valid
+    private TaskMoveRequest move;
+}
@@ -0,0 +1,22 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.enums.TaskOperationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOperationResult {
+
+    private int index;
+    private TaskOperationType type;
+    // Código HTTP de la operación; 424 si no se aplicó porque falló otra del lote
+    private int status;
+    private Long taskId;
+    private TaskResponse task;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponse {
+
+    private List<TaskSearchResult> results;
+
+    /**
+     * Se envía como ?cursor= para pedir la página siguiente; null si no hay más resultados.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,66 @@
+package com.taskmanager.entity;
+
+import com.taskmanager.enums.ActivityAction;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Entrada del feed de actividad de un proyecto o de la auditoría. Guarda ids y el título
+ * de la tarea en el momento del cambio, no relaciones, porque sobrevive a lo que describe.
+ * projectId es null en los cambios de rol, que no pertenecen a ningún proyecto.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "activity_log", indexes = {
+        @Index(name = "idx_activity_log_project_id", columnList = "project_id, id")
+})
+public class ActivityEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ActivityAction action;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "task_title")
+    private String taskTitle;
+
+    @Column(name = "target_user_id")
+    private Long targetUserId;
+
+    @Column(length = 500)
+    private String details;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ActivityEntry that = (ActivityEntry) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskmanager.entity;
+
+import com.taskmanager.enums.Priority;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Copia de una tarea terminada que ya no vive en la tabla tasks. Guarda los ids del
+ * proyecto, board, responsable y etiquetas en lugar de relaciones, para que la carga de
+ * boards no tenga que tocar nunca esta tabla.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "archived_tasks", indexes = {
+        @Index(name = "idx_archived_tasks_project_archived_at", columnList = "project_id, archived_at")
+})
+public class ArchivedTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "original_task_id", nullable = false)
+    private Long originalTaskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    private String boardName;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Builder.Default
+    @BatchSize(size = 50)
+    @ElementCollection
+    @CollectionTable(name = "archived_task_labels", joinColumns = @JoinColumn(name = "archived_task_id"))
+    @Column(name = "label_id")
+    private Set<Long> labelIds = new HashSet<>();
+
+    private LocalDate dueDate;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedTask that = (ArchivedTask) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -3,6 +3,8 @@ package com.taskmanager.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.*;
 
@@ -11,6 +13,7 @@ import java.util.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "boards")
 public class Board {
 
@@ -23,6 +26,13 @@ public class Board {
 
     private Integer position;
 
+    /**
+     * Aumenta cada vez que cambia el contenido u orden del board; los clientes la usan para
+     * saber si su copia está al día. No es un @Version: los cambios se serializan con un
+     * bloqueo de fila (BoardRepository.lockAllById), no con bloqueo optimista.
+     */
+    private Long version;
+
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
@@ -0,0 +1,97 @@
+package com.taskmanager.entity;
+
+import com.taskmanager.enums.DwellBucket;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Agregado diario de task_transitions por board: tareas que entran, que salen y cuánto
+ * tiempo pasaron en el board las que salen. Solo existen filas para días con movimiento,
+ * así que un año de analítica lee como mucho días activos × boards filas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "board_flow_daily", uniqueConstraints = @UniqueConstraint(
+        name = "uk_board_flow_daily_key", columnNames = {"project_id", "board_id", "day"}))
+public class BoardFlowDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private long entered;
+
+    @Column(nullable = false)
+    private long exited;
+
+    /**
+     * Salidas cuya entrada en el board está registrada; son las que cuentan en el histograma.
+     */
+    @Column(name = "dwell_count", nullable = false)
+    private long dwellCount;
+
+    @Column(name = "dwell_seconds", nullable = false)
+    private long dwellSeconds;
+
+    @Column(name = "dwell_under_1h", nullable = false)
+    private long dwellUnder1h;
+
+    @Column(name = "dwell_under_1d", nullable = false)
+    private long dwellUnder1d;
+
+    @Column(name = "dwell_under_3d", nullable = false)
+    private long dwellUnder3d;
+
+    @Column(name = "dwell_under_7d", nullable = false)
+    private long dwellUnder7d;
+
+    @Column(name = "dwell_under_14d", nullable = false)
+    private long dwellUnder14d;
+
+    @Column(name = "dwell_under_30d", nullable = false)
+    private long dwellUnder30d;
+
+    @Column(name = "dwell_over_30d", nullable = false)
+    private long dwellOver30d;
+
+    public long getDwell(DwellBucket bucket) {
+        return switch (bucket) {
+            case UNDER_1H -> dwellUnder1h;
+            case UNDER_1D -> dwellUnder1d;
+            case UNDER_3D -> dwellUnder3d;
+            case UNDER_7D -> dwellUnder7d;
+            case UNDER_14D -> dwellUnder14d;
+            case UNDER_30D -> dwellUnder30d;
+            case OVER_30D -> dwellOver30d;
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BoardFlowDaily that = (BoardFlowDaily) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -13,7 +15,7 @@ import java.util.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "idx_projects_deleted_at", columnList = "deleted_at"))
 public class Project {
 
     @Id
@@ -31,6 +33,7 @@ public class Project {
     private User owner;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "project_members",
             joinColumns = @JoinColumn(name = "project_id"),
@@ -46,6 +49,12 @@ public class Project {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * Marca de borrado: el proyecto deja de ser visible en cuanto se fija y
+     * ProjectPurgeService elimina después sus datos en segundo plano.
+     */
+    private LocalDateTime deletedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
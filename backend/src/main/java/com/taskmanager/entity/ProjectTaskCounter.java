@@ -0,0 +1,51 @@
+package com.taskmanager.entity;
+
+import com.taskmanager.enums.CounterDimension;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Objects;
+
+/**
+ * Número de tareas de un proyecto por dimensión. Lo mantiene ProjectStatsService con
+ * incrementos en la misma transacción que el cambio de la tarea.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_task_counters", uniqueConstraints = @UniqueConstraint(
+        name = "uk_project_task_counters_key", columnNames = {"project_id", "dimension", "dimension_key"}))
+public class ProjectTaskCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CounterDimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 40)
+    private String dimensionKey;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProjectTaskCounter that = (ProjectTaskCounter) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
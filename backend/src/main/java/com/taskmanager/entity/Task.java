@@ -15,7 +15,13 @@ import java.util.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_board_position", columnList = "board_id, position"),
+        @Index(name = "idx_tasks_board_assignee", columnList = "board_id, assignee_id"),
+        @Index(name = "idx_tasks_board_due_date", columnList = "board_id, due_date"),
+        @Index(name = "idx_tasks_assignee_due_date", columnList = "assignee_id, due_date"),
+        @Index(name = "idx_tasks_due_date", columnList = "due_date, id")
+})
 public class Task {
 
     @Id
@@ -47,7 +53,8 @@ public class Task {
     @JoinTable(
             name = "task_labels",
             joinColumns = @JoinColumn(name = "task_id"),
-            inverseJoinColumns = @JoinColumn(name = "label_id")
+            inverseJoinColumns = @JoinColumn(name = "label_id"),
+            indexes = @Index(name = "idx_task_labels_label_task", columnList = "label_id, task_id")
     )
     private Set<Label> labels = new HashSet<>();
 
@@ -0,0 +1,59 @@
+package com.taskmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Paso de una tarea de un board a otro. Solo se insertan filas (TaskTransitionWriter).
+ * fromBoardId es null cuando la tarea se crea o se restaura y toBoardId es null cuando se
+ * borra o se archiva, de modo que las entradas y salidas de cada board cuadran.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_transitions", indexes = {
+        @Index(name = "idx_task_transitions_task_id", columnList = "task_id, id"),
+        @Index(name = "idx_task_transitions_project_occurred_at", columnList = "project_id, occurred_at")
+})
+public class TaskTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "from_board_id")
+    private Long fromBoardId;
+
+    @Column(name = "to_board_id")
+    private Long toBoardId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskTransition that = (TaskTransition) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
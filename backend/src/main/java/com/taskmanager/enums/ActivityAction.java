@@ -0,0 +1,13 @@
+package com.taskmanager.enums;
+
+public enum ActivityAction {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_MOVED,
+    TASK_DELETED,
+    TASK_ARCHIVED,
+    TASK_RESTORED,
+    MEMBER_ADDED,
+    MEMBER_REMOVED,
+    ROLE_CHANGED
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.enums;
+
+/**
+ * Cómo se escriben los eventos de auditoría (app.activity.audit-durability).
+ */
+public enum AuditDurability {
+
+    /**
+     * En la misma transacción que el cambio auditado: si el cambio se confirma, el registro también.
+     */
+    SYNC,
+
+    /**
+     * Por el buffer en memoria tras el commit, como el resto de la actividad. No alarga la
+     * petición, pero un fallo del proceso antes del flush pierde el registro.
+     */
+    ASYNC
+}
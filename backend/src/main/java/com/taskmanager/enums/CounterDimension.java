@@ -0,0 +1,13 @@
+package com.taskmanager.enums;
+
+/**
+ * Dimensiones de project_task_counters. La clave de cada fila depende de la dimensión:
+ * TOTAL usa "all", BOARD el id del board, PRIORITY el nombre de la prioridad y ASSIGNEE
+ * el id del usuario o "unassigned".
+ */
+public enum CounterDimension {
+    TOTAL,
+    BOARD,
+    PRIORITY,
+    ASSIGNEE
+}
@@ -0,0 +1,37 @@
+package com.taskmanager.enums;
+
+import java.time.Duration;
+
+/**
+ * Tramos del histograma de tiempo en columna. Cada tramo es una columna de board_flow_daily.
+ */
+public enum DwellBucket {
+    UNDER_1H("<1h", Duration.ofHours(1)),
+    UNDER_1D("<1d", Duration.ofDays(1)),
+    UNDER_3D("<3d", Duration.ofDays(3)),
+    UNDER_7D("<7d", Duration.ofDays(7)),
+    UNDER_14D("<14d", Duration.ofDays(14)),
+    UNDER_30D("<30d", Duration.ofDays(30)),
+    OVER_30D(">=30d", null);
+
+    private final String label;
+    private final Duration upperBound;
+
+    DwellBucket(String label, Duration upperBound) {
+        this.label = label;
+        this.upperBound = upperBound;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static DwellBucket of(Duration dwell) {
+        for (DwellBucket bucket : values()) {
+            if (bucket.upperBound == null || dwell.compareTo(bucket.upperBound) < 0) {
+                return bucket;
+            }
+        }
+        return OVER_30D;
+    }
+}
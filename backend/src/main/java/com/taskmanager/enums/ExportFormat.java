@@ -0,0 +1,32 @@
+package com.taskmanager.enums;
+
+import com.taskmanager.exception.BadRequestException;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromParam(String value) {
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Formato de exportación inválido: " + value + ". Formatos válidos: ndjson, csv");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskmanager.enums;
+
+public enum TaskOperationType {
+    CREATE,
+    UPDATE,
+    MOVE,
+    DELETE
+}
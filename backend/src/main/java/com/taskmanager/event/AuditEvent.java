@@ -0,0 +1,28 @@
+package com.taskmanager.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio de permisos: altas y bajas de miembros de un proyecto y cambios de rol global
+ * (projectId null).
+ */
+@Value
+@Builder
+public class AuditEvent {
+
+    public enum Type {
+        MEMBER_ADDED,
+        MEMBER_REMOVED,
+        ROLE_CHANGED
+    }
+
+    Type type;
+    Long projectId;
+    Long actorId;
+    Long targetUserId;
+    String details;
+    LocalDateTime at;
+}
@@ -0,0 +1,38 @@
+package com.taskmanager.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio en una tarea. before es null al crear o restaurar y after es null al borrar o
+ * archivar. actorId es null cuando el cambio lo hace un proceso programado.
+ */
+@Value
+@Builder
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        MOVED,
+        DELETED,
+        ARCHIVED,
+        RESTORED
+    }
+
+    Type type;
+    TaskSnapshot before;
+    TaskSnapshot after;
+    Long actorId;
+    LocalDateTime at;
+
+    public Long getTaskId() {
+        return after != null ? after.getTaskId() : before.getTaskId();
+    }
+
+    public Long getProjectId() {
+        return after != null ? after.getProjectId() : before.getProjectId();
+    }
+}
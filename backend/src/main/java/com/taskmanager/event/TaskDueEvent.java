@@ -0,0 +1,31 @@
+package com.taskmanager.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Lo publica DueDateScheduler cuando se acerca o vence la fecha límite de una tarea.
+ */
+@Value
+@Builder
+public class TaskDueEvent {
+
+    public enum Type {
+        /**
+         * Falta app.due-dates.reminder-lead para que termine el día de la fecha límite.
+         */
+        REMINDER,
+        /**
+         * Terminó el día de la fecha límite.
+         */
+        OVERDUE
+    }
+
+    Type type;
+    Long taskId;
+    Long projectId;
+    Long assigneeId;
+    LocalDate dueDate;
+}
@@ -0,0 +1,37 @@
+package com.taskmanager.event;
+
+import com.taskmanager.entity.Task;
+import com.taskmanager.enums.Priority;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Estado de una tarea en un instante, sin referencias a entidades gestionadas, para poder
+ * usarlo en listeners que se ejecutan después del commit o en otro hilo.
+ */
+@Value
+@Builder
+public class TaskSnapshot {
+
+    Long taskId;
+    Long projectId;
+    Long boardId;
+    Priority priority;
+    Long assigneeId;
+    LocalDate dueDate;
+    String title;
+
+    public static TaskSnapshot of(Task task) {
+        return TaskSnapshot.builder()
+                .taskId(task.getId())
+                .projectId(task.getBoard().getProject().getId())
+                .boardId(task.getBoard().getId())
+                .priority(task.getPriority())
+                .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
+                .dueDate(task.getDueDate())
+                .title(task.getTitle())
+                .build();
+    }
+}
@@ -0,0 +1 @@
+package com.taskmanager.event;
@@ -0,0 +1,58 @@
+package com.taskmanager.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Ganchos de Hibernate que alimentan RequestQueryStats. Se registran en
+ * RequestMetricsConfig.
+ */
+final class HibernateRequestStatsHooks {
+
+    private HibernateRequestStatsHooks() {
+    }
+
+    /**
+     * Cuenta cada sentencia SQL que Hibernate prepara, sin modificarla.
+     */
+    static class StatementCounter implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            RequestQueryStats.statementPrepared();
+            return sql;
+        }
+    }
+
+    /**
+     * Cuenta cada entidad que se carga en la sesión, venga de la base de datos o de la
+     * cache de segundo nivel.
+     */
+    static class EntityLoadCounter implements Interceptor {
+
+        @Override
+        public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+            RequestQueryStats.entityLoaded();
+            return false;
+        }
+    }
+
+    /**
+     * Mide la espera por una conexión del pool. Hibernate crea una instancia por sesión
+     * a partir de hibernate.session.events.auto, así que necesita constructor público.
+     */
+    public static class ConnectionAcquireTimer implements SessionEventListener {
+
+        @Override
+        public void jdbcConnectionAcquisitionStart() {
+            RequestQueryStats.connectionAcquireStarted();
+        }
+
+        @Override
+        public void jdbcConnectionAcquisitionEnd() {
+            RequestQueryStats.connectionAcquireEnded();
+        }
+    }
+}
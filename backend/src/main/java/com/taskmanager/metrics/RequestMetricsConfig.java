@@ -0,0 +1,47 @@
+package com.taskmanager.metrics;
+
+import com.taskmanager.config.MetricsAccessProperties;
+import com.taskmanager.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Métricas de base de datos por petición: los ganchos de Hibernate que alimentan
+ * RequestQueryStats y el filtro que las publica. También las de la cache de segundo nivel.
+ */
+@Configuration
+@EnableConfigurationProperties({QueryBudgetProperties.class, MetricsAccessProperties.class})
+public class RequestMetricsConfig {
+
+    /**
+     * Antes de Spring Security, para incluir la carga del usuario del JWT.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestQueryMetricsFilter> requestQueryMetricsFilter(MeterRegistry meterRegistry,
+                                                                                     QueryBudgetProperties budget) {
+        FilterRegistrationBean<RequestQueryMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestQueryMetricsFilter(meterRegistry, budget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatsHibernateCustomizer() {
+        return properties -> {
+            properties.put("hibernate.session_factory.statement_inspector", new HibernateRequestStatsHooks.StatementCounter());
+            properties.put("hibernate.session_factory.interceptor", new HibernateRequestStatsHooks.EntityLoadCounter());
+            properties.put("hibernate.session.events.auto", HibernateRequestStatsHooks.ConnectionAcquireTimer.class.getName());
+        };
+    }
+
+    @Bean
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheMetrics(entityManagerFactory);
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskmanager.metrics;
+
+import com.taskmanager.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acceso a base de datos por petición, con las mismas etiquetas (method, uri, outcome)
+ * que http.server.requests para poder cruzar latencia y número de consultas:
+ *
+ * - http.server.requests.sql.statements: sentencias SQL preparadas
+ * - http.server.requests.entity.loads: entidades cargadas en la sesión
+ * - http.server.requests.connection.acquire: espera total por conexiones del pool
+ *
+ * Las peticiones que superan app.query-budget se registran en WARN. Se registra en
+ * RequestMetricsConfig.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetProperties budget;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            record(request, response, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of(
+                "method", request.getMethod(),
+                "uri", uri,
+                "outcome", Outcome.forStatus(response.getStatus()).name());
+
+        meterRegistry.summary("http.server.requests.sql.statements", tags).record(stats.getStatements());
+        meterRegistry.summary("http.server.requests.entity.loads", tags).record(stats.getEntityLoads());
+        meterRegistry.timer("http.server.requests.connection.acquire", tags)
+                .record(stats.getConnectionAcquireNanos(), TimeUnit.NANOSECONDS);
+
+        if (budget.isEnabled()
+                && (stats.getStatements() > budget.getMaxStatements() || stats.getEntityLoads() > budget.getMaxEntityLoads())) {
+            meterRegistry.counter("http.server.requests.query.budget.exceeded", tags).increment();
+            log.warn("{} {} superó el presupuesto de consultas: {} sentencias (máx. {}), {} entidades (máx. {}), {} ms esperando conexión",
+                    request.getMethod(), request.getRequestURI(), stats.getStatements(), budget.getMaxStatements(),
+                    stats.getEntityLoads(), budget.getMaxEntityLoads(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getConnectionAcquireNanos()));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskmanager.metrics;
+
+/**
+ * Contadores de base de datos de la petición en curso. RequestQueryMetricsFilter los abre
+ * al empezar la petición y los ganchos de Hibernate los incrementan desde el mismo hilo;
+ * fuera de una petición (tareas programadas, escritores asíncronos) no se cuenta nada.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private long connectionAcquireNanos;
+    private long acquireStartedAt;
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void connectionAcquireStarted() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.acquireStartedAt = System.nanoTime();
+        }
+    }
+
+    static void connectionAcquireEnded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null && stats.acquireStartedAt != 0) {
+            stats.connectionAcquireNanos += System.nanoTime() - stats.acquireStartedAt;
+            stats.acquireStartedAt = 0;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getConnectionAcquireNanos() {
+        return connectionAcquireNanos;
+    }
+}
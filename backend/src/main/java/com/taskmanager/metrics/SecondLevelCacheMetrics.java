@@ -0,0 +1,44 @@
+package com.taskmanager.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+/**
+ * Aciertos y fallos de cada región de la cache de segundo nivel (cache.gets con
+ * result=hit|miss y la etiqueta cache=región), leídos de las estadísticas JCache de Ehcache.
+ * No dependen de hibernate.generate_statistics, así que se registran siempre.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jcache)) {
+            return;
+        }
+
+        CacheManager cacheManager = jcache.getCacheManager();
+        for (String name : cacheManager.getCacheNames()) {
+            // Activa el MBean CacheStatistics de la región, de donde lee JCacheMetrics
+            cacheManager.enableStatistics(name, true);
+            Cache<Object, Object> cache = cacheManager.getCache(name);
+            new JCacheMetrics<>(cache, Tags.empty()).bindTo(registry);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.ActivityEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ActivityEntryRepository extends JpaRepository<ActivityEntry, Long> {
+
+    /**
+     * Página del feed de más reciente a más antigua; usa idx_activity_log_project_id.
+     */
+    List<ActivityEntry> findByProjectIdAndIdLessThanOrderByIdDesc(Long projectId, Long beforeId, Pageable pageable);
+}
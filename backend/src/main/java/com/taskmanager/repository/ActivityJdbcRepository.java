@@ -0,0 +1,43 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.ActivityEntry;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Inserta entradas de activity_log por lotes JDBC (ver TaskFlowJdbcRepository). Dentro de
+ * una transacción de JPA usa su misma conexión.
+ */
+@Repository
+public class ActivityJdbcRepository {
+
+    private static final String INSERT_ENTRY =
+            "INSERT INTO activity_log (project_id, actor_id, action, task_id, task_title, target_user_id, details, occurred_at) " +
+            "VALUES (:projectId, :actorId, :action, :taskId, :taskTitle, :targetUserId, :details, :occurredAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ActivityJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<ActivityEntry> entries) {
+        SqlParameterSource[] batch = entries.stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("projectId", e.getProjectId())
+                        .addValue("actorId", e.getActorId())
+                        .addValue("action", e.getAction().name())
+                        .addValue("taskId", e.getTaskId())
+                        .addValue("taskTitle", e.getTaskTitle())
+                        .addValue("targetUserId", e.getTargetUserId())
+                        .addValue("details", e.getDetails())
+                        .addValue("occurredAt", Timestamp.valueOf(e.getOccurredAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, batch);
+    }
+}
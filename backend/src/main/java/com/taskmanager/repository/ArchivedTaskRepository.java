@@ -0,0 +1,26 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.ArchivedTask;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    Slice<ArchivedTask> findByProjectId(Long projectId, Pageable pageable);
+
+    /**
+     * Búsqueda por título o descripción. El patrón debe llegar ya en minúsculas y con los comodines.
+     */
+    @Query("SELECT a FROM ArchivedTask a WHERE a.projectId = :projectId " +
+            "AND (LOWER(a.title) LIKE :pattern ESCAPE '\\' OR LOWER(a.description) LIKE :pattern ESCAPE '\\')")
+    Slice<ArchivedTask> search(@Param("projectId") Long projectId, @Param("pattern") String pattern, Pageable pageable);
+
+    Optional<ArchivedTask> findByIdAndProjectId(Long id, Long projectId);
+}
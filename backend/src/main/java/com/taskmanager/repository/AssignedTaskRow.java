@@ -0,0 +1,35 @@
+package com.taskmanager.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Fila de la bandeja "mis tareas": la tarea junto con su board y proyecto.
+ */
+public interface AssignedTaskRow {
+
+    Long getTaskId();
+
+    String getTitle();
+
+    String getPriority();
+
+    LocalDate getDueDate();
+
+    Long getBoardId();
+
+    String getBoardName();
+
+    Long getProjectId();
+
+    String getProjectName();
+
+    /**
+     * Clave de orden de la fecha: due_date o 9999-12-31 si no tiene, para que vayan al final.
+     */
+    LocalDate getDueKey();
+
+    /**
+     * Clave de orden de la prioridad: 0 = URGENT ... 3 = LOW.
+     */
+    Integer getPriorityRank();
+}
@@ -0,0 +1,23 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.BoardFlowDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BoardFlowDailyRepository extends JpaRepository<BoardFlowDaily, Long> {
+
+    List<BoardFlowDaily> findByProjectIdAndDayBetweenOrderByDayAsc(Long projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Punto de partida del diagrama de flujo acumulado: una fila por board.
+     */
+    @Query("SELECT f.boardId AS boardId, SUM(f.entered - f.exited) AS net FROM BoardFlowDaily f " +
+            "WHERE f.projectId = :projectId AND f.day < :before GROUP BY f.boardId")
+    List<BoardFlowNetRow> sumNetBefore(@Param("projectId") Long projectId, @Param("before") LocalDate before);
+}
@@ -0,0 +1,11 @@
+package com.taskmanager.repository;
+
+/**
+ * Entradas menos salidas acumuladas de un board hasta una fecha.
+ */
+public interface BoardFlowNetRow {
+
+    Long getBoardId();
+
+    Long getNet();
+}
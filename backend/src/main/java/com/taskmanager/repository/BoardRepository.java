@@ -1,13 +1,30 @@
 package com.taskmanager.repository;
 
 import com.taskmanager.entity.Board;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
     List<Board> findByProjectIdOrderByPositionAsc(Long projectId);
+
+    /**
+     * Bloquea los boards antes de reordenar sus tareas. Siempre en orden de id, para que dos
+     * transacciones que tocan los mismos boards no se bloqueen mutuamente.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Board b WHERE b.id IN :ids ORDER BY b.id")
+    List<Board> lockAllById(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Board b WHERE b.project.id = :projectId ORDER BY b.id")
+    List<Board> lockByProjectId(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,11 @@
+package com.taskmanager.repository;
+
+/**
+ * Recuento agrupado por una clave, usado para reconstruir los contadores de un proyecto.
+ */
+public interface CounterRow {
+
+    String getKey();
+
+    Long getCount();
+}
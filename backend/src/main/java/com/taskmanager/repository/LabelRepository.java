@@ -7,7 +7,10 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface LabelRepository extends JpaRepository<Label, Long> {
+public interface LabelRepository extends JpaRepository<Label, Long>, LabelRepositoryCustom {
 
     List<Label> findByProjectId(Long projectId);
+
+    @Override
+    List<Label> findAllById(Iterable<Long> ids);
 }
@@ -0,0 +1,15 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.Label;
+
+import java.util.List;
+
+public interface LabelRepositoryCustom {
+
+    /**
+     * Sustituye la implementación por defecto (un SELECT ... IN) por una carga múltiple
+     * que consulta primero la cache de segundo nivel y solo va a la base de datos por
+     * los ids que falten. Los ids inexistentes se ignoran.
+     */
+    List<Label> findAllById(Iterable<Long> ids);
+}
@@ -0,0 +1,36 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.Label;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+class LabelRepositoryCustomImpl implements LabelRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Label> findAllById(Iterable<Long> ids) {
+        List<Long> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        if (idList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Label.class)
+                // Sin CacheMode explícito la carga múltiple no consulta la cache de segundo nivel
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(idList)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
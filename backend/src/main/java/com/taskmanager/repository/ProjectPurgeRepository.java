@@ -0,0 +1,96 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Borrados por conjuntos para purgar proyectos marcados como eliminados, sin cargar
+ * entidades ni pasar por las cascadas de JPA. El orden de uso lo marcan las claves
+ * foráneas: task_labels, tasks, boards, labels, project_members y por último projects.
+ * Las tareas archivadas, los contadores, la analítica de flujo y la actividad no tienen
+ * claves foráneas y se borran junto al resto.
+ *
+ * Cada sentencia declara las tablas que toca (native spaces) para que Hibernate solo
+ * invalide las regiones de cache afectadas y no la cache de segundo nivel entera.
+ */
+public interface ProjectPurgeRepository extends org.springframework.data.repository.Repository<Project, Long> {
+
+    @Query("SELECT t.id FROM Task t WHERE t.board.project.id = :projectId ORDER BY t.id ASC")
+    List<Long> findTaskIdsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "task_labels"))
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteTaskLabelsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "DELETE FROM tasks WHERE id IN (:taskIds)", nativeQuery = true)
+    int deleteTasksByIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "task_labels"))
+    @Query(value = "DELETE FROM task_labels WHERE label_id IN (SELECT l.id FROM labels l WHERE l.project_id = :projectId)",
+            nativeQuery = true)
+    int deleteTaskLabelsByLabelProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "archived_task_labels"))
+    @Query(value = "DELETE FROM archived_task_labels WHERE archived_task_id IN " +
+            "(SELECT a.id FROM archived_tasks a WHERE a.project_id = :projectId)", nativeQuery = true)
+    int deleteArchivedTaskLabelsByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "archived_tasks"))
+    @Query(value = "DELETE FROM archived_tasks WHERE project_id = :projectId", nativeQuery = true)
+    int deleteArchivedTasksByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_task_counters"))
+    @Query(value = "DELETE FROM project_task_counters WHERE project_id = :projectId", nativeQuery = true)
+    int deleteTaskCountersByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "task_transitions"))
+    @Query(value = "DELETE FROM task_transitions WHERE project_id = :projectId", nativeQuery = true)
+    int deleteTransitionsByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "board_flow_daily"))
+    @Query(value = "DELETE FROM board_flow_daily WHERE project_id = :projectId", nativeQuery = true)
+    int deleteFlowDailyByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "activity_log"))
+    @Query(value = "DELETE FROM activity_log WHERE project_id = :projectId", nativeQuery = true)
+    int deleteActivityByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "boards"))
+    @Query(value = "DELETE FROM boards WHERE project_id = :projectId", nativeQuery = true)
+    int deleteBoardsByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "labels"))
+    @Query(value = "DELETE FROM labels WHERE project_id = :projectId", nativeQuery = true)
+    int deleteLabelsByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_members"))
+    @Query(value = "DELETE FROM project_members WHERE project_id = :projectId", nativeQuery = true)
+    int deleteMembersByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "projects"))
+    @Query(value = "DELETE FROM projects WHERE id = :projectId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int deleteDeletedProject(@Param("projectId") Long projectId);
+}
@@ -7,12 +7,28 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     List<Project> findByOwnerId(Long ownerId);
 
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN p.members m WHERE p.owner.id = :userId OR m.id = :userId")
+    /**
+     * Igual que findById pero ignora los proyectos marcados como borrados.
+     */
+    @Query("SELECT p FROM Project p WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Project> findActiveById(@Param("id") Long id);
+
+    /**
+     * Trae owner y miembros en la misma consulta: el listado muestra el nombre del owner y
+     * el número de miembros de cada proyecto.
+     */
+    @Query("SELECT DISTINCT p FROM Project p JOIN FETCH p.owner LEFT JOIN FETCH p.members " +
+            "WHERE p.deletedAt IS NULL AND (p.owner.id = :userId OR EXISTS (" +
+            "SELECT 1 FROM Project pm JOIN pm.members m WHERE pm.id = p.id AND m.id = :userId))")
     List<Project> findByOwnerOrMember(@Param("userId") Long userId);
+
+    @Query("SELECT p.id FROM Project p WHERE p.deletedAt IS NOT NULL ORDER BY p.deletedAt ASC")
+    List<Long> findDeletedIds();
 }
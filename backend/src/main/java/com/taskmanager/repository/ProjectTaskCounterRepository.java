@@ -0,0 +1,66 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.ProjectTaskCounter;
+import com.taskmanager.enums.CounterDimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectTaskCounterRepository extends JpaRepository<ProjectTaskCounter, Long> {
+
+    List<ProjectTaskCounter> findByProjectId(Long projectId);
+
+    boolean existsByProjectIdAndDimension(Long projectId, CounterDimension dimension);
+
+    /**
+     * Incremento atómico en base de datos; devuelve 0 si la fila todavía no existe.
+     */
+    @Modifying
+    @Query("UPDATE ProjectTaskCounter c SET c.taskCount = c.taskCount + :delta " +
+            "WHERE c.projectId = :projectId AND c.dimension = :dimension AND c.dimensionKey = :key")
+    int increment(@Param("projectId") Long projectId,
+                  @Param("dimension") CounterDimension dimension,
+                  @Param("key") String key,
+                  @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM ProjectTaskCounter c WHERE c.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Serializa la creación de filas nuevas y las reconstrucciones de un mismo proyecto.
+     */
+    @Query(value = "SELECT id FROM projects WHERE id = :projectId FOR UPDATE", nativeQuery = true)
+    Long lockProject(@Param("projectId") Long projectId);
+
+    // --- Recuentos completos: solo para reconstruir ---
+
+    @Query("SELECT CAST(b.id AS String) AS key, COUNT(t) AS count FROM Task t JOIN t.board b " +
+            "WHERE b.project.id = :projectId GROUP BY b.id")
+    List<CounterRow> countByBoard(@Param("projectId") Long projectId);
+
+    @Query("SELECT COALESCE(CAST(t.priority AS String), 'NONE') AS key, COUNT(t) AS count FROM Task t " +
+            "WHERE t.board.project.id = :projectId GROUP BY t.priority")
+    List<CounterRow> countByPriority(@Param("projectId") Long projectId);
+
+    @Query("SELECT COALESCE(CAST(a.id AS String), 'unassigned') AS key, COUNT(t) AS count FROM Task t " +
+            "LEFT JOIN t.assignee a WHERE t.board.project.id = :projectId GROUP BY a.id")
+    List<CounterRow> countByAssignee(@Param("projectId") Long projectId);
+
+    /**
+     * Vencidas = fecha límite anterior a hoy y fuera de los boards de terminadas. Depende del
+     * día, así que no se guarda como contador; usa idx_tasks_board_due_date.
+     */
+    @Query("SELECT COUNT(t) FROM Task t JOIN t.board b WHERE b.project.id = :projectId " +
+            "AND t.dueDate < :today AND b.name NOT IN :doneBoards")
+    long countOverdue(@Param("projectId") Long projectId,
+                      @Param("today") LocalDate today,
+                      @Param("doneBoards") Collection<String> doneBoards);
+}
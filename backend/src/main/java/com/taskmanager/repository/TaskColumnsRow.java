@@ -0,0 +1,25 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Role;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Fila de TaskRepositoryCustom.findColumns: id y board siempre; el resto es null si no se
+ * pidió su columna.
+ */
+public record TaskColumnsRow(Long id,
+                             Long boardId,
+                             String title,
+                             String description,
+                             Priority priority,
+                             Integer position,
+                             LocalDate dueDate,
+                             LocalDateTime createdAt,
+                             Long assigneeId,
+                             String assigneeEmail,
+                             String assigneeFullName,
+                             Role assigneeRole) {
+}
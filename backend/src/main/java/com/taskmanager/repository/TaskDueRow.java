@@ -0,0 +1,17 @@
+package com.taskmanager.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Lo mínimo de una tarea para programar sus avisos de fecha límite.
+ */
+public interface TaskDueRow {
+
+    Long getId();
+
+    LocalDate getDueDate();
+
+    Long getAssigneeId();
+
+    Long getProjectId();
+}
@@ -0,0 +1,126 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.BoardFlowDaily;
+import com.taskmanager.entity.TaskTransition;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Escrituras de task_transitions y board_flow_daily por lotes JDBC. Con ids IDENTITY
+ * Hibernate no agrupa inserts, y aquí cada flush escribe cientos de filas.
+ */
+@Repository
+public class TaskFlowJdbcRepository {
+
+    private static final String INSERT_TRANSITION =
+            "INSERT INTO task_transitions (task_id, project_id, from_board_id, to_board_id, user_id, occurred_at) " +
+            "VALUES (:taskId, :projectId, :fromBoardId, :toBoardId, :userId, :occurredAt)";
+
+    private static final String FIND_LAST_TRANSITIONS =
+            "SELECT t.task_id, t.to_board_id, t.occurred_at FROM task_transitions t " +
+            "WHERE t.task_id IN (:taskIds) " +
+            "AND t.id = (SELECT MAX(x.id) FROM task_transitions x WHERE x.task_id = t.task_id)";
+
+    private static final String DAILY_COLUMNS =
+            "entered, exited, dwell_count, dwell_seconds, dwell_under_1h, dwell_under_1d, dwell_under_3d, " +
+            "dwell_under_7d, dwell_under_14d, dwell_under_30d, dwell_over_30d";
+
+    private static final String DAILY_VALUES =
+            ":entered, :exited, :dwellCount, :dwellSeconds, :dwellUnder1h, :dwellUnder1d, :dwellUnder3d, " +
+            ":dwellUnder7d, :dwellUnder14d, :dwellUnder30d, :dwellOver30d";
+
+    private static final String INCREMENT_DAILY =
+            "UPDATE board_flow_daily SET entered = entered + :entered, exited = exited + :exited, " +
+            "dwell_count = dwell_count + :dwellCount, dwell_seconds = dwell_seconds + :dwellSeconds, " +
+            "dwell_under_1h = dwell_under_1h + :dwellUnder1h, dwell_under_1d = dwell_under_1d + :dwellUnder1d, " +
+            "dwell_under_3d = dwell_under_3d + :dwellUnder3d, dwell_under_7d = dwell_under_7d + :dwellUnder7d, " +
+            "dwell_under_14d = dwell_under_14d + :dwellUnder14d, dwell_under_30d = dwell_under_30d + :dwellUnder30d, " +
+            "dwell_over_30d = dwell_over_30d + :dwellOver30d " +
+            "WHERE project_id = :projectId AND board_id = :boardId AND day = :day";
+
+    private static final String INSERT_DAILY =
+            "INSERT INTO board_flow_daily (project_id, board_id, day, " + DAILY_COLUMNS + ") " +
+            "VALUES (:projectId, :boardId, :day, " + DAILY_VALUES + ")";
+
+    /**
+     * Última transición registrada de una tarea: board en el que está y desde cuándo.
+     */
+    public record LastTransition(Long toBoardId, LocalDateTime occurredAt) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TaskFlowJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Map<Long, LastTransition> findLastTransitions(Collection<Long> taskIds) {
+        Map<Long, LastTransition> result = new HashMap<>();
+        if (taskIds.isEmpty()) {
+            return result;
+        }
+        jdbcTemplate.query(FIND_LAST_TRANSITIONS, Map.of("taskIds", taskIds), rs -> {
+            long toBoardId = rs.getLong("to_board_id");
+            result.put(rs.getLong("task_id"), new LastTransition(
+                    rs.wasNull() ? null : toBoardId,
+                    rs.getTimestamp("occurred_at").toLocalDateTime()));
+        });
+        return result;
+    }
+
+    public void insertTransitions(List<TaskTransition> transitions) {
+        SqlParameterSource[] batch = transitions.stream()
+                .map(t -> new MapSqlParameterSource()
+                        .addValue("taskId", t.getTaskId())
+                        .addValue("projectId", t.getProjectId())
+                        .addValue("fromBoardId", t.getFromBoardId())
+                        .addValue("toBoardId", t.getToBoardId())
+                        .addValue("userId", t.getUserId())
+                        .addValue("occurredAt", Timestamp.valueOf(t.getOccurredAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_TRANSITION, batch);
+    }
+
+    /**
+     * Suma cada agregado a su fila del día y crea las que todavía no existen.
+     */
+    public void addDaily(List<BoardFlowDaily> deltas) {
+        SqlParameterSource[] batch = deltas.stream().map(this::dailyParams).toArray(SqlParameterSource[]::new);
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT_DAILY, batch);
+
+        List<SqlParameterSource> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(batch[i]);
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DAILY, missing.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    private SqlParameterSource dailyParams(BoardFlowDaily d) {
+        return new MapSqlParameterSource()
+                .addValue("projectId", d.getProjectId())
+                .addValue("boardId", d.getBoardId())
+                .addValue("day", Date.valueOf(d.getDay()))
+                .addValue("entered", d.getEntered())
+                .addValue("exited", d.getExited())
+                .addValue("dwellCount", d.getDwellCount())
+                .addValue("dwellSeconds", d.getDwellSeconds())
+                .addValue("dwellUnder1h", d.getDwellUnder1h())
+                .addValue("dwellUnder1d", d.getDwellUnder1d())
+                .addValue("dwellUnder3d", d.getDwellUnder3d())
+                .addValue("dwellUnder7d", d.getDwellUnder7d())
+                .addValue("dwellUnder14d", d.getDwellUnder14d())
+                .addValue("dwellUnder30d", d.getDwellUnder30d())
+                .addValue("dwellOver30d", d.getDwellOver30d());
+    }
+}
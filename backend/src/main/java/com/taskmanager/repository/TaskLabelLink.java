@@ -0,0 +1,11 @@
+package com.taskmanager.repository;
+
+/**
+ * Proyección de una fila de task_labels, usada para exportar sin cargar colecciones.
+ */
+public interface TaskLabelLink {
+
+    Long getTaskId();
+
+    Long getLabelId();
+}
@@ -0,0 +1,16 @@
+package com.taskmanager.repository;
+
+/**
+ * Etiqueta de una tarea con sus datos, para montar las respuestas de findColumns sin
+ * cargar la colección Task.labels.
+ */
+public interface TaskLabelRow {
+
+    Long getTaskId();
+
+    Long getLabelId();
+
+    String getName();
+
+    String getColor();
+}
@@ -1,15 +1,179 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.entity.Project;
 import com.taskmanager.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+
+    int STREAM_FETCH_SIZE = 500;
 
     List<Task> findByBoardIdOrderByPositionAsc(Long boardId);
 
     List<Task> findByAssigneeId(Long userId);
+
+    /**
+     * Recorre las tareas de un proyecto con un cursor del servidor.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee JOIN t.board b " +
+            "WHERE b.project.id = :projectId ORDER BY b.position ASC, t.position ASC")
+    Stream<Task> streamByProjectId(@Param("projectId") Long projectId);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("SELECT t.id AS taskId, l.id AS labelId FROM Task t JOIN t.labels l " +
+            "WHERE t.board.project.id = :projectId ORDER BY t.id ASC")
+    Stream<TaskLabelLink> streamLabelLinksByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Etiquetas de unas tareas, para las lecturas con ?fields= (findColumns). Solo las de las
+     * tareas que devolvió la consulta, así que un filtro también reduce esta; quien llama
+     * parte los ids en bloques (ver SparseTaskReads).
+     */
+    @Query("SELECT t.id AS taskId, l.id AS labelId, l.name AS name, l.color AS color " +
+            "FROM Task t JOIN t.labels l WHERE t.id IN :taskIds")
+    List<TaskLabelRow> findLabelRowsByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("SELECT MAX(t.position) FROM Task t WHERE t.board.id = :boardId")
+    Integer findMaxPositionByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * Tareas de los boards de terminadas sin cambios desde antes de cutoff, en orden de id
+     * para que el archivado avance por lotes.
+     */
+    @Query("SELECT t.id FROM Task t JOIN t.board b WHERE b.name IN :boardNames AND t.updatedAt < :cutoff " +
+            "AND b.project.deletedAt IS NULL ORDER BY t.id ASC")
+    List<Long> findArchivableIds(@Param("boardNames") Collection<String> boardNames,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    @Query("SELECT DISTINCT t.board.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findBoardIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Proyecto de la tarea, para validar el acceso sin cargar la tarea entera.
+     */
+    @Query("SELECT b.project FROM Task t JOIN t.board b WHERE t.id = :taskId")
+    Optional<Project> findProjectByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * findArchivableIds repetida sobre unos candidatos con sus boards ya bloqueados: descarta
+     * las tareas que entretanto salieron de esos boards o se editaron.
+     */
+    @Query("SELECT t.id FROM Task t JOIN t.board b WHERE t.id IN :ids AND b.id IN :boardIds " +
+            "AND b.name IN :boardNames AND t.updatedAt < :cutoff AND b.project.deletedAt IS NULL ORDER BY t.id ASC")
+    List<Long> findArchivableIdsIn(@Param("ids") Collection<Long> ids,
+                                   @Param("boardIds") Collection<Long> boardIds,
+                                   @Param("boardNames") Collection<String> boardNames,
+                                   @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT DISTINCT t FROM Task t JOIN FETCH t.board b JOIN FETCH b.project LEFT JOIN FETCH t.labels " +
+            "LEFT JOIN FETCH t.assignee WHERE t.id IN :ids")
+    List<Task> findAllWithLabelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "task_labels"))
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteLabelLinksByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Búsqueda de texto completo sobre tasks.search_vector (ver db/search.sql), limitada a
+     * los proyectos activos del usuario. Ordena por relevancia y pagina por (rank, id):
+     * para la primera página se pasa afterRank = Float.MAX_VALUE y afterId = 0.
+     */
+    @Query(value = "SELECT t.id AS \"taskId\", t.title AS \"title\", t.priority AS \"priority\", " +
+            "t.due_date AS \"dueDate\", b.id AS \"boardId\", b.name AS \"boardName\", " +
+            "p.id AS \"projectId\", p.name AS \"projectName\", ts_rank_cd(t.search_vector, q.query) AS \"rank\" " +
+            "FROM tasks t " +
+            "JOIN boards b ON b.id = t.board_id " +
+            "JOIN projects p ON p.id = b.project_id " +
+            "CROSS JOIN to_tsquery('simple', :query) AS q(query) " +
+            "WHERE t.search_vector @@ q.query " +
+            "AND p.deleted_at IS NULL " +
+            "AND (p.owner_id = :userId OR EXISTS (" +
+            "SELECT 1 FROM project_members pm WHERE pm.project_id = p.id AND pm.user_id = :userId)) " +
+            "AND (ts_rank_cd(t.search_vector, q.query) < :afterRank " +
+            "OR (ts_rank_cd(t.search_vector, q.query) = :afterRank AND t.id > :afterId)) " +
+            "ORDER BY \"rank\" DESC, t.id ASC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<TaskSearchRow> search(@Param("userId") Long userId,
+                               @Param("query") String tsQuery,
+                               @Param("afterRank") float afterRank,
+                               @Param("afterId") long afterId,
+                               @Param("limit") int limit);
+
+    /**
+     * Tareas asignadas al usuario en sus proyectos activos, ordenadas por fecha límite (sin
+     * fecha al final), prioridad e id. Pagina por keyset sobre esas tres claves: para la
+     * primera página se pasa afterDueKey = 0001-01-01, afterPriorityRank = -1 y afterId = 0.
+     */
+    @Query(value = "SELECT * FROM (" +
+            "SELECT t.id AS \"taskId\", t.title AS \"title\", t.priority AS \"priority\", " +
+            "t.due_date AS \"dueDate\", b.id AS \"boardId\", b.name AS \"boardName\", " +
+            "p.id AS \"projectId\", p.name AS \"projectName\", " +
+            "COALESCE(t.due_date, DATE '9999-12-31') AS \"dueKey\", " +
+            "CASE t.priority WHEN 'URGENT' THEN 0 WHEN 'HIGH' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'LOW' THEN 3 ELSE 4 END " +
+            "AS \"priorityRank\" " +
+            "FROM tasks t " +
+            "JOIN boards b ON b.id = t.board_id " +
+            "JOIN projects p ON p.id = b.project_id " +
+            "WHERE t.assignee_id = :userId " +
+            "AND p.deleted_at IS NULL " +
+            "AND (p.owner_id = :userId OR EXISTS (" +
+            "SELECT 1 FROM project_members pm WHERE pm.project_id = p.id AND pm.user_id = :userId))" +
+            ") mine " +
+            "WHERE (mine.\"dueKey\", mine.\"priorityRank\", mine.\"taskId\") > (:afterDueKey, :afterPriorityRank, :afterId) " +
+            "ORDER BY mine.\"dueKey\" ASC, mine.\"priorityRank\" ASC, mine.\"taskId\" ASC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<AssignedTaskRow> findAssignedToUser(@Param("userId") Long userId,
+                                             @Param("afterDueKey") LocalDate afterDueKey,
+                                             @Param("afterPriorityRank") int afterPriorityRank,
+                                             @Param("afterId") long afterId,
+                                             @Param("limit") int limit);
+
+    /**
+     * Tareas con fecha límite en [from, to] de proyectos no eliminados, paginadas por (due_date, id) sobre
+     * idx_tasks_due_date. Para la primera página se pasa afterDueDate = from - 1 día y afterId = 0.
+     */
+    @Query("SELECT t.id AS id, t.dueDate AS dueDate, a.id AS assigneeId, b.project.id AS projectId " +
+            "FROM Task t JOIN t.board b LEFT JOIN t.assignee a " +
+            "WHERE t.dueDate >= :from AND t.dueDate <= :to " +
+            "AND (t.dueDate > :afterDueDate OR (t.dueDate = :afterDueDate AND t.id > :afterId)) " +
+            "AND b.project.deletedAt IS NULL " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskDueRow> findDueBetween(@Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    @Param("afterDueDate") LocalDate afterDueDate,
+                                    @Param("afterId") long afterId,
+                                    Pageable pageable);
+
+    /**
+     * Estado actual de unas tareas al vencer su temporizador; las de proyectos eliminados no salen.
+     */
+    @Query("SELECT t.id AS id, t.dueDate AS dueDate, a.id AS assigneeId, b.project.id AS projectId " +
+            "FROM Task t JOIN t.board b LEFT JOIN t.assignee a WHERE t.id IN :ids AND b.project.deletedAt IS NULL")
+    List<TaskDueRow> findDueRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
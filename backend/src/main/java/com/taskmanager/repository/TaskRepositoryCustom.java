@@ -0,0 +1,19 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Tareas que cumplen spec, seleccionando solo las columnas de los atributos pedidos
+     * (title, description, priority, position, dueDate, createdAt y assignee, que añade un
+     * LEFT JOIN con users). El id y el board se seleccionan siempre. Así una lectura que no
+     * muestra la descripción no lee la columna TEXT.
+     */
+    List<TaskColumnsRow> findColumns(Specification<Task> spec, Set<String> attributes, Sort sort);
+}
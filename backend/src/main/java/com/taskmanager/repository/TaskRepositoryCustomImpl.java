@@ -0,0 +1,93 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final List<String> SCALAR_ATTRIBUTES = List.of(
+            "title", "description", "priority", "position", "dueDate", "createdAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskColumnsRow> findColumns(Specification<Task> spec, Set<String> attributes, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        Set<String> selected = new HashSet<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias("id"));
+        selections.add(root.get("board").get("id").alias("boardId"));
+        for (String attribute : SCALAR_ATTRIBUTES) {
+            if (attributes.contains(attribute)) {
+                selections.add(root.get(attribute).alias(attribute));
+                selected.add(attribute);
+            }
+        }
+        if (attributes.contains("assignee")) {
+            Join<Task, User> assignee = root.join("assignee", JoinType.LEFT);
+            selections.add(assignee.get("id").alias("assigneeId"));
+            selections.add(assignee.get("email").alias("assigneeEmail"));
+            selections.add(assignee.get("fullName").alias("assigneeFullName"));
+            selections.add(assignee.get("role").alias("assigneeRole"));
+            selected.add("assignee");
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query).getResultStream()
+                .map(tuple -> toRow(tuple, selected))
+                .toList();
+    }
+
+    private static TaskColumnsRow toRow(Tuple tuple, Set<String> selected) {
+        boolean assignee = selected.contains("assignee");
+        return new TaskColumnsRow(
+                tuple.get("id", Long.class),
+                tuple.get("boardId", Long.class),
+                value(tuple, selected, "title", String.class),
+                value(tuple, selected, "description", String.class),
+                value(tuple, selected, "priority", Priority.class),
+                value(tuple, selected, "position", Integer.class),
+                value(tuple, selected, "dueDate", LocalDate.class),
+                value(tuple, selected, "createdAt", LocalDateTime.class),
+                assignee ? tuple.get("assigneeId", Long.class) : null,
+                assignee ? tuple.get("assigneeEmail", String.class) : null,
+                assignee ? tuple.get("assigneeFullName", String.class) : null,
+                assignee ? tuple.get("assigneeRole", Role.class) : null);
+    }
+
+    private static <T> T value(Tuple tuple, Set<String> selected, String alias, Class<T> type) {
+        return selected.contains(alias) ? tuple.get(alias, type) : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Fila del resultado de la búsqueda de texto completo sobre tareas.
+ */
+public interface TaskSearchRow {
+
+    Long getTaskId();
+
+    String getTitle();
+
+    String getPriority();
+
+    LocalDate getDueDate();
+
+    Long getBoardId();
+
+    String getBoardName();
+
+    Long getProjectId();
+
+    String getProjectName();
+
+    Float getRank();
+}
@@ -0,0 +1,79 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.Label;
+import com.taskmanager.entity.Task;
+import com.taskmanager.enums.Priority;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Criterios combinables sobre Task. Cada uno se apoya en un índice que empieza por
+ * board_id (ver Task) o en task_labels(label_id, task_id).
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> withId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<Task> inBoards(Collection<Long> boardIds) {
+        return (root, query, cb) -> root.get("board").get("id").in(boardIds);
+    }
+
+    public static Specification<Task> assignedTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), userId);
+    }
+
+    public static Specification<Task> unassigned() {
+        return (root, query, cb) -> cb.isNull(root.get("assignee"));
+    }
+
+    public static Specification<Task> withPriority(Priority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), to);
+    }
+
+    /**
+     * EXISTS en lugar de JOIN para no duplicar tareas que tengan varias de las etiquetas.
+     */
+    public static Specification<Task> hasAnyLabel(Collection<Long> labelIds) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Task> labelled = subquery.from(Task.class);
+            Join<Task, Label> label = labelled.join("labels");
+            subquery.select(labelled.get("id"))
+                    .where(cb.equal(labelled, root), label.get("id").in(labelIds));
+            return cb.exists(subquery);
+        };
+    }
+
+    /**
+     * Carga responsable y etiquetas en la misma consulta para mapear la respuesta sin N+1.
+     */
+    public static Specification<Task> fetchAssigneeAndLabels() {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                root.fetch("assignee", JoinType.LEFT);
+                root.fetch("labels", JoinType.LEFT);
+                query.distinct(true);
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,217 @@
+package com.taskmanager.scheduling;
+
+import com.taskmanager.config.ActivityProperties;
+import com.taskmanager.config.SchedulingConfig;
+import com.taskmanager.entity.ActivityEntry;
+import com.taskmanager.enums.ActivityAction;
+import com.taskmanager.enums.AuditDurability;
+import com.taskmanager.event.AuditEvent;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.repository.ActivityJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Escribe activity_log. Los cambios confirmados de tareas y, con audit-durability ASYNC,
+ * los de auditoría se dejan en un MpscRingBuffer y se insertan por lotes desde el
+ * planificador, así que la petición solo paga el encolado.
+ *
+ * Si el buffer está lleno, el hilo que encola pide un vaciado inmediato a
+ * BUFFER_FLUSH_SCHEDULER y espera hueco como mucho offer-timeout; pasado ese tiempo la
+ * entrada se descarta y se cuenta en buffer.entries.dropped. No escribe él mismo: encola
+ * desde listeners AFTER_COMMIT, con la conexión de la transacción terminada aún ligada.
+ * Los lotes se insertan en una transacción propia (REQUIRES_NEW).
+ *
+ * Con audit-durability SYNC la auditoría no pasa por el buffer y se inserta en la
+ * transacción del cambio.
+ */
+@Slf4j
+@Component
+public class ActivityLogWriter {
+
+    private static final long OFFER_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ActivityJdbcRepository activityRepository;
+    private final ActivityProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler flushScheduler;
+    private final Counter dropped;
+    private final MpscRingBuffer<ActivityEntry> buffer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public ActivityLogWriter(ActivityJdbcRepository activityRepository,
+                             ActivityProperties properties,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier(SchedulingConfig.BUFFER_FLUSH_SCHEDULER) TaskScheduler flushScheduler,
+                             MeterRegistry meterRegistry) {
+        this.activityRepository = activityRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushScheduler = flushScheduler;
+        this.dropped = meterRegistry.counter("buffer.entries.dropped", "buffer", "activity");
+        this.buffer = new MpscRingBuffer<>(properties.getBufferSize());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (properties.isEnabled()) {
+            enqueue(toEntry(event));
+        }
+    }
+
+    /**
+     * Se ejecuta al publicar el evento, dentro de la transacción del cambio si la hay.
+     */
+    @EventListener
+    public void onAudit(AuditEvent event) {
+        if (properties.isEnabled() && properties.getAuditDurability() == AuditDurability.SYNC) {
+            activityRepository.insertAll(List.of(toEntry(event)));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuditCommitted(AuditEvent event) {
+        if (properties.isEnabled() && properties.getAuditDurability() == AuditDurability.ASYNC) {
+            enqueue(toEntry(event));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.activity.flush-interval:PT0.5S}", scheduler = SchedulingConfig.BUFFER_FLUSH_SCHEDULER)
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<ActivityEntry> batch = new ArrayList<>(properties.getBatchSize());
+            while (buffer.drain(batch::add, properties.getBatchSize()) > 0) {
+                write(batch);
+                batch = new ArrayList<>(properties.getBatchSize());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    int pending() {
+        return buffer.size();
+    }
+
+    private void enqueue(ActivityEntry entry) {
+        if (buffer.offer(entry)) {
+            return;
+        }
+
+        requestFlush();
+        long deadline = System.nanoTime() + properties.getOfferTimeout().toNanos();
+        while (System.nanoTime() - deadline < 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(OFFER_RETRY_NANOS);
+            if (buffer.offer(entry)) {
+                return;
+            }
+        }
+        dropped.increment();
+        log.warn("Buffer de actividad lleno; se descarta la entrada {} del proyecto {}",
+                entry.getAction(), entry.getProjectId());
+    }
+
+    /**
+     * Pide un vaciado fuera de turno; si ya hay uno pedido que no ha empezado, no encola otro.
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushScheduler.schedule(() -> {
+                flushRequested.set(false);
+                flush();
+            }, Instant.now());
+        } catch (TaskRejectedException e) {
+            // Planificador parado (apagado): vacía shutdown()
+            flushRequested.set(false);
+        }
+    }
+
+    private void write(List<ActivityEntry> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> activityRepository.insertAll(batch));
+        } catch (RuntimeException e) {
+            log.error("Se descartan {} entradas de actividad: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    // --- Mappers ---
+
+    static ActivityEntry toEntry(TaskChangedEvent event) {
+        TaskSnapshot before = event.getBefore();
+        TaskSnapshot after = event.getAfter();
+        TaskSnapshot current = after != null ? after : before;
+
+        String details = switch (event.getType()) {
+            case MOVED -> Objects.equals(before.getBoardId(), after.getBoardId())
+                    ? "board " + after.getBoardId()
+                    : "board " + before.getBoardId() + " -> " + after.getBoardId();
+            case UPDATED -> changedFields(before, after);
+            default -> null;
+        };
+
+        return ActivityEntry.builder()
+                .projectId(event.getProjectId())
+                .actorId(event.getActorId())
+                .action(ActivityAction.valueOf("TASK_" + event.getType().name()))
+                .taskId(event.getTaskId())
+                .taskTitle(current.getTitle())
+                .details(details)
+                .occurredAt(event.getAt())
+                .build();
+    }
+
+    static ActivityEntry toEntry(AuditEvent event) {
+        return ActivityEntry.builder()
+                .projectId(event.getProjectId())
+                .actorId(event.getActorId())
+                .action(ActivityAction.valueOf(event.getType().name()))
+                .targetUserId(event.getTargetUserId())
+                .details(event.getDetails())
+                .occurredAt(event.getAt())
+                .build();
+    }
+
+    private static String changedFields(TaskSnapshot before, TaskSnapshot after) {
+        List<String> fields = new ArrayList<>();
+        if (!Objects.equals(before.getTitle(), after.getTitle())) fields.add("title");
+        if (!Objects.equals(before.getPriority(), after.getPriority())) fields.add("priority");
+        if (!Objects.equals(before.getAssigneeId(), after.getAssigneeId())) fields.add("assignee");
+        if (!Objects.equals(before.getDueDate(), after.getDueDate())) fields.add("dueDate");
+        if (!Objects.equals(before.getBoardId(), after.getBoardId())) fields.add("board");
+        return fields.isEmpty() ? null : String.join(", ", fields);
+    }
+}
@@ -0,0 +1,202 @@
+package com.taskmanager.scheduling;
+
+import com.taskmanager.config.DueDateProperties;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskDueEvent;
+import com.taskmanager.repository.TaskDueRow;
+import com.taskmanager.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Publica TaskDueEvent cuando se acerca (REMINDER) o vence (OVERDUE) la fecha límite de
+ * una tarea.
+ *
+ * Solo las tareas con fecha dentro de app.due-dates.window están en memoria, en una
+ * HierarchicalTimingWheel. La ventana se amplía periódicamente leyendo únicamente los días
+ * nuevos por el índice de due_date, y los cambios de TaskService la mantienen al día. Al
+ * arrancar se reconstruye con la misma consulta. Los avisos cuyo momento pasó con la
+ * aplicación parada no se reenvían.
+ */
+@Slf4j
+@Component
+public class DueDateScheduler {
+
+    record DueTimer(Long taskId, TaskDueEvent.Type type) {
+    }
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DueDateProperties properties;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<DueTimer> wheel;
+
+    private volatile LocalDate loadedUntil;
+
+    @Autowired
+    public DueDateScheduler(TaskRepository taskRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            DueDateProperties properties) {
+        this(taskRepository, eventPublisher, properties, Clock.system(properties.getZone()));
+    }
+
+    DueDateScheduler(TaskRepository taskRepository,
+                     ApplicationEventPublisher eventPublisher,
+                     DueDateProperties properties,
+                     Clock clock) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(
+                properties.getTick().toMillis(), properties.getWheelSize(), clock.millis());
+    }
+
+    /**
+     * La primera ejecución carga desde hoy; las siguientes solo los días que entran en la ventana.
+     */
+    @Scheduled(fixedDelayString = "${app.due-dates.refresh-interval:PT1H}")
+    public void refreshWindow() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        LocalDate horizon = horizon();
+        LocalDate from = loadedUntil == null ? LocalDate.now(clock) : loadedUntil.plusDays(1);
+        if (from.isAfter(horizon)) {
+            return;
+        }
+
+        int loaded = 0;
+        LocalDate afterDueDate = from.minusDays(1);
+        long afterId = 0;
+        PageRequest page = PageRequest.of(0, properties.getLoadBatchSize());
+        List<TaskDueRow> rows;
+        do {
+            rows = taskRepository.findDueBetween(from, horizon, afterDueDate, afterId, page);
+            for (TaskDueRow row : rows) {
+                scheduleTimers(row.getId(), row.getDueDate());
+            }
+            loaded += rows.size();
+            if (!rows.isEmpty()) {
+                TaskDueRow last = rows.get(rows.size() - 1);
+                afterDueDate = last.getDueDate();
+                afterId = last.getId();
+            }
+        } while (rows.size() == properties.getLoadBatchSize());
+
+        loadedUntil = horizon;
+        log.debug("Ventana de fechas límite {} - {}: {} tareas, {} temporizadores", from, horizon, loaded, wheel.size());
+    }
+
+    @Scheduled(fixedRateString = "${app.due-dates.tick:PT1S}")
+    public void tick() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<DueTimer> expired = wheel.advanceTo(clock.millis());
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        // Se comprueba contra la base de datos por si la tarea cambió, se borró o se eliminó su proyecto sin evento
+        List<Long> taskIds = expired.stream().map(DueTimer::taskId).distinct().toList();
+        Map<Long, TaskDueRow> current = taskRepository.findDueRowsByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(TaskDueRow::getId, Function.identity()));
+
+        Instant now = clock.instant();
+        for (DueTimer timer : expired) {
+            TaskDueRow row = current.get(timer.taskId());
+            if (row == null || row.getDueDate() == null) {
+                continue;
+            }
+            Instant moment = momentFor(timer.type(), row.getDueDate());
+            if (moment.isAfter(now)) {
+                wheel.schedule(timer, moment.toEpochMilli());
+                continue;
+            }
+            eventPublisher.publishEvent(TaskDueEvent.builder()
+                    .type(timer.type())
+                    .taskId(row.getId())
+                    .projectId(row.getProjectId())
+                    .assigneeId(row.getAssigneeId())
+                    .dueDate(row.getDueDate())
+                    .build());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        if (event.getAfter() == null) {
+            cancelTimers(event.getTaskId());
+            return;
+        }
+
+        LocalDate previous = event.getBefore() != null ? event.getBefore().getDueDate() : null;
+        LocalDate dueDate = event.getAfter().getDueDate();
+        if (event.getType() != TaskChangedEvent.Type.CREATED && Objects.equals(previous, dueDate)) {
+            return;
+        }
+
+        if (dueDate == null || dueDate.isAfter(horizon())) {
+            cancelTimers(event.getTaskId());
+        } else {
+            scheduleTimers(event.getTaskId(), dueDate);
+        }
+    }
+
+    int pendingTimers() {
+        return wheel.size();
+    }
+
+    private void scheduleTimers(Long taskId, LocalDate dueDate) {
+        long now = clock.millis();
+        for (TaskDueEvent.Type type : TaskDueEvent.Type.values()) {
+            DueTimer timer = new DueTimer(taskId, type);
+            long moment = momentFor(type, dueDate).toEpochMilli();
+            if (moment > now) {
+                wheel.schedule(timer, moment);
+            } else {
+                wheel.cancel(timer);
+            }
+        }
+    }
+
+    private void cancelTimers(Long taskId) {
+        for (TaskDueEvent.Type type : TaskDueEvent.Type.values()) {
+            wheel.cancel(new DueTimer(taskId, type));
+        }
+    }
+
+    /**
+     * La fecha límite vence al terminar ese día en app.due-dates.zone.
+     */
+    private Instant momentFor(TaskDueEvent.Type type, LocalDate dueDate) {
+        Instant overdueAt = dueDate.plusDays(1).atStartOfDay(properties.getZone()).toInstant();
+        return type == TaskDueEvent.Type.OVERDUE ? overdueAt : overdueAt.minus(properties.getReminderLead());
+    }
+
+    private LocalDate horizon() {
+        return LocalDate.now(clock).plusDays(Math.max(1, properties.getWindow().toDays()));
+    }
+}
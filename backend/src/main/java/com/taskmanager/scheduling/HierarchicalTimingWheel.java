@@ -0,0 +1,231 @@
+package com.taskmanager.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rueda de temporizadores jerárquica (el esquema de Kafka): el primer nivel tiene
+ * wheelSize buckets de tickMs, y cada nivel superior usa como tick el intervalo completo
+ * del anterior. Programar y cancelar cuesta O(1) y avanzar el reloj solo toca los buckets
+ * que vencen, así que el coste no depende del número de temporizadores pendientes.
+ *
+ * Cada clave tiene como mucho un temporizador; volver a programarla sustituye el anterior.
+ * Un temporizador nunca vence antes de su deadline y como mucho un tick después.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level<K>> levels = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final List<K> ready = new ArrayList<>();
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs debe ser positivo y wheelSize al menos 2");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        levels.add(new Level<>(tickMs, wheelSize, startMs));
+    }
+
+    /**
+     * Programa (o reprograma) la clave. Si el deadline ya ha pasado, la clave se devuelve en
+     * la siguiente llamada a advanceTo.
+     */
+    public void schedule(K key, long deadlineMs) {
+        lock.lock();
+        try {
+            remove(key);
+            // Se redondea hacia arriba para no vencer nunca antes del deadline
+            Entry<K> entry = new Entry<>(key, deadlineMs + tickMs - 1);
+            entries.put(key, entry);
+            insert(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean cancel(K key) {
+        lock.lock();
+        try {
+            return remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean contains(K key) {
+        lock.lock();
+        try {
+            return entries.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Avanza el reloj hasta nowMs y devuelve las claves vencidas, que dejan de estar programadas.
+     */
+    public List<K> advanceTo(long nowMs) {
+        lock.lock();
+        try {
+            Level<K> first = levels.get(0);
+            while (first.currentTime + tickMs <= nowMs) {
+                long time = first.currentTime + tickMs;
+                // Todos los relojes primero: lo que se reinserta debe ver el tiempo nuevo
+                for (Level<K> level : levels) {
+                    level.currentTime = time - (time % level.tickMs);
+                }
+                // De arriba abajo: lo que baja de un nivel puede vencer en el mismo tick
+                for (int i = levels.size() - 1; i >= 0; i--) {
+                    Level<K> level = levels.get(i);
+                    Bucket<K> bucket = level.bucketFor(time);
+                    if (bucket.expiration == time) {
+                        for (Entry<K> entry : bucket.drain()) {
+                            insert(entry);
+                        }
+                    }
+                }
+            }
+
+            List<K> expired = new ArrayList<>(ready);
+            ready.clear();
+            expired.forEach(entries::remove);
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void insert(Entry<K> entry) {
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level<K> below = levels.get(i - 1);
+                levels.add(new Level<>(below.interval, wheelSize, below.currentTime));
+            }
+            Level<K> level = levels.get(i);
+            if (entry.deadline < level.currentTime + level.tickMs) {
+                // Solo ocurre en el primer nivel: en los superiores ya lo habría aceptado uno inferior
+                ready.add(entry.key);
+                return;
+            }
+            if (entry.deadline < level.currentTime + level.interval) {
+                level.add(entry);
+                return;
+            }
+        }
+    }
+
+    private boolean remove(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.bucket != null) {
+            entry.bucket.unlink(entry);
+        } else {
+            ready.remove(key);
+        }
+        return true;
+    }
+
+    private static final class Level<K> {
+
+        private final long tickMs;
+        private final long interval;
+        private final Bucket<K>[] buckets;
+        private long currentTime;
+
+        @SuppressWarnings("unchecked")
+        Level(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+            this.currentTime = startMs - (startMs % tickMs);
+        }
+
+        Bucket<K> bucketFor(long time) {
+            return buckets[(int) ((time / tickMs) % buckets.length)];
+        }
+
+        void add(Entry<K> entry) {
+            long virtualId = entry.deadline / tickMs;
+            Bucket<K> bucket = buckets[(int) (virtualId % buckets.length)];
+            bucket.expiration = virtualId * tickMs;
+            bucket.link(entry);
+        }
+    }
+
+    /**
+     * Lista doblemente enlazada intrusiva para poder quitar una entrada en O(1).
+     */
+    private static final class Bucket<K> {
+
+        private final Entry<K> head = new Entry<>(null, -1);
+        private long expiration = -1;
+
+        Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        void link(Entry<K> entry) {
+            entry.bucket = this;
+            entry.prev = head.prev;
+            entry.next = head;
+            head.prev.next = entry;
+            head.prev = entry;
+        }
+
+        void unlink(Entry<K> entry) {
+            entry.prev.next = entry.next;
+            entry.next.prev = entry.prev;
+            entry.prev = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+
+        List<Entry<K>> drain() {
+            List<Entry<K>> drained = new ArrayList<>();
+            for (Entry<K> e = head.next; e != head; ) {
+                Entry<K> next = e.next;
+                unlink(e);
+                drained.add(e);
+                e = next;
+            }
+            expiration = -1;
+            return drained;
+        }
+    }
+
+    private static final class Entry<K> {
+
+        private final K key;
+        private final long deadline;
+        private Bucket<K> bucket;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        Entry(K key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanager.scheduling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Cola acotada sin bloqueos para varios productores y un único consumidor, sobre un array
+ * circular de tamaño potencia de dos (esquema de secuencias por celda de Vyukov).
+ *
+ * Cada celda guarda una secuencia que indica si está libre para la vuelta actual de los
+ * productores o ya publicada para el consumidor. Los productores reservan posición con un
+ * CAS sobre tail y publican escribiendo la secuencia; offer devuelve false si la cola está
+ * llena, sin esperar. drain no es seguro entre varios hilos: quien lo use debe serializarlo.
+ */
+public class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser una potencia de dos: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // La celda sigue ocupada desde la vuelta anterior: llena
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Entrega hasta max elementos en orden de reserva. Se detiene en la primera celda
+     * reservada que su productor aún no ha publicado.
+     */
+    public int drain(Consumer<? super E> consumer, int max) {
+        long current = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) current & mask;
+            if (sequences.get(index) != current + 1) {
+                break;
+            }
+            E element = elements.get(index);
+            elements.lazySet(index, null);
+            sequences.set(index, current + mask + 1);
+            current++;
+            drained++;
+            consumer.accept(element);
+        }
+        head = current;
+        return drained;
+    }
+
+    /**
+     * Aproximado mientras haya productores activos.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
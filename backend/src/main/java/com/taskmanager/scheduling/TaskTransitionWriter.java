@@ -0,0 +1,243 @@
+package com.taskmanager.scheduling;
+
+import com.taskmanager.config.AnalyticsProperties;
+import com.taskmanager.config.SchedulingConfig;
+import com.taskmanager.entity.BoardFlowDaily;
+import com.taskmanager.entity.TaskTransition;
+import com.taskmanager.enums.DwellBucket;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.repository.TaskFlowJdbcRepository;
+import com.taskmanager.repository.TaskFlowJdbcRepository.LastTransition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Registra en task_transitions cada cambio de board de una tarea y mantiene los agregados
+ * de board_flow_daily.
+ *
+ * Los cambios confirmados se encolan en memoria y se escriben por lotes desde el
+ * planificador, de modo que mover una tarea no espera a estas escrituras. Si la cola se
+ * llena, el hilo que encola pide un vaciado inmediato a BUFFER_FLUSH_SCHEDULER y espera
+ * hueco como mucho offer-timeout; pasado ese tiempo la transición se descarta y se cuenta
+ * en buffer.entries.dropped. Nunca escribe él mismo: el listener corre tras el commit, con
+ * la conexión de la transacción terminada aún ligada al hilo.
+ *
+ * Cada lote se escribe en una transacción propia (REQUIRES_NEW), también si flush() se
+ * llama desde un hilo con una transacción ya confirmada. Las transiciones pendientes se
+ * pierden si el proceso muere sin pasar por el apagado ordenado.
+ */
+@Slf4j
+@Component
+public class TaskTransitionWriter {
+
+    record DailyKey(Long projectId, Long boardId, LocalDate day) {
+    }
+
+    private final TaskFlowJdbcRepository flowRepository;
+    private final AnalyticsProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler flushScheduler;
+    private final Counter dropped;
+    private final BlockingQueue<TaskTransition> queue;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public TaskTransitionWriter(TaskFlowJdbcRepository flowRepository,
+                                AnalyticsProperties properties,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier(SchedulingConfig.BUFFER_FLUSH_SCHEDULER) TaskScheduler flushScheduler,
+                                MeterRegistry meterRegistry) {
+        this.flowRepository = flowRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushScheduler = flushScheduler;
+        this.dropped = meterRegistry.counter("buffer.entries.dropped", "buffer", "task-transitions");
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Long fromBoardId = event.getBefore() != null ? event.getBefore().getBoardId() : null;
+        Long toBoardId = event.getAfter() != null ? event.getAfter().getBoardId() : null;
+        if (Objects.equals(fromBoardId, toBoardId)) {
+            return;
+        }
+
+        TaskTransition transition = TaskTransition.builder()
+                .taskId(event.getTaskId())
+                .projectId(event.getProjectId())
+                .fromBoardId(fromBoardId)
+                .toBoardId(toBoardId)
+                .userId(event.getActorId())
+                .occurredAt(event.getAt())
+                .build();
+
+        if (queue.offer(transition)) {
+            return;
+        }
+
+        requestFlush();
+        try {
+            if (queue.offer(transition, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.increment();
+        log.warn("Cola de transiciones llena; se descarta el cambio de board de la tarea {}", transition.getTaskId());
+    }
+
+    /**
+     * Pide un vaciado fuera de turno; si ya hay uno pedido que no ha empezado, no encola otro.
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushScheduler.schedule(() -> {
+                flushRequested.set(false);
+                flush();
+            }, Instant.now());
+        } catch (TaskRejectedException e) {
+            // Planificador parado (apagado): vacía shutdown()
+            flushRequested.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval:PT1S}", scheduler = SchedulingConfig.BUFFER_FLUSH_SCHEDULER)
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<TaskTransition> batch = new ArrayList<>(properties.getBatchSize());
+            while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+                write(batch);
+                batch = new ArrayList<>(properties.getBatchSize());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    private void write(List<TaskTransition> batch) {
+        RuntimeException failure = null;
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeBatch(batch));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // Otra instancia creó a la vez alguna fila diaria; al repetir se actualiza
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = e;
+                break;
+            }
+        }
+        log.error("Se descartan {} transiciones de tareas: {}", batch.size(), failure.getMessage());
+    }
+
+    private void writeBatch(List<TaskTransition> batch) {
+        Set<Long> taskIds = batch.stream().map(TaskTransition::getTaskId).collect(Collectors.toSet());
+        Map<Long, LastTransition> last = flowRepository.findLastTransitions(taskIds);
+
+        flowRepository.insertTransitions(batch);
+        flowRepository.addDaily(aggregate(batch, last));
+    }
+
+    /**
+     * Agrupa el lote por (proyecto, board, día). La duración en el board que se abandona se
+     * mide desde la transición anterior de la misma tarea, del lote o ya guardada; si no
+     * hay ninguna (tareas anteriores al registro) la salida no entra en el histograma.
+     */
+    static List<BoardFlowDaily> aggregate(List<TaskTransition> batch, Map<Long, LastTransition> previous) {
+        Map<Long, LastTransition> last = new HashMap<>(previous);
+        Map<DailyKey, BoardFlowDaily> daily = new LinkedHashMap<>();
+
+        for (TaskTransition transition : batch) {
+            LocalDate day = transition.getOccurredAt().toLocalDate();
+
+            if (transition.getFromBoardId() != null) {
+                BoardFlowDaily row = row(daily, transition.getProjectId(), transition.getFromBoardId(), day);
+                row.setExited(row.getExited() + 1);
+
+                LastTransition entry = last.get(transition.getTaskId());
+                if (entry != null && transition.getFromBoardId().equals(entry.toBoardId())) {
+                    Duration dwell = Duration.between(entry.occurredAt(), transition.getOccurredAt());
+                    if (!dwell.isNegative()) {
+                        row.setDwellCount(row.getDwellCount() + 1);
+                        row.setDwellSeconds(row.getDwellSeconds() + dwell.getSeconds());
+                        addDwell(row, DwellBucket.of(dwell));
+                    }
+                }
+            }
+
+            if (transition.getToBoardId() != null) {
+                BoardFlowDaily row = row(daily, transition.getProjectId(), transition.getToBoardId(), day);
+                row.setEntered(row.getEntered() + 1);
+            }
+
+            last.put(transition.getTaskId(), new LastTransition(transition.getToBoardId(), transition.getOccurredAt()));
+        }
+
+        return new ArrayList<>(daily.values());
+    }
+
+    private static BoardFlowDaily row(Map<DailyKey, BoardFlowDaily> daily, Long projectId, Long boardId, LocalDate day) {
+        return daily.computeIfAbsent(new DailyKey(projectId, boardId, day), key -> BoardFlowDaily.builder()
+                .projectId(projectId)
+                .boardId(boardId)
+                .day(day)
+                .build());
+    }
+
+    private static void addDwell(BoardFlowDaily row, DwellBucket bucket) {
+        switch (bucket) {
+            case UNDER_1H -> row.setDwellUnder1h(row.getDwellUnder1h() + 1);
+            case UNDER_1D -> row.setDwellUnder1d(row.getDwellUnder1d() + 1);
+            case UNDER_3D -> row.setDwellUnder3d(row.getDwellUnder3d() + 1);
+            case UNDER_7D -> row.setDwellUnder7d(row.getDwellUnder7d() + 1);
+            case UNDER_14D -> row.setDwellUnder14d(row.getDwellUnder14d() + 1);
+            case UNDER_30D -> row.setDwellUnder30d(row.getDwellUnder30d() + 1);
+            case OVER_30D -> row.setDwellOver30d(row.getDwellOver30d() + 1);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.ActivityEntryResponse;
+import com.taskmanager.dto.ActivityFeedResponse;
+import com.taskmanager.entity.ActivityEntry;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.User;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.ActivityEntryRepository;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lectura del feed de actividad de un proyecto (lo escribe ActivityLogWriter), de la
+ * entrada más reciente a la más antigua.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ActivityEntryRepository activityRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+
+    @Transactional(readOnly = true)
+    public ActivityFeedResponse getProjectActivity(Long projectId, String cursor, int limit, User currentUser) {
+        if (limit < 1) {
+            throw new BadRequestException("El límite debe ser mayor que cero");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+
+        Project project = projectRepository.findActiveById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
+
+        validateMemberAccess(project, currentUser);
+
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                beforeId = Long.parseLong(KeysetCursor.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Cursor inválido");
+            }
+        }
+
+        // Se pide una fila de más para saber si hay página siguiente
+        List<ActivityEntry> entries = activityRepository.findByProjectIdAndIdLessThanOrderByIdDesc(
+                projectId, beforeId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        Map<Long, User> actors = userRepository.findAllById(entries.stream()
+                        .map(ActivityEntry::getActorId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return ActivityFeedResponse.builder()
+                .entries(entries.stream().map(e -> mapToResponse(e, actors.get(e.getActorId()))).collect(Collectors.toList()))
+                .nextCursor(hasMore ? KeysetCursor.encode(entries.get(entries.size() - 1).getId()) : null)
+                .build();
+    }
+
+    // --- Validación de acceso ---
+
+    private void validateMemberAccess(Project project, User currentUser) {
+        boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
+        boolean isMember = project.getMembers().stream()
+                .anyMatch(m -> m.getId().equals(currentUser.getId()));
+
+        if (!isOwner && !isMember) {
+            throw new AccessDeniedException("No tienes acceso a este proyecto");
+        }
+    }
+
+    // --- Mappers ---
+
+    private ActivityEntryResponse mapToResponse(ActivityEntry entry, User actor) {
+        return ActivityEntryResponse.builder()
+                .id(entry.getId())
+                .action(entry.getAction().name())
+                .actorId(entry.getActorId())
+                .actorName(actor != null ? actor.getFullName() : null)
+                .taskId(entry.getTaskId())
+                .taskTitle(entry.getTaskTitle())
+                .targetUserId(entry.getTargetUserId())
+                .details(entry.getDetails())
+                .occurredAt(entry.getOccurredAt().toString())
+                .build();
+    }
+}
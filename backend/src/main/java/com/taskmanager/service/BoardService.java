@@ -1,6 +1,7 @@
 package com.taskmanager.service;
 
 import com.taskmanager.dto.BoardRequest;
+import com.taskmanager.dto.BoardResponse;
 import com.taskmanager.dto.BoardReorderRequest;
 import com.taskmanager.entity.Board;
 import com.taskmanager.entity.Project;
@@ -16,6 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,12 +28,14 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final ProjectRepository projectRepository;
     private final PermissionService permissionService;
+    private final ProjectStatsService projectStatsService;
+    private final ProjectVersionTracker versionTracker;
 
     @Transactional
-    public Board createBoard(Long projectId, BoardRequest request, User currentUser) {
+    public BoardResponse createBoard(Long projectId, BoardRequest request, User currentUser) {
         permissionService.checkPermission(currentUser, Permission.BOARD_CREATE);
 
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findActiveById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
 
         validateMemberAccess(project, currentUser);
@@ -45,11 +51,12 @@ public class BoardService {
                 .tasks(new ArrayList<>())
                 .build();
 
-        return boardRepository.save(board);
+        versionTracker.invalidate(projectId);
+        return mapToResponse(boardRepository.save(board));
     }
 
     @Transactional
-    public Board updateBoard(Long boardId, BoardRequest request, User currentUser) {
+    public BoardResponse updateBoard(Long boardId, BoardRequest request, User currentUser) {
         permissionService.checkPermission(currentUser, Permission.BOARD_EDIT);
 
         Board board = boardRepository.findById(boardId)
@@ -58,7 +65,8 @@ public class BoardService {
         validateMemberAccess(board.getProject(), currentUser);
 
         board.setName(request.getName());
-        return boardRepository.save(board);
+        versionTracker.invalidate(board.getProject().getId());
+        return mapToResponse(boardRepository.save(board));
     }
 
     @Transactional
@@ -70,26 +78,49 @@ public class BoardService {
 
         validateMemberAccess(board.getProject(), currentUser);
 
+        // Las tareas se borran en cascada sin eventos, así que los contadores se rehacen
         boardRepository.delete(board);
+        projectStatsService.invalidate(board.getProject().getId());
+        versionTracker.invalidate(board.getProject().getId());
     }
 
     @Transactional
     public void reorderBoards(Long projectId, BoardReorderRequest request, User currentUser) {
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findActiveById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
 
         validateMemberAccess(project, currentUser);
 
         List<Long> boardIds = request.getBoardIds();
+        Map<Long, Board> boards = boardRepository.findAllById(boardIds).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
         for (int i = 0; i < boardIds.size(); i++) {
-            Board board = boardRepository.findById(boardIds.get(i))
-                    .orElseThrow(() -> new ResourceNotFoundException("Board no encontrado"));
+            Board board = boards.get(boardIds.get(i));
+            if (board == null) {
+                throw new ResourceNotFoundException("Board no encontrado");
+            }
             board.setPosition(i);
-            boardRepository.save(board);
         }
+        boardRepository.saveAll(boards.values());
+        versionTracker.invalidate(projectId);
+    }
+
+    /**
+     * Solo los datos del board: las tareas se piden con GET /boards/{id}/tasks.
+     */
+    private BoardResponse mapToResponse(Board board) {
+        return BoardResponse.builder()
+                .id(board.getId())
+                .name(board.getName())
+                .position(board.getPosition())
+                .build();
     }
 
     private void validateMemberAccess(Project project, User currentUser) {
+        if (project.getDeletedAt() != null) {
+            throw new ResourceNotFoundException("Proyecto no encontrado con id: " + project.getId());
+        }
+
         boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
         boolean isMember = project.getMembers().stream()
                 .anyMatch(m -> m.getId().equals(currentUser.getId()));
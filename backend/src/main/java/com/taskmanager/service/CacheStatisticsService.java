@@ -0,0 +1,56 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.CacheRegionStatsResponse;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Permission;
+import com.taskmanager.exception.ServiceUnavailableException;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Expone las estadísticas de Hibernate de la cache de segundo nivel por región. Solo hay
+ * datos con hibernate.generate_statistics=true, que está desactivado por defecto; sin ellas
+ * responde 503. Los aciertos por región se publican siempre en Prometheus (ver
+ * SecondLevelCacheMetrics).
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final PermissionService permissionService;
+
+    public List<CacheRegionStatsResponse> getRegionStats(User currentUser) {
+        permissionService.checkPermission(currentUser, Permission.ROLE_ASSIGN);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new ServiceUnavailableException("Las estadísticas de Hibernate están desactivadas "
+                    + "(spring.jpa.properties.hibernate.generate_statistics)");
+        }
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> mapToResponse(region, statistics.getDomainDataRegionStatistics(region)))
+                .toList();
+    }
+
+    private CacheRegionStatsResponse mapToResponse(String region, CacheRegionStatistics stats) {
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        long lookups = hits + misses;
+        return CacheRegionStatsResponse.builder()
+                .region(region)
+                .hits(hits)
+                .misses(misses)
+                .puts(stats.getPutCount())
+                .hitRatio(lookups == 0 ? 0.0 : (double) hits / lookups)
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.ArchiveProperties;
+import com.taskmanager.dto.*;
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.BoardFlowDaily;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.DwellBucket;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.BoardFlowDailyRepository;
+import com.taskmanager.repository.BoardFlowNetRow;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Flujo acumulado, tiempo en columna y throughput semanal de un proyecto. Todo se calcula
+ * a partir de board_flow_daily (ver TaskTransitionWriter), nunca recorriendo task_transitions.
+ * Las transiciones anteriores a la puesta en marcha del registro no existen, así que las
+ * tareas creadas antes no aparecen en el flujo acumulado hasta que cambian de board.
+ */
+@Service
+@RequiredArgsConstructor
+public class FlowAnalyticsService {
+
+    private static final int DEFAULT_RANGE_DAYS = 90;
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final BoardFlowDailyRepository flowRepository;
+    private final ProjectRepository projectRepository;
+    private final BoardRepository boardRepository;
+    private final ArchiveProperties archiveProperties;
+
+    @Transactional(readOnly = true)
+    public CumulativeFlowResponse getCumulativeFlow(Long projectId, String from, String to, User currentUser) {
+        DateRange range = parseRange(from, to);
+        List<Board> boards = loadBoards(projectId, currentUser);
+
+        Map<Long, Long> running = new HashMap<>();
+        for (BoardFlowNetRow row : flowRepository.sumNetBefore(projectId, range.from())) {
+            running.put(row.getBoardId(), row.getNet());
+        }
+
+        Map<LocalDate, List<BoardFlowDaily>> byDay = flowRepository
+                .findByProjectIdAndDayBetweenOrderByDayAsc(projectId, range.from(), range.to()).stream()
+                .collect(Collectors.groupingBy(BoardFlowDaily::getDay));
+
+        List<CumulativeFlowPoint> points = new ArrayList<>();
+        for (LocalDate day = range.from(); !day.isAfter(range.to()); day = day.plusDays(1)) {
+            for (BoardFlowDaily row : byDay.getOrDefault(day, List.of())) {
+                running.merge(row.getBoardId(), row.getEntered() - row.getExited(), Long::sum);
+            }
+            points.add(CumulativeFlowPoint.builder()
+                    .date(day.toString())
+                    .counts(boards.stream().map(b -> running.getOrDefault(b.getId(), 0L)).collect(Collectors.toList()))
+                    .build());
+        }
+
+        return CumulativeFlowResponse.builder()
+                .from(range.from().toString())
+                .to(range.to().toString())
+                .boards(boards.stream()
+                        .map(b -> BoardTaskCount.builder()
+                                .boardId(b.getId())
+                                .boardName(b.getName())
+                                .count(running.getOrDefault(b.getId(), 0L))
+                                .build())
+                        .collect(Collectors.toList()))
+                .points(points)
+                .build();
+    }
+
+    /**
+     * Histograma del tiempo que pasaron en cada board las tareas que salieron de él en el rango.
+     */
+    @Transactional(readOnly = true)
+    public List<ColumnTimeStats> getTimeInColumn(Long projectId, String from, String to, User currentUser) {
+        DateRange range = parseRange(from, to);
+        List<Board> boards = loadBoards(projectId, currentUser);
+
+        Map<Long, List<BoardFlowDaily>> byBoard = flowRepository
+                .findByProjectIdAndDayBetweenOrderByDayAsc(projectId, range.from(), range.to()).stream()
+                .collect(Collectors.groupingBy(BoardFlowDaily::getBoardId));
+
+        List<ColumnTimeStats> result = new ArrayList<>();
+        for (Board board : boards) {
+            List<BoardFlowDaily> rows = byBoard.getOrDefault(board.getId(), List.of());
+            long count = rows.stream().mapToLong(BoardFlowDaily::getDwellCount).sum();
+            long seconds = rows.stream().mapToLong(BoardFlowDaily::getDwellSeconds).sum();
+
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (DwellBucket bucket : DwellBucket.values()) {
+                histogram.put(bucket.getLabel(), rows.stream().mapToLong(r -> r.getDwell(bucket)).sum());
+            }
+
+            result.add(ColumnTimeStats.builder()
+                    .boardId(board.getId())
+                    .boardName(board.getName())
+                    .transitions(count)
+                    .averageHours(count > 0 ? Math.round(seconds * 100.0 / count / 3600) / 100.0 : null)
+                    .histogram(histogram)
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * Tareas que entraron en alguno de los boards de terminadas (app.archive.done-boards),
+     * por semana ISO empezando en lunes.
+     */
+    @Transactional(readOnly = true)
+    public List<WeeklyThroughput> getThroughput(Long projectId, String from, String to, User currentUser) {
+        DateRange range = parseRange(from, to);
+        Set<Long> doneBoardIds = loadBoards(projectId, currentUser).stream()
+                .filter(b -> archiveProperties.getDoneBoards().contains(b.getName()))
+                .map(Board::getId)
+                .collect(Collectors.toSet());
+
+        Map<LocalDate, Long> completed = new TreeMap<>();
+        for (LocalDate week = weekStart(range.from()); !week.isAfter(range.to()); week = week.plusWeeks(1)) {
+            completed.put(week, 0L);
+        }
+        for (BoardFlowDaily row : flowRepository.findByProjectIdAndDayBetweenOrderByDayAsc(
+                projectId, range.from(), range.to())) {
+            if (doneBoardIds.contains(row.getBoardId())) {
+                completed.merge(weekStart(row.getDay()), row.getEntered(), Long::sum);
+            }
+        }
+
+        return completed.entrySet().stream()
+                .map(e -> WeeklyThroughput.builder().weekStart(e.getKey().toString()).completed(e.getValue()).build())
+                .collect(Collectors.toList());
+    }
+
+    private List<Board> loadBoards(Long projectId, User currentUser) {
+        Project project = projectRepository.findActiveById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
+
+        validateMemberAccess(project, currentUser);
+
+        return boardRepository.findByProjectIdOrderByPositionAsc(projectId);
+    }
+
+    private static LocalDate weekStart(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private record DateRange(LocalDate from, LocalDate to) {
+    }
+
+    private static DateRange parseRange(String from, String to) {
+        LocalDate end = to == null || to.isBlank() ? LocalDate.now() : parseDate(to, "to");
+        LocalDate start = from == null || from.isBlank() ? end.minusDays(DEFAULT_RANGE_DAYS) : parseDate(from, "from");
+
+        if (start.isAfter(end)) {
+            throw new BadRequestException("from no puede ser posterior a to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("El rango no puede superar " + MAX_RANGE_DAYS + " días");
+        }
+        return new DateRange(start, end);
+    }
+
+    private static LocalDate parseDate(String value, String param) {
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Fecha no válida en " + param + ": " + value);
+        }
+    }
+
+    // --- Validación de acceso ---
+
+    private void validateMemberAccess(Project project, User currentUser) {
+        boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
+        boolean isMember = project.getMembers().stream()
+                .anyMatch(m -> m.getId().equals(currentUser.getId()));
+
+        if (!isOwner && !isMember) {
+            throw new AccessDeniedException("No tienes acceso a este proyecto");
+        }
+    }
+}
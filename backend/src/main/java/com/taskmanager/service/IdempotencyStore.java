@@ -0,0 +1,178 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.IdempotencyProperties;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.DuplicateResourceException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Respuestas ya servidas por (usuario, Idempotency-Key), para que los reintentos de un
+ * cliente no repitan la operación. Un reintento mientras la primera petición sigue en
+ * curso espera a que termine y recibe el mismo resultado.
+ *
+ * Solo se guardan las operaciones que terminan bien: si la primera falla, la clave se
+ * libera y el siguiente reintento vuelve a ejecutarse. La memoria está acotada a
+ * app.idempotency.max-entries claves (se descarta la completada usada hace más tiempo) y
+ * cada clave caduca a los app.idempotency.ttl de completarse. Las claves en curso nunca se
+ * descartan, para que un reintento no repita una operación que aún no ha terminado; no hay
+ * más que peticiones simultáneas, así que pueden superar el límite solo de forma temporal.
+ */
+@Component
+public class IdempotencyStore {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<StoreKey, Entry> entries;
+
+    @Autowired
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    IdempotencyStore(IdempotencyProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Ejecuta la operación una sola vez por clave. La huella identifica la petición
+     * (operación, recurso y cuerpo): reutilizar la clave con otra huella es un error del
+     * cliente y se responde con 409.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Long userId, String key, Object fingerprint, Supplier<T> operation) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+        }
+
+        StoreKey storeKey = new StoreKey(userId, key);
+        Entry entry;
+        boolean owner = false;
+        lock.lock();
+        try {
+            entry = entries.get(storeKey);
+            if (entry != null && entry.isExpired(clock.millis())) {
+                entries.remove(storeKey);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry(fingerprint);
+                entries.put(storeKey, entry);
+                evictOverflow();
+                owner = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!Objects.equals(entry.fingerprint, fingerprint)) {
+            throw new DuplicateResourceException("La Idempotency-Key ya se usó con una petición distinta");
+        }
+        if (!owner) {
+            return (T) await(entry.result);
+        }
+
+        try {
+            T value = operation.get();
+            entry.expiresAt = clock.millis() + properties.getTtl().toMillis();
+            entry.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            lock.lock();
+            try {
+                entries.remove(storeKey, entry);
+            } finally {
+                lock.unlock();
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.sweep-interval:PT5M}")
+    public void evictExpired() {
+        long now = clock.millis();
+        lock.lock();
+        try {
+            for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); ) {
+                if (it.next().isExpired(now)) {
+                    it.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Recorre en orden de acceso (de la menos reciente a la más) saltando las que siguen en curso
+    private void evictOverflow() {
+        for (Iterator<Entry> it = entries.values().iterator();
+             entries.size() > properties.getMaxEntries() && it.hasNext(); ) {
+            if (it.next().isCompleted()) {
+                it.remove();
+            }
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Object await(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record StoreKey(Long userId, String key) {
+    }
+
+    private static class Entry {
+
+        private final Object fingerprint;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        // Sin caducidad mientras la operación está en curso
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        Entry(Object fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        boolean isCompleted() {
+            return result.isDone();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Cursor opaco para paginación por keyset: los valores de la última fila devuelta,
+ * separados por '|' y codificados en base64 url-safe.
+ */
+final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    static String encode(Object... values) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decode(String cursor, int expectedValues) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split(Pattern.quote(SEPARATOR), -1);
+            if (values.length != expectedValues) {
+                throw new BadRequestException("Cursor inválido");
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+}
@@ -22,9 +22,11 @@ public class LabelService {
 
     private final LabelRepository labelRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectVersionTracker versionTracker;
 
+    @Transactional(readOnly = true)
     public List<LabelResponse> getLabels(Long projectId, User currentUser) {
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findActiveById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
 
         validateMemberAccess(project, currentUser);
@@ -36,7 +38,7 @@ public class LabelService {
 
     @Transactional
     public LabelResponse createLabel(Long projectId, LabelRequest request, User currentUser) {
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findActiveById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
 
         validateMemberAccess(project, currentUser);
@@ -53,7 +55,7 @@ public class LabelService {
 
     @Transactional
     public LabelResponse updateLabel(Long projectId, Long labelId, LabelRequest request, User currentUser) {
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findActiveById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
 
         validateMemberAccess(project, currentUser);
@@ -65,12 +67,13 @@ public class LabelService {
         label.setColor(request.getColor());
 
         Label saved = labelRepository.save(label);
+        versionTracker.invalidate(projectId);
         return mapToResponse(saved);
     }
 
     @Transactional
     public void deleteLabel(Long projectId, Long labelId, User currentUser) {
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findActiveById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
 
         validateMemberAccess(project, currentUser);
@@ -79,6 +82,7 @@ public class LabelService {
                 .orElseThrow(() -> new ResourceNotFoundException("Etiqueta no encontrada con id: " + labelId));
 
         labelRepository.delete(label);
+        versionTracker.invalidate(projectId);
     }
 
     private void validateMemberAccess(Project project, User currentUser) {
@@ -0,0 +1,229 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Label;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.ExportFormat;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.LabelRepository;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskLabelLink;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Exporta un proyecto completo (boards, tareas, etiquetas y miembros) escribiendo
+ * directamente al stream de salida. Las tareas se leen con un cursor del servidor y el
+ * contexto de persistencia se limpia periódicamente, así que el heap usado no depende
+ * del tamaño del proyecto.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectExportService {
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "type", "id", "board_id", "task_id", "label_id", "user_id", "name", "title", "email",
+            "color", "description", "priority", "position", "due_date", "created_at");
+
+    private final ProjectRepository projectRepository;
+    private final BoardRepository boardRepository;
+    private final LabelRepository labelRepository;
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Se invoca antes de empezar a escribir la respuesta, para que los errores de acceso
+     * se devuelvan con su código HTTP y no en medio del stream.
+     */
+    @Transactional(readOnly = true)
+    public void checkExportAccess(Long projectId, User currentUser) {
+        Project project = projectRepository.findActiveById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
+
+        validateMemberAccess(project, currentUser);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(Long projectId, ExportFormat format, OutputStream outputStream) throws IOException {
+        Project project = projectRepository.findActiveById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        RecordWriter records = format == ExportFormat.CSV ? new CsvRecordWriter(writer) : new NdjsonRecordWriter(writer);
+
+        Map<String, Object> projectRecord = record("project");
+        projectRecord.put("id", project.getId());
+        projectRecord.put("name", project.getName());
+        projectRecord.put("description", project.getDescription());
+        projectRecord.put("user_id", project.getOwner().getId());
+        projectRecord.put("created_at", project.getCreatedAt() != null ? project.getCreatedAt().toString() : null);
+        records.write(projectRecord);
+
+        for (User member : project.getMembers()) {
+            Map<String, Object> memberRecord = record("member");
+            memberRecord.put("user_id", member.getId());
+            memberRecord.put("name", member.getFullName());
+            memberRecord.put("email", member.getEmail());
+            records.write(memberRecord);
+        }
+
+        for (Board board : boardRepository.findByProjectIdOrderByPositionAsc(projectId)) {
+            Map<String, Object> boardRecord = record("board");
+            boardRecord.put("id", board.getId());
+            boardRecord.put("name", board.getName());
+            boardRecord.put("position", board.getPosition());
+            records.write(boardRecord);
+        }
+
+        for (Label label : labelRepository.findByProjectId(projectId)) {
+            Map<String, Object> labelRecord = record("label");
+            labelRecord.put("id", label.getId());
+            labelRecord.put("name", label.getName());
+            labelRecord.put("color", label.getColor());
+            records.write(labelRecord);
+        }
+
+        // Lo anterior es acotado; a partir de aquí se recorren las tareas fila a fila
+        entityManager.clear();
+
+        try (Stream<Task> tasks = taskRepository.streamByProjectId(projectId)) {
+            int written = 0;
+            for (Iterator<Task> it = tasks.iterator(); it.hasNext(); ) {
+                Task task = it.next();
+                Map<String, Object> taskRecord = record("task");
+                taskRecord.put("id", task.getId());
+                taskRecord.put("board_id", task.getBoard().getId());
+                taskRecord.put("user_id", task.getAssignee() != null ? task.getAssignee().getId() : null);
+                taskRecord.put("title", task.getTitle());
+                taskRecord.put("description", task.getDescription());
+                taskRecord.put("priority", task.getPriority() != null ? task.getPriority().name() : null);
+                taskRecord.put("position", task.getPosition());
+                taskRecord.put("due_date", task.getDueDate() != null ? task.getDueDate().toString() : null);
+                taskRecord.put("created_at", task.getCreatedAt() != null ? task.getCreatedAt().toString() : null);
+                records.write(taskRecord);
+
+                if (++written % TaskRepository.STREAM_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        try (Stream<TaskLabelLink> links = taskRepository.streamLabelLinksByProjectId(projectId)) {
+            for (Iterator<TaskLabelLink> it = links.iterator(); it.hasNext(); ) {
+                TaskLabelLink link = it.next();
+                Map<String, Object> linkRecord = record("task_label");
+                linkRecord.put("task_id", link.getTaskId());
+                linkRecord.put("label_id", link.getLabelId());
+                records.write(linkRecord);
+            }
+        }
+
+        writer.flush();
+    }
+
+    private Map<String, Object> record(String type) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("type", type);
+        return record;
+    }
+
+    private void validateMemberAccess(Project project, User currentUser) {
+        boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
+        boolean isMember = project.getMembers().stream()
+                .anyMatch(m -> m.getId().equals(currentUser.getId()));
+
+        if (!isOwner && !isMember) {
+            throw new AccessDeniedException("No tienes acceso a este proyecto");
+        }
+    }
+
+    // --- Writers ---
+
+    private interface RecordWriter {
+
+        void write(Map<String, Object> record) throws IOException;
+    }
+
+    /**
+     * Un objeto JSON por línea; se omiten los campos nulos.
+     */
+    private class NdjsonRecordWriter implements RecordWriter {
+
+        private final Writer writer;
+
+        NdjsonRecordWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(Map<String, Object> record) throws IOException {
+            record.values().removeIf(value -> value == null);
+            writer.write(objectMapper.writeValueAsString(record));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Todas las filas comparten las mismas columnas; la columna "type" indica qué representa cada una.
+     */
+    private static class CsvRecordWriter implements RecordWriter {
+
+        private final Writer writer;
+
+        CsvRecordWriter(Writer writer) {
+            this.writer = writer;
+            writeLine(CSV_COLUMNS);
+        }
+
+        @Override
+        public void write(Map<String, Object> record) {
+            writeLine(CSV_COLUMNS.stream().map(record::get).toList());
+        }
+
+        private void writeLine(List<?> values) {
+            try {
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    Object value = values.get(i);
+                    if (value != null) {
+                        writer.write(escape(value.toString()));
+                    }
+                }
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskmanager.service;
+
+import com.taskmanager.repository.ProjectPurgeRepository;
+import com.taskmanager.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Elimina en segundo plano los datos de los proyectos marcados como borrados.
+ *
+ * Las tareas se borran en bloques de app.purge.chunk-size, cada bloque en su propia
+ * transacción, para no mantener bloqueos largos sobre tasks y task_labels.
+ */
+@Slf4j
+@Service
+public class ProjectPurgeService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectPurgeRepository purgeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ProjectPurgeService(ProjectRepository projectRepository,
+                               ProjectPurgeRepository purgeRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.purge.chunk-size:1000}") int chunkSize) {
+        this.projectRepository = projectRepository;
+        this.purgeRepository = purgeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.purge.interval:PT30S}")
+    public void purgeDeletedProjects() {
+        for (Long projectId : projectRepository.findDeletedIds()) {
+            try {
+                purgeProject(projectId);
+            } catch (RuntimeException e) {
+                // Se reintenta en la siguiente ejecución
+                log.warn("No se pudo purgar el proyecto {}: {}", projectId, e.getMessage());
+            }
+        }
+    }
+
+    public void purgeProject(Long projectId) {
+        long tasks = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> deleteTaskChunk(projectId));
+            tasks += deleted;
+        } while (deleted == chunkSize);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            purgeRepository.deleteTaskLabelsByLabelProjectId(projectId);
+            purgeRepository.deleteArchivedTaskLabelsByProjectId(projectId);
+            purgeRepository.deleteArchivedTasksByProjectId(projectId);
+            purgeRepository.deleteTaskCountersByProjectId(projectId);
+            purgeRepository.deleteTransitionsByProjectId(projectId);
+            purgeRepository.deleteFlowDailyByProjectId(projectId);
+            purgeRepository.deleteActivityByProjectId(projectId);
+            purgeRepository.deleteBoardsByProjectId(projectId);
+            purgeRepository.deleteLabelsByProjectId(projectId);
+            purgeRepository.deleteMembersByProjectId(projectId);
+            purgeRepository.deleteDeletedProject(projectId);
+        });
+
+        log.info("Proyecto {} purgado ({} tareas)", projectId, tasks);
+    }
+
+    private int deleteTaskChunk(Long projectId) {
+        List<Long> taskIds = purgeRepository.findTaskIdsByProjectId(projectId, PageRequest.of(0, chunkSize));
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        purgeRepository.deleteTaskLabelsByTaskIds(taskIds);
+        purgeRepository.deleteTasksByIds(taskIds);
+        return taskIds.size();
+    }
+}
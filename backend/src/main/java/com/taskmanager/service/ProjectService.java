@@ -1,30 +1,67 @@
 package com.taskmanager.service;
 
+import com.taskmanager.config.ReplicaLagGuard;
 import com.taskmanager.dto.*;
 import com.taskmanager.entity.Board;
 import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
 import com.taskmanager.entity.User;
 import com.taskmanager.enums.Permission;
+import com.taskmanager.event.AuditEvent;
 import com.taskmanager.exception.AccessDeniedException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.repository.BoardRepository;
 import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSpecifications;
 import com.taskmanager.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
     private final PermissionService permissionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectVersionTracker versionTracker;
+    private final ObjectProvider<ReplicaLagGuard> replicaLagGuard;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<ProjectReadKey, ProjectDetailResponse> projectReads = new SingleFlight<>();
+    private final SingleFlight<ProjectReadKey, NormalizedProjectResponse> normalizedReads = new SingleFlight<>();
+
+    public ProjectService(ProjectRepository projectRepository,
+                          BoardRepository boardRepository,
+                          UserRepository userRepository,
+                          TaskRepository taskRepository,
+                          PermissionService permissionService,
+                          ApplicationEventPublisher eventPublisher,
+                          ProjectVersionTracker versionTracker,
+                          ObjectProvider<ReplicaLagGuard> replicaLagGuard,
+                          PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.boardRepository = boardRepository;
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.permissionService = permissionService;
+        this.eventPublisher = eventPublisher;
+        this.versionTracker = versionTracker;
+        this.replicaLagGuard = replicaLagGuard;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public ProjectDetailResponse createProject(ProjectRequest request, User currentUser) {
@@ -55,29 +92,153 @@ public class ProjectService {
         return mapToDetailResponse(project);
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getMyProjects(User currentUser) {
         List<Project> projects = projectRepository.findByOwnerOrMember(currentUser.getId());
         return projects.stream().map(this::mapToResponse).collect(Collectors.toList());
     }
 
+    /**
+     * Las peticiones concurrentes sobre el mismo proyecto y la misma versión comparten una
+     * única carga; el acceso se comprueba después, por separado para cada usuario. La carga
+     * abre su propia transacción y, sin Open Session in View, quien espera el resultado de
+     * otra petición no retiene ninguna conexión.
+     *
+     * Con réplica de lectura la clave incluye si el usuario tiene que leer del primario (ver
+     * ReplicaLagGuard): quien acaba de escribir no se suma a una carga de la réplica que
+     * puede no tener todavía su cambio.
+     */
     public ProjectDetailResponse getProjectById(Long id, User currentUser) {
-        Project project = projectRepository.findById(id)
+        return getProjectById(id, null, null, currentUser);
+    }
+
+    /**
+     * Igual que getProjectById, pero cada board solo incluye las tareas que cumplen el filtro.
+     * Las tareas se resuelven en una única consulta para todos los boards del proyecto.
+     */
+    public ProjectDetailResponse getProjectById(Long id, TaskFilter filter, User currentUser) {
+        return getProjectById(id, filter, null, currentUser);
+    }
+
+    /**
+     * Con fields (?fields=) las tareas solo llevan esos campos y la consulta solo lee sus
+     * columnas; sin description, el tablero no lee ninguna descripción. Las lecturas sin filtro
+     * comparten carga por proyecto, versión y campos.
+     */
+    public ProjectDetailResponse getProjectById(Long id, TaskFilter filter, TaskFields fields, User currentUser) {
+        if (filter != null && !filter.isEmpty()) {
+            return readOnlyTransaction.execute(status -> getFilteredProject(id, filter, fields, currentUser));
+        }
+
+        ProjectReadKey key = new ProjectReadKey(id, versionTracker.current(id), fields, readsFromPrimary(currentUser));
+        ProjectDetailResponse detail = projectReads.execute(key,
+                () -> readOnlyTransaction.execute(status -> loadProjectDetail(id, fields)));
+
+        validateMemberAccess(detail, currentUser);
+        return detail;
+    }
+
+    /**
+     * Detalle con ?shape=normalized: el mismo contenido y las mismas consultas que
+     * getProjectById, pero con usuarios y etiquetas una sola vez en diccionarios por id.
+     */
+    public NormalizedProjectResponse getNormalizedProjectById(Long id, TaskFilter filter, User currentUser) {
+        if (filter == null || filter.isEmpty()) {
+            ProjectReadKey key = new ProjectReadKey(id, versionTracker.current(id), null, readsFromPrimary(currentUser));
+            NormalizedProjectResponse detail = normalizedReads.execute(key,
+                    () -> readOnlyTransaction.execute(status -> loadNormalizedProject(id, null)));
+
+            validateMemberAccess(detail, currentUser);
+            return detail;
+        }
+
+        NormalizedProjectResponse detail = readOnlyTransaction.execute(status -> loadNormalizedProject(id, filter));
+        validateMemberAccess(detail, currentUser);
+        return detail;
+    }
+
+    private NormalizedProjectResponse loadNormalizedProject(Long id, TaskFilter filter) {
+        Project project = projectRepository.findActiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + id));
+
+        List<Board> boards = boardRepository.findByProjectIdOrderByPositionAsc(id);
+        return mapToNormalizedResponse(project, boards, loadTasksByBoard(boards, filter));
+    }
+
+    private ProjectDetailResponse loadProjectDetail(Long id, TaskFields fields) {
+        Project project = projectRepository.findActiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + id));
+
+        List<Board> boards = boardRepository.findByProjectIdOrderByPositionAsc(id);
+        return mapToDetailResponse(project, loadBoardResponses(boards, null, fields));
+    }
+
+    private ProjectDetailResponse getFilteredProject(Long id, TaskFilter filter, TaskFields fields, User currentUser) {
+        Project project = projectRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + id));
 
         validateMemberAccess(project, currentUser);
 
-        // Cargar boards con tareas ordenadas
         List<Board> boards = boardRepository.findByProjectIdOrderByPositionAsc(id);
-        project.setBoards(boards);
+        return mapToDetailResponse(project, loadBoardResponses(boards, filter, fields));
+    }
 
-        return mapToDetailResponse(project);
+    /**
+     * Las tareas de todos los boards, con responsable y etiquetas, en una única consulta;
+     * sin ella cada board, tarea y etiqueta se cargaría por separado (N+1). Con filtro solo
+     * se incluyen las tareas que lo cumplen.
+     */
+    private List<BoardResponse> loadBoardResponses(List<Board> boards, TaskFilter filter, TaskFields fields) {
+        if (fields != null) {
+            return loadSparseBoardResponses(boards, filter, fields);
+        }
+
+        Map<Long, List<Task>> tasksByBoard = loadTasksByBoard(boards, filter);
+
+        // Board.tasks no se modifica: es una colección gestionada con orphanRemoval
+        return boards.stream()
+                .map(b -> mapToBoardResponse(b, tasksByBoard.getOrDefault(b.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private List<BoardResponse> loadSparseBoardResponses(List<Board> boards, TaskFilter filter, TaskFields fields) {
+        if (boards.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> boardIds = boards.stream().map(Board::getId).collect(Collectors.toList());
+        Map<Long, List<TaskResponse>> tasksByBoard = SparseTaskReads.findByBoard(taskRepository,
+                TaskFilters.toSpecification(TaskSpecifications.inBoards(boardIds), filter), fields);
+
+        return boards.stream()
+                .map(b -> BoardResponse.builder()
+                        .id(b.getId())
+                        .name(b.getName())
+                        .position(b.getPosition())
+                        .tasks(tasksByBoard.getOrDefault(b.getId(), new ArrayList<>()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<Task>> loadTasksByBoard(List<Board> boards, TaskFilter filter) {
+        if (boards.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> boardIds = boards.stream().map(Board::getId).collect(Collectors.toList());
+        List<Task> tasks = taskRepository.findAll(
+                TaskFilters.toSpecification(TaskSpecifications.inBoards(boardIds), filter)
+                        .and(TaskSpecifications.fetchAssigneeAndLabels()),
+                Sort.by("position"));
+
+        return tasks.stream().collect(Collectors.groupingBy(t -> t.getBoard().getId()));
     }
 
     @Transactional
     public ProjectDetailResponse updateProject(Long id, ProjectRequest request, User currentUser) {
         permissionService.checkPermission(currentUser, Permission.PROJECT_EDIT);
 
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + id));
 
         validateOwnerAccess(project, currentUser);
@@ -85,30 +246,33 @@ public class ProjectService {
         project.setName(request.getName());
         project.setDescription(request.getDescription());
         projectRepository.save(project);
+        versionTracker.invalidate(id);
 
+        // project.boards tiene orphanRemoval: reemplazar la colección de la entidad falla al hacer flush
         List<Board> boards = boardRepository.findByProjectIdOrderByPositionAsc(id);
-        project.setBoards(boards);
-
-        return mapToDetailResponse(project);
+        return mapToDetailResponse(project, boards.stream().map(this::mapToBoardResponse).collect(Collectors.toList()));
     }
 
     @Transactional
     public void deleteProject(Long id, User currentUser) {
         permissionService.checkPermission(currentUser, Permission.PROJECT_DELETE);
 
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + id));
 
         validateOwnerAccess(project, currentUser);
 
-        projectRepository.delete(project);
+        // Solo se marca; ProjectPurgeService borra boards, tareas y etiquetas en segundo plano
+        project.setDeletedAt(LocalDateTime.now());
+        projectRepository.save(project);
+        versionTracker.invalidate(id);
     }
 
     @Transactional
     public ProjectDetailResponse addMember(Long projectId, String email, User currentUser) {
         permissionService.checkPermission(currentUser, Permission.MEMBER_ADD);
 
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findActiveById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
 
         validateOwnerAccess(project, currentUser);
@@ -116,31 +280,43 @@ public class ProjectService {
         User newMember = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado con email: " + email));
 
-        project.getMembers().add(newMember);
-        projectRepository.save(project);
+        if (project.getMembers().add(newMember)) {
+            projectRepository.save(project);
+            publishAudit(AuditEvent.Type.MEMBER_ADDED, projectId, newMember.getId(), currentUser);
+        }
 
+        // project.boards tiene orphanRemoval: reemplazar la colección de la entidad falla al hacer flush
         List<Board> boards = boardRepository.findByProjectIdOrderByPositionAsc(projectId);
-        project.setBoards(boards);
-
-        return mapToDetailResponse(project);
+        return mapToDetailResponse(project, boards.stream().map(this::mapToBoardResponse).collect(Collectors.toList()));
     }
 
     @Transactional
     public ProjectDetailResponse removeMember(Long projectId, Long userId, User currentUser) {
         permissionService.checkPermission(currentUser, Permission.MEMBER_REMOVE);
 
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findActiveById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
 
         validateOwnerAccess(project, currentUser);
 
-        project.getMembers().removeIf(member -> member.getId().equals(userId));
-        projectRepository.save(project);
+        if (project.getMembers().removeIf(member -> member.getId().equals(userId))) {
+            projectRepository.save(project);
+            publishAudit(AuditEvent.Type.MEMBER_REMOVED, projectId, userId, currentUser);
+        }
 
+        // project.boards tiene orphanRemoval: reemplazar la colección de la entidad falla al hacer flush
         List<Board> boards = boardRepository.findByProjectIdOrderByPositionAsc(projectId);
-        project.setBoards(boards);
+        return mapToDetailResponse(project, boards.stream().map(this::mapToBoardResponse).collect(Collectors.toList()));
+    }
 
-        return mapToDetailResponse(project);
+    private void publishAudit(AuditEvent.Type type, Long projectId, Long targetUserId, User actor) {
+        eventPublisher.publishEvent(AuditEvent.builder()
+                .type(type)
+                .projectId(projectId)
+                .actorId(actor.getId())
+                .targetUserId(targetUserId)
+                .at(LocalDateTime.now())
+                .build());
     }
 
     // --- Validaciones de acceso ---
@@ -151,6 +327,25 @@ public class ProjectService {
         }
     }
 
+    private void validateMemberAccess(ProjectDetailResponse project, User currentUser) {
+        boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
+        boolean isMember = project.getMembers().stream()
+                .anyMatch(m -> m.getId().equals(currentUser.getId()));
+
+        if (!isOwner && !isMember) {
+            throw new AccessDeniedException("No tienes acceso a este proyecto");
+        }
+    }
+
+    private void validateMemberAccess(NormalizedProjectResponse project, User currentUser) {
+        boolean isOwner = project.getOwnerId().equals(currentUser.getId());
+        boolean isMember = project.getMemberIds().contains(currentUser.getId());
+
+        if (!isOwner && !isMember) {
+            throw new AccessDeniedException("No tienes acceso a este proyecto");
+        }
+    }
+
     private void validateMemberAccess(Project project, User currentUser) {
         boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
         boolean isMember = project.getMembers().stream()
@@ -175,13 +370,18 @@ public class ProjectService {
     }
 
     public ProjectDetailResponse mapToDetailResponse(Project project) {
+        return mapToDetailResponse(project,
+                project.getBoards().stream().map(this::mapToBoardResponse).collect(Collectors.toList()));
+    }
+
+    private ProjectDetailResponse mapToDetailResponse(Project project, List<BoardResponse> boards) {
         return ProjectDetailResponse.builder()
                 .id(project.getId())
                 .name(project.getName())
                 .description(project.getDescription())
                 .owner(mapToUserResponse(project.getOwner()))
                 .members(project.getMembers().stream().map(this::mapToUserResponse).collect(Collectors.toList()))
-                .boards(project.getBoards().stream().map(this::mapToBoardResponse).collect(Collectors.toList()))
+                .boards(boards)
                 .createdAt(project.getCreatedAt() != null ? project.getCreatedAt().toString() : null)
                 .build();
     }
@@ -196,17 +396,19 @@ public class ProjectService {
     }
 
     private BoardResponse mapToBoardResponse(Board board) {
+        return mapToBoardResponse(board, board.getTasks() != null ? board.getTasks() : List.of());
+    }
+
+    private BoardResponse mapToBoardResponse(Board board, List<Task> tasks) {
         return BoardResponse.builder()
                 .id(board.getId())
                 .name(board.getName())
                 .position(board.getPosition())
-                .tasks(board.getTasks() != null
-                        ? board.getTasks().stream().map(this::mapToTaskResponse).collect(Collectors.toList())
-                        : new ArrayList<>())
+                .tasks(tasks.stream().map(this::mapToTaskResponse).collect(Collectors.toList()))
                 .build();
     }
 
-    private TaskResponse mapToTaskResponse(com.taskmanager.entity.Task task) {
+    private TaskResponse mapToTaskResponse(Task task) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -224,4 +426,92 @@ public class ProjectService {
                 .createdAt(task.getCreatedAt() != null ? task.getCreatedAt().toString() : null)
                 .build();
     }
+
+    public NormalizedProjectResponse mapToNormalizedResponse(Project project) {
+        Map<Long, List<Task>> tasksByBoard = new HashMap<>();
+        for (Board board : project.getBoards()) {
+            tasksByBoard.put(board.getId(), board.getTasks() != null ? board.getTasks() : List.of());
+        }
+        return mapToNormalizedResponse(project, project.getBoards(), tasksByBoard);
+    }
+
+    /**
+     * Cada usuario y etiqueta se mapea la primera vez que aparece y las siguientes solo se
+     * añade su id, así que el resultado tiene un objeto por usuario y por etiqueta.
+     */
+    private NormalizedProjectResponse mapToNormalizedResponse(Project project, List<Board> boards,
+                                                              Map<Long, List<Task>> tasksByBoard) {
+        Map<Long, UserResponse> users = new LinkedHashMap<>();
+        Map<Long, LabelResponse> labels = new LinkedHashMap<>();
+
+        Long ownerId = addUser(users, project.getOwner());
+        List<Long> memberIds = project.getMembers().stream()
+                .map(member -> addUser(users, member))
+                .collect(Collectors.toList());
+
+        List<NormalizedBoardResponse> boardResponses = boards.stream()
+                .map(board -> NormalizedBoardResponse.builder()
+                        .id(board.getId())
+                        .name(board.getName())
+                        .position(board.getPosition())
+                        .tasks(tasksByBoard.getOrDefault(board.getId(), List.of()).stream()
+                                .map(task -> mapToNormalizedTaskResponse(task, users, labels))
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+
+        return NormalizedProjectResponse.builder()
+                .id(project.getId())
+                .name(project.getName())
+                .description(project.getDescription())
+                .ownerId(ownerId)
+                .memberIds(memberIds)
+                .boards(boardResponses)
+                .createdAt(project.getCreatedAt() != null ? project.getCreatedAt().toString() : null)
+                .users(users)
+                .labels(labels)
+                .build();
+    }
+
+    private NormalizedTaskResponse mapToNormalizedTaskResponse(Task task, Map<Long, UserResponse> users,
+                                                               Map<Long, LabelResponse> labels) {
+        return NormalizedTaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .priority(task.getPriority() != null ? task.getPriority().name() : null)
+                .position(task.getPosition())
+                .assigneeId(task.getAssignee() != null ? addUser(users, task.getAssignee()) : null)
+                .labelIds(task.getLabels() != null
+                        ? task.getLabels().stream()
+                        .map(l -> {
+                            labels.computeIfAbsent(l.getId(), labelId -> LabelResponse.builder()
+                                    .id(l.getId()).name(l.getName()).color(l.getColor()).build());
+                            return l.getId();
+                        })
+                        .collect(Collectors.toList())
+                        : new ArrayList<>())
+                .dueDate(task.getDueDate() != null ? task.getDueDate().toString() : null)
+                .boardId(task.getBoard().getId())
+                .createdAt(task.getCreatedAt() != null ? task.getCreatedAt().toString() : null)
+                .build();
+    }
+
+    private Long addUser(Map<Long, UserResponse> users, User user) {
+        users.computeIfAbsent(user.getId(), userId -> mapToUserResponse(user));
+        return user.getId();
+    }
+
+    /**
+     * La carga compartida la hace el hilo de quien llega primero, y ReadWriteRoutingDataSource
+     * elige la base de datos con su estado en ReplicaLagGuard (por email, el nombre de la
+     * autenticación); por eso primary forma parte de la clave.
+     */
+    private boolean readsFromPrimary(User currentUser) {
+        ReplicaLagGuard lagGuard = replicaLagGuard.getIfAvailable();
+        return lagGuard != null && lagGuard.mustReadFromPrimary(currentUser.getEmail());
+    }
+
+    private record ProjectReadKey(Long projectId, long version, TaskFields fields, boolean primary) {
+    }
 }
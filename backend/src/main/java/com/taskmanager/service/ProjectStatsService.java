@@ -0,0 +1,267 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.ArchiveProperties;
+import com.taskmanager.dto.AssigneeTaskCount;
+import com.taskmanager.dto.BoardTaskCount;
+import com.taskmanager.dto.ProjectStatsResponse;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.ProjectTaskCounter;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.CounterDimension;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.CounterRow;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.ProjectTaskCounterRepository;
+import com.taskmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Estadísticas por proyecto servidas desde project_task_counters. Los contadores se
+ * ajustan con incrementos en la misma transacción que cada cambio de tarea, así que la
+ * consulta de estadísticas no agrupa sobre tasks.
+ *
+ * Si un proyecto no tiene fila TOTAL (proyectos anteriores a la tabla, o contadores
+ * invalidados tras un borrado masivo) se reconstruyen completos en la siguiente
+ * escritura; mientras tanto la lectura calcula las cifras sin guardarlas.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsService {
+
+    static final String TOTAL_KEY = "all";
+    static final String UNASSIGNED_KEY = "unassigned";
+    static final String NO_PRIORITY_KEY = "NONE";
+
+    private final ProjectTaskCounterRepository counterRepository;
+    private final ProjectRepository projectRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final ArchiveProperties archiveProperties;
+
+    @Transactional(readOnly = true)
+    public ProjectStatsResponse getStats(Long projectId, User currentUser) {
+        Project project = projectRepository.findActiveById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
+
+        validateMemberAccess(project, currentUser);
+
+        Map<CounterDimension, Map<String, Long>> counters = new EnumMap<>(CounterDimension.class);
+        List<ProjectTaskCounter> rows = counterRepository.findByProjectId(projectId);
+        if (rows.stream().anyMatch(c -> c.getDimension() == CounterDimension.TOTAL)) {
+            for (ProjectTaskCounter row : rows) {
+                counters.computeIfAbsent(row.getDimension(), d -> new HashMap<>())
+                        .merge(row.getDimensionKey(), row.getTaskCount(), Long::sum);
+            }
+        } else {
+            counters = countFromTasks(projectId);
+        }
+
+        long overdue = counterRepository.countOverdue(projectId, LocalDate.now(), doneBoards());
+
+        return mapToStatsResponse(projectId, counters, overdue);
+    }
+
+    /**
+     * Se ejecuta de forma síncrona dentro de la transacción que publicó el evento: si el
+     * cambio de la tarea hace rollback, el ajuste de los contadores también.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Long projectId = event.getProjectId();
+
+        if (!counterRepository.existsByProjectIdAndDimension(projectId, CounterDimension.TOTAL)) {
+            // La reconstrucción lee el estado ya modificado, así que el delta no se aplica
+            rebuild(projectId);
+            return;
+        }
+
+        // Siempre en el mismo orden (dimensión y clave): dos cambios opuestos a la vez, p. ej.
+        // HIGH -> LOW y LOW -> HIGH, bloquearían las mismas filas en orden inverso
+        Map<CounterKey, Long> deltas = new TreeMap<>();
+        addKeys(deltas, event.getBefore(), -1);
+        addKeys(deltas, event.getAfter(), 1);
+
+        for (Map.Entry<CounterKey, Long> entry : deltas.entrySet()) {
+            if (entry.getValue() != 0 && !apply(projectId, entry.getKey(), entry.getValue())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Para operaciones que cambian muchas tareas sin publicar eventos (por ejemplo, borrar
+     * un board con sus tareas). La siguiente escritura reconstruye los contadores.
+     */
+    @Transactional
+    public void invalidate(Long projectId) {
+        counterRepository.deleteByProjectId(projectId);
+    }
+
+    private boolean apply(Long projectId, CounterKey key, long delta) {
+        if (counterRepository.increment(projectId, key.dimension(), key.key(), delta) > 0) {
+            return true;
+        }
+
+        // La fila no existe: se crea con el proyecto bloqueado para que dos transacciones
+        // no inserten la misma clave a la vez
+        counterRepository.lockProject(projectId);
+        if (counterRepository.increment(projectId, key.dimension(), key.key(), delta) > 0) {
+            return true;
+        }
+
+        if (delta < 0) {
+            // Restar sobre una clave sin fila significa que los contadores no cuadran
+            log.warn("Contadores del proyecto {} inconsistentes en {}; se reconstruyen", projectId, key);
+            counterRepository.deleteByProjectId(projectId);
+            rebuild(projectId);
+            return false;
+        }
+
+        counterRepository.save(ProjectTaskCounter.builder()
+                .projectId(projectId)
+                .dimension(key.dimension())
+                .dimensionKey(key.key())
+                .taskCount(delta)
+                .build());
+        return true;
+    }
+
+    private void rebuild(Long projectId) {
+        counterRepository.lockProject(projectId);
+        if (counterRepository.existsByProjectIdAndDimension(projectId, CounterDimension.TOTAL)) {
+            return;
+        }
+
+        List<ProjectTaskCounter> rows = new ArrayList<>();
+        countFromTasks(projectId).forEach((dimension, counts) -> counts.forEach((key, count) ->
+                rows.add(ProjectTaskCounter.builder()
+                        .projectId(projectId)
+                        .dimension(dimension)
+                        .dimensionKey(key)
+                        .taskCount(count)
+                        .build())));
+        counterRepository.saveAll(rows);
+    }
+
+    private Map<CounterDimension, Map<String, Long>> countFromTasks(Long projectId) {
+        Map<CounterDimension, Map<String, Long>> counters = new EnumMap<>(CounterDimension.class);
+        counters.put(CounterDimension.BOARD, toMap(counterRepository.countByBoard(projectId)));
+        counters.put(CounterDimension.PRIORITY, toMap(counterRepository.countByPriority(projectId)));
+        counters.put(CounterDimension.ASSIGNEE, toMap(counterRepository.countByAssignee(projectId)));
+
+        long total = counters.get(CounterDimension.BOARD).values().stream().mapToLong(Long::longValue).sum();
+        counters.put(CounterDimension.TOTAL, Map.of(TOTAL_KEY, total));
+        return counters;
+    }
+
+    private static Map<String, Long> toMap(List<CounterRow> rows) {
+        return rows.stream().collect(Collectors.toMap(CounterRow::getKey, CounterRow::getCount, Long::sum));
+    }
+
+    private static void addKeys(Map<CounterKey, Long> deltas, TaskSnapshot snapshot, long delta) {
+        if (snapshot == null) {
+            return;
+        }
+        deltas.merge(new CounterKey(CounterDimension.TOTAL, TOTAL_KEY), delta, Long::sum);
+        deltas.merge(new CounterKey(CounterDimension.BOARD, snapshot.getBoardId().toString()), delta, Long::sum);
+        deltas.merge(new CounterKey(CounterDimension.PRIORITY, snapshot.getPriority() != null
+                ? snapshot.getPriority().name() : NO_PRIORITY_KEY), delta, Long::sum);
+        deltas.merge(new CounterKey(CounterDimension.ASSIGNEE, snapshot.getAssigneeId() != null
+                ? snapshot.getAssigneeId().toString() : UNASSIGNED_KEY), delta, Long::sum);
+    }
+
+    private List<String> doneBoards() {
+        // NOT IN con una lista vacía no es válido en todas las bases de datos
+        return archiveProperties.getDoneBoards().isEmpty() ? List.of("") : archiveProperties.getDoneBoards();
+    }
+
+    private record CounterKey(CounterDimension dimension, String key) implements Comparable<CounterKey> {
+
+        private static final Comparator<CounterKey> ORDER =
+                Comparator.comparing(CounterKey::dimension).thenComparing(CounterKey::key);
+
+        @Override
+        public int compareTo(CounterKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    // --- Validación de acceso ---
+
+    private void validateMemberAccess(Project project, User currentUser) {
+        boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
+        boolean isMember = project.getMembers().stream()
+                .anyMatch(m -> m.getId().equals(currentUser.getId()));
+
+        if (!isOwner && !isMember) {
+            throw new AccessDeniedException("No tienes acceso a este proyecto");
+        }
+    }
+
+    // --- Mappers ---
+
+    private ProjectStatsResponse mapToStatsResponse(Long projectId, Map<CounterDimension, Map<String, Long>> counters,
+                                                    long overdue) {
+        Map<String, Long> byBoard = counters.getOrDefault(CounterDimension.BOARD, Map.of());
+        Map<String, Long> byPriority = counters.getOrDefault(CounterDimension.PRIORITY, Map.of());
+        Map<String, Long> byAssignee = counters.getOrDefault(CounterDimension.ASSIGNEE, Map.of());
+
+        List<BoardTaskCount> boards = boardRepository.findByProjectIdOrderByPositionAsc(projectId).stream()
+                .map(board -> BoardTaskCount.builder()
+                        .boardId(board.getId())
+                        .boardName(board.getName())
+                        .count(byBoard.getOrDefault(board.getId().toString(), 0L))
+                        .build())
+                .collect(Collectors.toList());
+
+        Map<String, Long> priorities = new LinkedHashMap<>();
+        for (Priority priority : Priority.values()) {
+            priorities.put(priority.name(), byPriority.getOrDefault(priority.name(), 0L));
+        }
+
+        List<Long> assigneeIds = byAssignee.entrySet().stream()
+                .filter(e -> !UNASSIGNED_KEY.equals(e.getKey()) && e.getValue() > 0)
+                .map(e -> Long.valueOf(e.getKey()))
+                .collect(Collectors.toList());
+        Map<Long, User> users = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<AssigneeTaskCount> assignees = assigneeIds.stream()
+                .filter(users::containsKey)
+                .map(id -> AssigneeTaskCount.builder()
+                        .userId(id)
+                        .fullName(users.get(id).getFullName())
+                        .count(byAssignee.get(id.toString()))
+                        .build())
+                .sorted(Comparator.comparing(AssigneeTaskCount::getCount).reversed()
+                        .thenComparing(AssigneeTaskCount::getUserId))
+                .collect(Collectors.toList());
+
+        return ProjectStatsResponse.builder()
+                .projectId(projectId)
+                .totalTasks(counters.getOrDefault(CounterDimension.TOTAL, Map.of()).getOrDefault(TOTAL_KEY, 0L))
+                .unassignedTasks(byAssignee.getOrDefault(UNASSIGNED_KEY, 0L))
+                .overdueTasks(overdue)
+                .byBoard(boards)
+                .byPriority(priorities)
+                .byAssignee(assignees)
+                .build();
+    }
+}
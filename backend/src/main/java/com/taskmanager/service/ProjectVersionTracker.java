@@ -0,0 +1,81 @@
+package com.taskmanager.service;
+
+import com.taskmanager.event.AuditEvent;
+import com.taskmanager.event.TaskChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versión en memoria del detalle de cada proyecto (boards, tareas, miembros). Sirve de
+ * clave para agrupar lecturas concurrentes: una lectura que empieza después de que un
+ * cambio se confirme ve otra versión y no se une a una carga anterior a ese cambio.
+ *
+ * Las versiones salen de un único reloj creciente, así que invalidar todos los proyectos
+ * (cambio de rol global) es subir el mínimo común sin recorrer el mapa. Solo se avanzan
+ * tras el commit: avanzarlas antes dejaría que una carga de la versión nueva leyera
+ * todavía los datos anteriores. Los listeners ya corren tras el commit y avanzan en el acto;
+ * una sincronización registrada en esa fase no llegaría a ejecutarse.
+ */
+@Component
+public class ProjectVersionTracker {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ConcurrentMap<Long, Long> versions = new ConcurrentHashMap<>();
+    private volatile long floor;
+
+    public long current(Long projectId) {
+        return Math.max(versions.getOrDefault(projectId, 0L), floor);
+    }
+
+    /**
+     * Avanza la versión del proyecto al confirmarse la transacción en curso, o en el
+     * momento si no hay ninguna.
+     */
+    public void invalidate(Long projectId) {
+        afterCommit(() -> advance(projectId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getBefore() != null) {
+            advance(event.getBefore().getProjectId());
+        }
+        if (event.getAfter() != null) {
+            advance(event.getAfter().getProjectId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAudit(AuditEvent event) {
+        // Los miembros del detalle incluyen su rol global, así que un cambio de rol afecta a todos
+        if (event.getProjectId() == null) {
+            floor = clock.incrementAndGet();
+        } else {
+            advance(event.getProjectId());
+        }
+    }
+
+    private void advance(Long projectId) {
+        versions.merge(projectId, clock.incrementAndGet(), Math::max);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
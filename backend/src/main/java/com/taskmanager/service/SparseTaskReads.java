@@ -0,0 +1,101 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.LabelResponse;
+import com.taskmanager.dto.SparseTaskResponse;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.dto.UserResponse;
+import com.taskmanager.entity.Task;
+import com.taskmanager.repository.TaskColumnsRow;
+import com.taskmanager.repository.TaskLabelRow;
+import com.taskmanager.repository.TaskRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lecturas de tareas con ?fields=, compartidas por ProjectService y TaskService. Las tareas
+ * salen de una consulta que solo selecciona las columnas pedidas y, si se piden las
+ * etiquetas, de una segunda consulta por las tareas devueltas; sin el fetch join de
+ * etiquetas cada tarea es una fila y no una por etiqueta.
+ */
+final class SparseTaskReads {
+
+    // Ids por consulta de etiquetas, para no enviar un IN con miles de parámetros
+    static final int LABEL_QUERY_CHUNK = 1000;
+
+    private SparseTaskReads() {
+    }
+
+    static List<TaskResponse> find(TaskRepository taskRepository, Specification<Task> spec, TaskFields fields) {
+        List<TaskResponse> tasks = new ArrayList<>();
+        findByBoard(taskRepository, spec, fields).values().forEach(tasks::addAll);
+        return tasks;
+    }
+
+    /**
+     * Las tareas agrupadas por board, cada grupo en orden de posición.
+     */
+    static Map<Long, List<TaskResponse>> findByBoard(TaskRepository taskRepository, Specification<Task> spec,
+                                                     TaskFields fields) {
+        List<TaskColumnsRow> rows = taskRepository.findColumns(spec, fields.attributes(), Sort.by("position"));
+
+        Map<Long, List<LabelResponse>> labelsByTask = fields.includes("labels") && !rows.isEmpty()
+                ? loadLabels(taskRepository, rows)
+                : Map.of();
+
+        Map<Long, List<TaskResponse>> tasksByBoard = new LinkedHashMap<>();
+        for (TaskColumnsRow row : rows) {
+            tasksByBoard.computeIfAbsent(row.boardId(), boardId -> new ArrayList<>())
+                    .add(toResponse(row, fields, labelsByTask));
+        }
+        return tasksByBoard;
+    }
+
+    private static Map<Long, List<LabelResponse>> loadLabels(TaskRepository taskRepository, List<TaskColumnsRow> rows) {
+        List<Long> taskIds = rows.stream().map(TaskColumnsRow::id).toList();
+
+        // Una instancia por etiqueta aunque la lleven muchas tareas
+        Map<Long, LabelResponse> labels = new HashMap<>();
+        Map<Long, List<LabelResponse>> labelsByTask = new HashMap<>();
+        for (int from = 0; from < taskIds.size(); from += LABEL_QUERY_CHUNK) {
+            List<Long> chunk = taskIds.subList(from, Math.min(from + LABEL_QUERY_CHUNK, taskIds.size()));
+            for (TaskLabelRow row : taskRepository.findLabelRowsByTaskIdIn(chunk)) {
+                LabelResponse label = labels.computeIfAbsent(row.getLabelId(), id -> LabelResponse.builder()
+                        .id(id).name(row.getName()).color(row.getColor()).build());
+                labelsByTask.computeIfAbsent(row.getTaskId(), id -> new ArrayList<>()).add(label);
+            }
+        }
+        return labelsByTask;
+    }
+
+    private static TaskResponse toResponse(TaskColumnsRow row, TaskFields fields, Map<Long, List<LabelResponse>> labelsByTask) {
+        SparseTaskResponse response = new SparseTaskResponse(fields.names());
+        response.setId(row.id());
+        response.setTitle(row.title());
+        response.setDescription(row.description());
+        response.setPriority(row.priority() != null ? row.priority().name() : null);
+        response.setPosition(row.position());
+        if (row.assigneeId() != null) {
+            response.setAssignee(UserResponse.builder()
+                    .id(row.assigneeId())
+                    .email(row.assigneeEmail())
+                    .fullName(row.assigneeFullName())
+                    .role(row.assigneeRole().name())
+                    .build());
+        }
+        if (fields.includes("labels")) {
+            response.setLabels(labelsByTask.getOrDefault(row.id(), new ArrayList<>()));
+        }
+        response.setDueDate(row.dueDate() != null ? row.dueDate().toString() : null);
+        if (fields.includes("boardId")) {
+            response.setBoardId(row.boardId());
+        }
+        response.setCreatedAt(row.createdAt() != null ? row.createdAt().toString() : null);
+        return response;
+    }
+}
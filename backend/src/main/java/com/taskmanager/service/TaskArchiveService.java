@@ -0,0 +1,319 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.ArchiveProperties;
+import com.taskmanager.dto.ArchivedTaskResponse;
+import com.taskmanager.dto.LabelResponse;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.dto.UserResponse;
+import com.taskmanager.entity.*;
+import com.taskmanager.enums.Permission;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Saca de la tabla tasks las tareas terminadas hace tiempo (app.archive) y las guarda en
+ * archived_tasks, de modo que la carga de boards solo lee tareas vivas. Las tareas
+ * archivadas se pueden buscar y restaurar por proyecto.
+ */
+@Slf4j
+@Service
+public class TaskArchiveService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final BoardRepository boardRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final LabelRepository labelRepository;
+    private final PermissionService permissionService;
+    private final ArchiveProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskArchiveService(TaskRepository taskRepository,
+                              ArchivedTaskRepository archivedTaskRepository,
+                              BoardRepository boardRepository,
+                              ProjectRepository projectRepository,
+                              UserRepository userRepository,
+                              LabelRepository labelRepository,
+                              PermissionService permissionService,
+                              ArchiveProperties properties,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.boardRepository = boardRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.labelRepository = labelRepository;
+        this.permissionService = permissionService;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Archiva por lotes de app.archive.batch-size, una transacción por lote. Las posiciones
+     * de los boards afectados se recalculan una sola vez al final.
+     */
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}")
+    public void archiveCompletedTasks() {
+        if (!properties.isEnabled() || properties.getDoneBoards().isEmpty()) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getMinAge());
+        Set<Long> touchedBoards = new HashSet<>();
+        int archived = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> archiveBatch(cutoff, touchedBoards));
+            archived += batch;
+        } while (batch == properties.getBatchSize());
+
+        for (Long boardId : touchedBoards) {
+            transactionTemplate.executeWithoutResult(status -> renumberBoard(boardId));
+        }
+
+        if (archived > 0) {
+            log.info("Archivadas {} tareas de {} boards", archived, touchedBoards.size());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArchivedTaskResponse> searchArchive(Long projectId, String query, int page, int size, User currentUser) {
+        if (page < 0 || size < 1) {
+            throw new BadRequestException("Parámetros de paginación inválidos");
+        }
+
+        Project project = projectRepository.findActiveById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
+
+        validateMemberAccess(project, currentUser);
+
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "archivedAt", "id"));
+
+        List<ArchivedTask> results = query == null || query.isBlank()
+                ? archivedTaskRepository.findByProjectId(projectId, pageable).getContent()
+                : archivedTaskRepository.search(projectId, toLikePattern(query), pageable).getContent();
+
+        return results.stream().map(this::mapToArchivedResponse).collect(Collectors.toList());
+    }
+
+    /**
+     * Vuelve a crear la tarea al final de su board original, o del primer board del proyecto
+     * si el original ya no existe. La tarea restaurada recibe un id nuevo.
+     */
+    @Transactional
+    public TaskResponse restoreTask(Long projectId, Long archivedTaskId, User currentUser) {
+        permissionService.checkPermission(currentUser, Permission.TASK_CREATE);
+
+        Project project = projectRepository.findActiveById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto no encontrado con id: " + projectId));
+
+        validateMemberAccess(project, currentUser);
+
+        ArchivedTask archived = archivedTaskRepository.findByIdAndProjectId(archivedTaskId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarea archivada no encontrada con id: " + archivedTaskId));
+
+        Board board = boardRepository.findById(archived.getBoardId())
+                .filter(b -> b.getProject().getId().equals(projectId))
+                .or(() -> boardRepository.findByProjectIdOrderByPositionAsc(projectId).stream().findFirst())
+                .orElseThrow(() -> new BadRequestException("El proyecto no tiene boards donde restaurar la tarea"));
+
+        lockBoards(List.of(board.getId()));
+        Integer lastPosition = taskRepository.findMaxPositionByBoardId(board.getId());
+
+        Task task = Task.builder()
+                .title(archived.getTitle())
+                .description(archived.getDescription())
+                .priority(archived.getPriority())
+                .position(lastPosition == null ? 0 : lastPosition + 1)
+                .board(board)
+                .dueDate(archived.getDueDate())
+                .labels(new HashSet<>())
+                .build();
+
+        if (archived.getAssigneeId() != null) {
+            userRepository.findById(archived.getAssigneeId()).ifPresent(task::setAssignee);
+        }
+
+        // Las etiquetas borradas mientras la tarea estaba archivada se descartan
+        if (!archived.getLabelIds().isEmpty()) {
+            labelRepository.findAllById(archived.getLabelIds()).stream()
+                    .filter(label -> label.getProject().getId().equals(projectId))
+                    .forEach(task.getLabels()::add);
+        }
+
+        Task saved = taskRepository.save(task);
+        archivedTaskRepository.delete(archived);
+
+        publishChange(TaskChangedEvent.Type.RESTORED, null, TaskSnapshot.of(saved), currentUser.getId());
+
+        return mapToTaskResponse(saved);
+    }
+
+    private int archiveBatch(LocalDateTime cutoff, Set<Long> touchedBoards) {
+        List<Long> candidates = taskRepository.findArchivableIds(
+                properties.getDoneBoards(), cutoff, PageRequest.of(0, properties.getBatchSize()));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        // Primero se bloquean los boards y después se vuelve a comprobar cada candidata: una
+        // tarea movida o editada antes del bloqueo ya no se archiva, y con el bloqueo ningún
+        // movimiento puede sacarlas de esos boards hasta el commit
+        List<Long> boardIds = taskRepository.findBoardIdsByIdIn(candidates);
+        lockBoards(boardIds);
+        List<Long> taskIds = taskRepository.findArchivableIdsIn(candidates, boardIds, properties.getDoneBoards(), cutoff);
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ArchivedTask> archived = new ArrayList<>();
+        List<TaskSnapshot> snapshots = new ArrayList<>();
+        for (Task task : taskRepository.findAllWithLabelsByIdIn(taskIds)) {
+            snapshots.add(TaskSnapshot.of(task));
+            archived.add(ArchivedTask.builder()
+                    .originalTaskId(task.getId())
+                    .projectId(task.getBoard().getProject().getId())
+                    .boardId(task.getBoard().getId())
+                    .boardName(task.getBoard().getName())
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .priority(task.getPriority())
+                    .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
+                    .labelIds(task.getLabels().stream().map(Label::getId).collect(Collectors.toSet()))
+                    .dueDate(task.getDueDate())
+                    .createdAt(task.getCreatedAt())
+                    .updatedAt(task.getUpdatedAt())
+                    .archivedAt(now)
+                    .build());
+            touchedBoards.add(task.getBoard().getId());
+        }
+        archivedTaskRepository.saveAll(archived);
+
+        taskRepository.deleteLabelLinksByTaskIds(taskIds);
+        taskRepository.deleteAllByIdInBatch(taskIds);
+
+        for (TaskSnapshot snapshot : snapshots) {
+            publishChange(TaskChangedEvent.Type.ARCHIVED, snapshot, null, null);
+        }
+
+        return taskIds.size();
+    }
+
+    private void publishChange(TaskChangedEvent.Type type, TaskSnapshot before, TaskSnapshot after, Long actorId) {
+        eventPublisher.publishEvent(TaskChangedEvent.builder()
+                .type(type)
+                .before(before)
+                .after(after)
+                .actorId(actorId)
+                .at(LocalDateTime.now())
+                .build());
+    }
+
+    private void renumberBoard(Long boardId) {
+        lockBoards(List.of(boardId));
+        List<Task> tasks = taskRepository.findByBoardIdOrderByPositionAsc(boardId);
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setPosition(i);
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    /**
+     * Como TaskService.lockBoards: bloquea los boards en orden de id antes de tocar sus tareas,
+     * para no entrar en deadlock con los movimientos, y aumenta su versión.
+     */
+    private void lockBoards(Collection<Long> boardIds) {
+        for (Board board : boardRepository.lockAllById(new TreeSet<>(boardIds))) {
+            board.setVersion(board.getVersion() != null ? board.getVersion() + 1 : 1);
+        }
+    }
+
+    private static String toLikePattern(String query) {
+        String escaped = query.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // --- Validación de acceso ---
+
+    private void validateMemberAccess(Project project, User currentUser) {
+        boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
+        boolean isMember = project.getMembers().stream()
+                .anyMatch(m -> m.getId().equals(currentUser.getId()));
+
+        if (!isOwner && !isMember) {
+            throw new AccessDeniedException("No tienes acceso a este proyecto");
+        }
+    }
+
+    // --- Mappers ---
+
+    private ArchivedTaskResponse mapToArchivedResponse(ArchivedTask archived) {
+        return ArchivedTaskResponse.builder()
+                .id(archived.getId())
+                .originalTaskId(archived.getOriginalTaskId())
+                .title(archived.getTitle())
+                .description(archived.getDescription())
+                .priority(archived.getPriority() != null ? archived.getPriority().name() : null)
+                .assigneeId(archived.getAssigneeId())
+                .labelIds(new ArrayList<>(archived.getLabelIds()))
+                .dueDate(archived.getDueDate() != null ? archived.getDueDate().toString() : null)
+                .boardId(archived.getBoardId())
+                .boardName(archived.getBoardName())
+                .createdAt(archived.getCreatedAt() != null ? archived.getCreatedAt().toString() : null)
+                .archivedAt(archived.getArchivedAt().toString())
+                .build();
+    }
+
+    private TaskResponse mapToTaskResponse(Task task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .priority(task.getPriority() != null ? task.getPriority().name() : null)
+                .position(task.getPosition())
+                .assignee(task.getAssignee() != null
+                        ? UserResponse.builder()
+                            .id(task.getAssignee().getId())
+                            .email(task.getAssignee().getEmail())
+                            .fullName(task.getAssignee().getFullName())
+                            .role(task.getAssignee().getRole().name())
+                            .build()
+                        : null)
+                .labels(task.getLabels().stream()
+                        .map(l -> LabelResponse.builder().id(l.getId()).name(l.getName()).color(l.getColor()).build())
+                        .collect(Collectors.toList()))
+                .dueDate(task.getDueDate() != null ? task.getDueDate().toString() : null)
+                .boardId(task.getBoard().getId())
+                .createdAt(task.getCreatedAt() != null ? task.getCreatedAt().toString() : null)
+                .build();
+    }
+}
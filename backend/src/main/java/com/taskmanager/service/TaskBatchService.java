@@ -0,0 +1,441 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.*;
+import com.taskmanager.entity.*;
+import com.taskmanager.enums.Permission;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.TaskOperationType;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.LabelRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * POST /api/tasks/batch: una lista ordenada de altas, ediciones, movimientos y borrados
+ * en una sola transacción. Las búsquedas se hacen una vez para todo el lote (tareas,
+ * boards, etiquetas y responsables con un findAllById cada uno, y el acceso a cada
+ * proyecto se comprueba una sola vez) y cada board afectado se renumera una vez al final.
+ *
+ * Si una operación falla, el lote completo se deshace y la respuesta indica cuál falló.
+ */
+@Service
+public class TaskBatchService {
+
+    private static final Map<TaskOperationType, Permission> PERMISSIONS = Map.of(
+            TaskOperationType.CREATE, Permission.TASK_CREATE,
+            TaskOperationType.UPDATE, Permission.TASK_EDIT,
+            TaskOperationType.MOVE, Permission.TASK_MOVE,
+            TaskOperationType.DELETE, Permission.TASK_DELETE);
+
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final LabelRepository labelRepository;
+    private final PermissionService permissionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskBatchService(TaskRepository taskRepository,
+                            BoardRepository boardRepository,
+                            UserRepository userRepository,
+                            LabelRepository labelRepository,
+                            PermissionService permissionService,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.boardRepository = boardRepository;
+        this.userRepository = userRepository;
+        this.labelRepository = labelRepository;
+        this.permissionService = permissionService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public TaskBatchResponse execute(TaskBatchRequest request, User currentUser) {
+        List<TaskOperation> operations = request.getOperations();
+        operations.stream().map(TaskOperation::getType).distinct()
+                .forEach(type -> permissionService.checkPermission(currentUser, PERMISSIONS.get(type)));
+
+        return transactionTemplate.execute(status -> executeInTransaction(operations, currentUser, status));
+    }
+
+    private TaskBatchResponse executeInTransaction(List<TaskOperation> operations, User currentUser,
+                                                   TransactionStatus status) {
+        Batch batch = load(operations, currentUser);
+        Task[] affected = new Task[operations.size()];
+        for (int i = 0; i < operations.size(); i++) {
+            try {
+                affected[i] = apply(operations.get(i), batch);
+            } catch (ResourceNotFoundException | AccessDeniedException | BadRequestException e) {
+                status.setRollbackOnly();
+                return rejected(operations, i, e);
+            }
+        }
+        batch.renumber();
+
+        List<TaskOperationResult> results = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            TaskOperation operation = operations.get(i);
+            boolean deleted = operation.getType() == TaskOperationType.DELETE;
+            results.add(TaskOperationResult.builder()
+                    .index(i)
+                    .type(operation.getType())
+                    .status(operation.getType() == TaskOperationType.CREATE
+                            ? HttpStatus.CREATED.value()
+                            : deleted ? HttpStatus.NO_CONTENT.value() : HttpStatus.OK.value())
+                    .taskId(affected[i].getId())
+                    .task(deleted ? null : mapToResponse(affected[i]))
+                    .build());
+        }
+        return TaskBatchResponse.builder().applied(true).results(results).build();
+    }
+
+    /**
+     * Una consulta por tipo de entidad para todo el lote. Los boards se bloquean en orden de
+     * id, como en TaskService, antes de leer sus tareas.
+     *
+     * Aquí no se valida nada: un id que falta se salta y lo rechaza apply, para que la
+     * respuesta señale la operación que lo omitió.
+     */
+    private Batch load(List<TaskOperation> operations, User currentUser) {
+        Set<Long> taskIds = operations.stream()
+                .filter(op -> op.getType() != TaskOperationType.CREATE)
+                .map(TaskOperation::getTaskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Task> tasks = byId(taskRepository.findAllById(taskIds), Task::getId);
+
+        Set<Long> boardIds = new TreeSet<>();
+        tasks.values().forEach(t -> boardIds.add(t.getBoard().getId()));
+        for (TaskOperation op : operations) {
+            if (op.getTask() != null && op.getTask().getBoardId() != null) {
+                boardIds.add(op.getTask().getBoardId());
+            }
+            if (op.getMove() != null && op.getMove().getTargetBoardId() != null) {
+                boardIds.add(op.getMove().getTargetBoardId());
+            }
+        }
+        Map<Long, Board> boards = byId(boardRepository.lockAllById(boardIds), Board::getId);
+
+        Set<Long> labelIds = operations.stream()
+                .filter(op -> op.getTask() != null && op.getTask().getLabelIds() != null)
+                .flatMap(op -> op.getTask().getLabelIds().stream())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> assigneeIds = operations.stream()
+                .filter(op -> op.getTask() != null && op.getTask().getAssigneeId() != null)
+                .map(op -> op.getTask().getAssigneeId())
+                .collect(Collectors.toSet());
+
+        return new Batch(currentUser, tasks, boards,
+                labelIds.isEmpty() ? Map.of() : byId(labelRepository.findAllById(labelIds), Label::getId),
+                assigneeIds.isEmpty() ? Map.of() : byId(userRepository.findAllById(assigneeIds), User::getId));
+    }
+
+    private Task apply(TaskOperation operation, Batch batch) {
+        return switch (operation.getType()) {
+            case CREATE -> create(require(operation.getTask(), "task"), batch);
+            case UPDATE -> update(operation.getTaskId(), require(operation.getTask(), "task"), batch);
+            case MOVE -> move(operation.getTaskId(), require(operation.getMove(), "move"), batch);
+            case DELETE -> delete(operation.getTaskId(), batch);
+        };
+    }
+
+    private Task create(TaskRequest request, Batch batch) {
+        Board board = batch.board(request.getBoardId());
+        batch.checkAccess(board.getProject());
+
+        Task task = Task.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .priority(request.getPriority() != null ? parsePriority(request.getPriority()) : Priority.MEDIUM)
+                .board(board)
+                .labels(new HashSet<>())
+                .build();
+        if (request.getAssigneeId() != null) {
+            task.setAssignee(batch.assignee(request.getAssigneeId()));
+        }
+        if (request.getLabelIds() != null && !request.getLabelIds().isEmpty()) {
+            task.setLabels(batch.labels(request.getLabelIds()));
+        }
+        if (request.getDueDate() != null && !request.getDueDate().isEmpty()) {
+            task.setDueDate(parseDate(request.getDueDate()));
+        }
+
+        // Al final del board; la posición definitiva se asigna al renumerar
+        List<Task> column = batch.column(board.getId());
+        task.setPosition(column.size());
+        Task saved = taskRepository.save(task);
+        column.add(saved);
+
+        publishChange(TaskChangedEvent.Type.CREATED, null, TaskSnapshot.of(saved), batch.currentUser);
+        return saved;
+    }
+
+    private Task update(Long taskId, TaskRequest request, Batch batch) {
+        Task task = batch.task(taskId);
+        batch.checkAccess(task.getBoard().getProject());
+        TaskSnapshot before = TaskSnapshot.of(task);
+
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        if (request.getPriority() != null) {
+            task.setPriority(parsePriority(request.getPriority()));
+        }
+        if (request.getBoardId() != null && !request.getBoardId().equals(task.getBoard().getId())) {
+            Board target = batch.targetBoard(request.getBoardId(), task);
+            batch.column(task.getBoard().getId()).remove(task);
+            batch.column(target.getId()).add(task);
+            task.setBoard(target);
+        }
+        task.setAssignee(request.getAssigneeId() != null ? batch.assignee(request.getAssigneeId()) : null);
+        if (request.getLabelIds() != null) {
+            task.setLabels(batch.labels(request.getLabelIds()));
+        }
+        task.setDueDate(request.getDueDate() != null && !request.getDueDate().isEmpty()
+                ? parseDate(request.getDueDate())
+                : null);
+
+        publishChange(TaskChangedEvent.Type.UPDATED, before, TaskSnapshot.of(task), batch.currentUser);
+        return task;
+    }
+
+    private Task move(Long taskId, TaskMoveRequest request, Batch batch) {
+        Task task = batch.task(taskId);
+        batch.checkAccess(task.getBoard().getProject());
+        Board target = batch.targetBoard(request.getTargetBoardId(), task);
+        TaskSnapshot before = TaskSnapshot.of(task);
+
+        // Primero se cargan ambas columnas: la tarea aún está en la de origen
+        List<Task> source = batch.column(task.getBoard().getId());
+        List<Task> destination = batch.column(target.getId());
+        source.remove(task);
+        destination.add(Math.min(request.getNewPosition(), destination.size()), task);
+        task.setBoard(target);
+
+        publishChange(TaskChangedEvent.Type.MOVED, before, TaskSnapshot.of(task), batch.currentUser);
+        return task;
+    }
+
+    private Task delete(Long taskId, Batch batch) {
+        Task task = batch.task(taskId);
+        batch.checkAccess(task.getBoard().getProject());
+
+        batch.column(task.getBoard().getId()).remove(task);
+        batch.tasks.remove(taskId);
+        taskRepository.delete(task);
+
+        publishChange(TaskChangedEvent.Type.DELETED, TaskSnapshot.of(task), null, batch.currentUser);
+        return task;
+    }
+
+    private TaskBatchResponse rejected(List<TaskOperation> operations, int failedIndex, RuntimeException error) {
+        List<TaskOperationResult> results = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            TaskOperationResult.TaskOperationResultBuilder result = TaskOperationResult.builder()
+                    .index(i)
+                    .type(operations.get(i).getType())
+                    .taskId(operations.get(i).getTaskId());
+            if (i == failedIndex) {
+                result.status(statusOf(error).value()).error(error.getMessage());
+            } else {
+                result.status(HttpStatus.FAILED_DEPENDENCY.value());
+            }
+            results.add(result.build());
+        }
+        return TaskBatchResponse.builder().applied(false).results(results).build();
+    }
+
+    private HttpStatus statusOf(RuntimeException error) {
+        if (error instanceof ResourceNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (error instanceof AccessDeniedException) {
+            return HttpStatus.FORBIDDEN;
+        }
+        return HttpStatus.BAD_REQUEST;
+    }
+
+    private void publishChange(TaskChangedEvent.Type type, TaskSnapshot before, TaskSnapshot after, User actor) {
+        eventPublisher.publishEvent(TaskChangedEvent.builder()
+                .type(type)
+                .before(before)
+                .after(after)
+                .actorId(actor.getId())
+                .at(LocalDateTime.now())
+                .build());
+    }
+
+    private static <T> T require(T value, String field) {
+        if (value == null) {
+            throw new BadRequestException("Falta " + field + " en una operación del lote");
+        }
+        return value;
+    }
+
+    private static Priority parsePriority(String value) {
+        try {
+            return Priority.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Prioridad inválida: " + value);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeException e) {
+            throw new BadRequestException("Fecha inválida: " + value);
+        }
+    }
+
+    private static <T> Map<Long, T> byId(Collection<T> entities, Function<T, Long> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    // --- Mapper ---
+
+    private TaskResponse mapToResponse(Task task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .priority(task.getPriority() != null ? task.getPriority().name() : null)
+                .position(task.getPosition())
+                .assignee(task.getAssignee() != null
+                        ? UserResponse.builder()
+                            .id(task.getAssignee().getId())
+                            .email(task.getAssignee().getEmail())
+                            .fullName(task.getAssignee().getFullName())
+                            .role(task.getAssignee().getRole().name())
+                            .build()
+                        : null)
+                .labels(task.getLabels() != null
+                        ? task.getLabels().stream()
+                            .map(l -> LabelResponse.builder().id(l.getId()).name(l.getName()).color(l.getColor()).build())
+                            .collect(Collectors.toList())
+                        : new ArrayList<>())
+                .dueDate(task.getDueDate() != null ? task.getDueDate().toString() : null)
+                .boardId(task.getBoard().getId())
+                .createdAt(task.getCreatedAt() != null ? task.getCreatedAt().toString() : null)
+                .build();
+    }
+
+    /**
+     * Lo cargado para el lote y las columnas que se van modificando en memoria.
+     */
+    private class Batch {
+
+        private final User currentUser;
+        private final Map<Long, Task> tasks;
+        private final Map<Long, Board> boards;
+        private final Map<Long, Label> labels;
+        private final Map<Long, User> assignees;
+        private final Set<Long> accessibleProjects = new HashSet<>();
+        private final Map<Long, List<Task>> columns = new LinkedHashMap<>();
+
+        Batch(User currentUser, Map<Long, Task> tasks, Map<Long, Board> boards,
+              Map<Long, Label> labels, Map<Long, User> assignees) {
+            this.currentUser = currentUser;
+            this.tasks = tasks;
+            this.boards = boards;
+            this.labels = labels;
+            this.assignees = assignees;
+        }
+
+        Task task(Long taskId) {
+            Task task = tasks.get(require(taskId, "taskId"));
+            if (task == null) {
+                throw new ResourceNotFoundException("Tarea no encontrada con id: " + taskId);
+            }
+            return task;
+        }
+
+        Board board(Long boardId) {
+            Board board = boards.get(require(boardId, "boardId"));
+            if (board == null) {
+                throw new ResourceNotFoundException("Board no encontrado con id: " + boardId);
+            }
+            return board;
+        }
+
+        Board targetBoard(Long boardId, Task task) {
+            Board board = board(boardId);
+            if (!board.getProject().getId().equals(task.getBoard().getProject().getId())) {
+                throw new BadRequestException("El board destino pertenece a otro proyecto");
+            }
+            return board;
+        }
+
+        User assignee(Long userId) {
+            User user = assignees.get(userId);
+            if (user == null) {
+                throw new ResourceNotFoundException("Usuario no encontrado con id: " + userId);
+            }
+            return user;
+        }
+
+        Set<Label> labels(List<Long> labelIds) {
+            return labelIds.stream().map(labels::get).filter(Objects::nonNull).collect(Collectors.toSet());
+        }
+
+        void checkAccess(Project project) {
+            if (accessibleProjects.contains(project.getId())) {
+                return;
+            }
+            validateMemberAccess(project, currentUser);
+            accessibleProjects.add(project.getId());
+        }
+
+        /**
+         * Tareas del board en orden, leídas la primera vez que una operación lo toca.
+         */
+        List<Task> column(Long boardId) {
+            return columns.computeIfAbsent(boardId,
+                    id -> new ArrayList<>(taskRepository.findByBoardIdOrderByPositionAsc(id)));
+        }
+
+        void renumber() {
+            for (Map.Entry<Long, List<Task>> column : columns.entrySet()) {
+                List<Task> ordered = column.getValue();
+                for (int i = 0; i < ordered.size(); i++) {
+                    ordered.get(i).setPosition(i);
+                }
+                Board board = boards.get(column.getKey());
+                board.setVersion(board.getVersion() != null ? board.getVersion() + 1 : 1);
+            }
+        }
+    }
+
+    private void validateMemberAccess(Project project, User currentUser) {
+        if (project.getDeletedAt() != null) {
+            throw new ResourceNotFoundException("Proyecto no encontrado con id: " + project.getId());
+        }
+
+        boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
+        boolean isMember = project.getMembers().stream()
+                .anyMatch(m -> m.getId().equals(currentUser.getId()));
+
+        if (!isOwner && !isMember) {
+            throw new AccessDeniedException("No tienes acceso a este proyecto");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.BadRequestException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de TaskResponse pedidos con ?fields=title,priority,... (sparse fieldsets). El id
+ * se incluye siempre. parse devuelve null sin parámetro, y entonces se devuelve la tarea completa.
+ */
+public record TaskFields(Set<String> names) {
+
+    static final List<String> AVAILABLE = List.of("id", "title", "description", "priority", "position",
+            "assignee", "labels", "dueDate", "boardId", "createdAt");
+
+    private static final Set<String> TASK_ATTRIBUTES = Set.of("title", "description", "priority", "position",
+            "assignee", "dueDate", "createdAt");
+
+    public static TaskFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String name : fields.split(",")) {
+            String field = name.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!AVAILABLE.contains(field)) {
+                throw new BadRequestException("Campo desconocido en fields: " + field
+                        + ". Disponibles: " + String.join(", ", AVAILABLE));
+            }
+            names.add(field);
+        }
+        return new TaskFields(Set.copyOf(names));
+    }
+
+    boolean includes(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * Atributos de Task que hay que seleccionar (ver TaskRepositoryCustom.findColumns).
+     */
+    Set<String> attributes() {
+        return names.stream().filter(TASK_ATTRIBUTES::contains).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.entity.Task;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.exception.BadRequestException;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static com.taskmanager.repository.TaskSpecifications.*;
+
+/**
+ * Traduce un TaskFilter recibido por query params a una Specification sobre Task.
+ */
+final class TaskFilters {
+
+    private TaskFilters() {
+    }
+
+    static Specification<Task> toSpecification(Specification<Task> base, TaskFilter filter) {
+        Specification<Task> spec = base;
+        if (filter == null) {
+            return spec;
+        }
+
+        if (Boolean.TRUE.equals(filter.getUnassigned())) {
+            if (filter.getAssigneeId() != null) {
+                throw new BadRequestException("No se puede filtrar por responsable y sin asignar a la vez");
+            }
+            spec = spec.and(unassigned());
+        } else if (filter.getAssigneeId() != null) {
+            spec = spec.and(assignedTo(filter.getAssigneeId()));
+        }
+
+        if (filter.getLabelIds() != null && !filter.getLabelIds().isEmpty()) {
+            spec = spec.and(hasAnyLabel(filter.getLabelIds()));
+        }
+
+        if (filter.getPriority() != null && !filter.getPriority().isBlank()) {
+            spec = spec.and(withPriority(parsePriority(filter.getPriority())));
+        }
+
+        LocalDate dueFrom = parseDate(filter.getDueFrom(), "dueFrom");
+        LocalDate dueTo = parseDate(filter.getDueTo(), "dueTo");
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            throw new BadRequestException("dueFrom no puede ser posterior a dueTo");
+        }
+        if (dueFrom != null) {
+            spec = spec.and(dueOnOrAfter(dueFrom));
+        }
+        if (dueTo != null) {
+            spec = spec.and(dueOnOrBefore(dueTo));
+        }
+
+        return spec;
+    }
+
+    private static Priority parsePriority(String value) {
+        try {
+            return Priority.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Prioridad no válida: " + value);
+        }
+    }
+
+    private static LocalDate parseDate(String value, String param) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Fecha no válida en " + param + ": " + value);
+        }
+    }
+}
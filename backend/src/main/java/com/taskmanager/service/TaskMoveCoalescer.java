@@ -0,0 +1,296 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.MoveCoalescingProperties;
+import com.taskmanager.config.ReplicaLagGuard;
+import com.taskmanager.config.SchedulingConfig;
+import com.taskmanager.dto.TaskMoveAck;
+import com.taskmanager.dto.TaskMoveRequest;
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Permission;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Movimientos agrupados para el drag & drop: mientras el usuario arrastra una tarjeta, el
+ * cliente envía varios movimientos seguidos. El primero de cada proyecto abre un lote que
+ * se aplica pasada app.move-coalescing.window; los que llegan entretanto se suman al lote y
+ * se aplican todos en una única transacción. De varios movimientos de la misma tarea solo
+ * se aplica el último, y cada board afectado se lee y renumera una sola vez.
+ *
+ * El lote se aplica en MOVE_BATCH_SCHEDULER (ver SchedulingConfig). Cada petición valida su
+ * movimiento en una transacción propia que cierra antes de esperar, así que mientras espera
+ * el resultado no retiene ninguna conexión; luego responde con la posición final y la
+ * versión del board.
+ */
+@Slf4j
+@Service
+public class TaskMoveCoalescer {
+
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final PermissionService permissionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MoveCoalescingProperties properties;
+    private final TaskScheduler batchScheduler;
+    private final ObjectProvider<ReplicaLagGuard> replicaLagGuard;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ConcurrentMap<Long, MoveBatch> batches = new ConcurrentHashMap<>();
+
+    public TaskMoveCoalescer(TaskRepository taskRepository,
+                             BoardRepository boardRepository,
+                             PermissionService permissionService,
+                             ApplicationEventPublisher eventPublisher,
+                             MoveCoalescingProperties properties,
+                             @Qualifier(SchedulingConfig.MOVE_BATCH_SCHEDULER) TaskScheduler batchScheduler,
+                             ObjectProvider<ReplicaLagGuard> replicaLagGuard,
+                             PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.boardRepository = boardRepository;
+        this.permissionService = permissionService;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.batchScheduler = batchScheduler;
+        this.replicaLagGuard = replicaLagGuard;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public TaskMoveAck moveTask(Long taskId, TaskMoveRequest request, User currentUser) {
+        permissionService.checkPermission(currentUser, Permission.TASK_MOVE);
+
+        // Las validaciones se hacen aquí, por petición, para que un error no afecte al resto del lote
+        Long projectId = readOnlyTransaction.execute(status -> validateMove(taskId, request, currentUser));
+        PendingMove move = new PendingMove(taskId, request.getTargetBoardId(), request.getNewPosition(),
+                currentUser.getId(), currentUser.getEmail());
+
+        if (!properties.isEnabled()) {
+            applyNow(projectId, List.of(move));
+            return await(move.result);
+        }
+
+        boolean[] leader = {false};
+        MoveBatch batch = batches.compute(projectId, (id, current) -> {
+            if (current == null || current.moves.size() >= properties.getMaxBatchSize()) {
+                current = new MoveBatch();
+                leader[0] = true;
+            }
+            current.moves.add(move);
+            return current;
+        });
+
+        if (leader[0]) {
+            batchScheduler.schedule(() -> {
+                // A partir de aquí los movimientos nuevos del proyecto abren otro lote
+                batches.remove(projectId, batch);
+                applyNow(projectId, batch.moves);
+            }, Instant.now().plus(properties.getWindow()));
+        }
+        return await(move.result);
+    }
+
+    private Long validateMove(Long taskId, TaskMoveRequest request, User currentUser) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarea no encontrada con id: " + taskId));
+        Project project = task.getBoard().getProject();
+
+        validateMemberAccess(project, currentUser);
+
+        Board targetBoard = boardRepository.findById(request.getTargetBoardId())
+                .orElseThrow(() -> new ResourceNotFoundException("Board destino no encontrado con id: " + request.getTargetBoardId()));
+        if (!targetBoard.getProject().getId().equals(project.getId())) {
+            throw new BadRequestException("El board destino pertenece a otro proyecto");
+        }
+        return project.getId();
+    }
+
+    /**
+     * Los resultados se entregan después del commit: si la transacción falla, todos los
+     * movimientos del lote reciben el error.
+     *
+     * En el hilo del planificador no hay usuario autenticado, así que ReadWriteRoutingDataSource
+     * no puede registrar la escritura; se registra aquí para cada autor antes de responder.
+     */
+    private void applyNow(Long projectId, List<PendingMove> moves) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyBatch(projectId, moves));
+        } catch (RuntimeException | Error e) {
+            log.warn("No se pudo aplicar un lote de {} movimientos del proyecto {}", moves.size(), projectId, e);
+            moves.forEach(m -> m.result.completeExceptionally(e));
+            return;
+        }
+        ReplicaLagGuard lagGuard = replicaLagGuard.getIfAvailable();
+        if (lagGuard != null) {
+            moves.forEach(m -> lagGuard.recordWrite(m.actorEmail));
+        }
+        for (PendingMove move : moves) {
+            if (move.error != null) {
+                move.result.completeExceptionally(move.error);
+            } else {
+                move.result.complete(move.ack);
+            }
+        }
+    }
+
+    private void applyBatch(Long projectId, List<PendingMove> moves) {
+        // El último movimiento de cada tarea es el que cuenta; los anteriores se responden con su resultado
+        Map<Long, PendingMove> finalMoves = new LinkedHashMap<>();
+        for (PendingMove move : moves) {
+            finalMoves.remove(move.taskId);
+            finalMoves.put(move.taskId, move);
+        }
+
+        // Todos los boards del proyecto, en orden de id, como en TaskService.lockBoards
+        Map<Long, Board> boards = boardRepository.lockByProjectId(projectId).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+        Map<Long, Task> tasks = taskRepository.findAllById(finalMoves.keySet()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<Long, List<Task>> columns = new HashMap<>();
+        Map<Long, TaskSnapshot> before = new LinkedHashMap<>();
+        Map<Long, RuntimeException> failed = new HashMap<>();
+
+        for (PendingMove move : finalMoves.values()) {
+            Task task = tasks.get(move.taskId);
+            Board target = boards.get(move.targetBoardId);
+            if (task == null || !boards.containsKey(task.getBoard().getId())) {
+                failed.put(move.taskId, new ResourceNotFoundException("Tarea no encontrada con id: " + move.taskId));
+                continue;
+            }
+            if (target == null) {
+                failed.put(move.taskId, new ResourceNotFoundException("Board destino no encontrado con id: " + move.targetBoardId));
+                continue;
+            }
+
+            before.putIfAbsent(task.getId(), TaskSnapshot.of(task));
+            List<Task> source = column(columns, task.getBoard().getId());
+            source.remove(task);
+            List<Task> destination = column(columns, target.getId());
+            destination.add(Math.min(move.newPosition, destination.size()), task);
+            task.setBoard(target);
+        }
+
+        for (Map.Entry<Long, List<Task>> column : columns.entrySet()) {
+            List<Task> ordered = column.getValue();
+            for (int i = 0; i < ordered.size(); i++) {
+                ordered.get(i).setPosition(i);
+            }
+            Board board = boards.get(column.getKey());
+            board.setVersion(board.getVersion() != null ? board.getVersion() + 1 : 1);
+        }
+
+        for (PendingMove move : finalMoves.values()) {
+            if (!failed.containsKey(move.taskId)) {
+                Task task = tasks.get(move.taskId);
+                eventPublisher.publishEvent(TaskChangedEvent.builder()
+                        .type(TaskChangedEvent.Type.MOVED)
+                        .before(before.get(move.taskId))
+                        .after(TaskSnapshot.of(task))
+                        .actorId(move.actorId)
+                        .at(LocalDateTime.now())
+                        .build());
+            }
+        }
+
+        for (PendingMove move : moves) {
+            move.error = failed.get(move.taskId);
+            if (move.error != null) {
+                continue;
+            }
+            Task task = tasks.get(move.taskId);
+            move.ack = TaskMoveAck.builder()
+                    .taskId(task.getId())
+                    .boardId(task.getBoard().getId())
+                    .position(task.getPosition())
+                    .boardVersion(task.getBoard().getVersion())
+                    .superseded(finalMoves.get(move.taskId) != move)
+                    .batchSize(moves.size())
+                    .build();
+        }
+    }
+
+    private List<Task> column(Map<Long, List<Task>> columns, Long boardId) {
+        return columns.computeIfAbsent(boardId,
+                id -> new ArrayList<>(taskRepository.findByBoardIdOrderByPositionAsc(id)));
+    }
+
+    private void validateMemberAccess(Project project, User currentUser) {
+        if (project.getDeletedAt() != null) {
+            throw new ResourceNotFoundException("Proyecto no encontrado con id: " + project.getId());
+        }
+
+        boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
+        boolean isMember = project.getMembers().stream()
+                .anyMatch(m -> m.getId().equals(currentUser.getId()));
+
+        if (!isOwner && !isMember) {
+            throw new AccessDeniedException("No tienes acceso a este proyecto");
+        }
+    }
+
+    private TaskMoveAck await(CompletableFuture<TaskMoveAck> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class MoveBatch {
+
+        // Solo se modifica dentro de batches.compute; el líder la lee tras sacarla del mapa
+        private final List<PendingMove> moves = new ArrayList<>();
+    }
+
+    private static class PendingMove {
+
+        private final Long taskId;
+        private final Long targetBoardId;
+        private final int newPosition;
+        private final Long actorId;
+        private final String actorEmail;
+        private final CompletableFuture<TaskMoveAck> result = new CompletableFuture<>();
+        private TaskMoveAck ack;
+        private RuntimeException error;
+
+        PendingMove(Long taskId, Long targetBoardId, int newPosition, Long actorId, String actorEmail) {
+            this.taskId = taskId;
+            this.targetBoardId = targetBoardId;
+            this.newPosition = newPosition;
+            this.actorId = actorId;
+            this.actorEmail = actorEmail;
+        }
+    }
+}
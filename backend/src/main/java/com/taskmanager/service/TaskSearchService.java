@@ -0,0 +1,103 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskSearchResponse;
+import com.taskmanager.dto.TaskSearchResult;
+import com.taskmanager.entity.User;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSearchRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Búsqueda de tareas en todos los proyectos visibles para el usuario. El filtrado por
+ * visibilidad, el ranking y la paginación se resuelven en la consulta SQL.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskSearchService {
+
+    static final int MAX_LIMIT = 50;
+    static final int MAX_TERMS = 8;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final TaskRepository taskRepository;
+
+    @Transactional(readOnly = true)
+    public TaskSearchResponse search(String query, String cursor, int limit, User currentUser) {
+        if (limit < 1) {
+            throw new BadRequestException("El límite debe ser mayor que cero");
+        }
+        int pageSize = Math.min(limit, MAX_LIMIT);
+        String tsQuery = toPrefixTsQuery(query);
+
+        float afterRank = Float.MAX_VALUE;
+        long afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] values = KeysetCursor.decode(cursor, 2);
+            try {
+                afterRank = Float.parseFloat(values[0]);
+                afterId = Long.parseLong(values[1]);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Cursor inválido");
+            }
+        }
+
+        // Se pide una fila de más para saber si hay página siguiente
+        List<TaskSearchRow> rows = taskRepository.search(currentUser.getId(), tsQuery, afterRank, afterId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        TaskSearchRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return TaskSearchResponse.builder()
+                .results(rows.stream().map(this::mapToResult).collect(Collectors.toList()))
+                .nextCursor(hasMore ? KeysetCursor.encode(last.getRank(), last.getTaskId()) : null)
+                .build();
+    }
+
+    /**
+     * Convierte el texto del usuario en una consulta tsquery donde todos los términos deben
+     * aparecer y cada uno se busca como prefijo ("dise pant" -> "dise:* & pant:*"). Solo se
+     * conservan letras y dígitos, así que el resultado nunca contiene operadores del usuario.
+     */
+    static String toPrefixTsQuery(String query) {
+        if (query == null) {
+            throw new BadRequestException("El parámetro q es obligatorio");
+        }
+
+        List<String> terms = Arrays.stream(NON_WORD.split(query.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+
+        if (terms.isEmpty()) {
+            throw new BadRequestException("La búsqueda debe contener al menos una letra o número");
+        }
+
+        return terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+    }
+
+    private TaskSearchResult mapToResult(TaskSearchRow row) {
+        return TaskSearchResult.builder()
+                .taskId(row.getTaskId())
+                .title(row.getTitle())
+                .priority(row.getPriority())
+                .dueDate(row.getDueDate() != null ? row.getDueDate().toString() : null)
+                .boardId(row.getBoardId())
+                .boardName(row.getBoardName())
+                .projectId(row.getProjectId())
+                .projectName(row.getProjectName())
+                .build();
+    }
+}
@@ -4,14 +4,21 @@ import com.taskmanager.dto.*;
 import com.taskmanager.entity.*;
 import com.taskmanager.enums.Permission;
 import com.taskmanager.enums.Priority;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
 import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.exception.BadRequestException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -19,11 +26,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TaskService {
 
+    static final int MAX_ASSIGNED_PAGE_SIZE = 100;
+
     private final TaskRepository taskRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final LabelRepository labelRepository;
     private final PermissionService permissionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskResponse createTask(TaskRequest request, User currentUser) {
@@ -33,6 +43,7 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Board no encontrado con id: " + request.getBoardId()));
 
         validateMemberAccess(board.getProject(), currentUser);
+        lockBoards(board.getId());
 
         // Asignar position al final del board
         List<Task> existingTasks = taskRepository.findByBoardIdOrderByPositionAsc(board.getId());
@@ -66,13 +77,106 @@ public class TaskService {
         }
 
         Task saved = taskRepository.save(task);
+        publishChange(TaskChangedEvent.Type.CREATED, null, TaskSnapshot.of(saved), currentUser);
         return mapToResponse(saved);
     }
 
-    public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+    /**
+     * Con fields solo se leen las columnas pedidas (ver TaskFields); sin él, la tarea completa.
+     * Los tableros piden las tareas sin description y la leen aquí al abrir una tarea.
+     * Solo para miembros del proyecto; las de un proyecto eliminado no se encuentran.
+     */
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskById(Long id, TaskFields fields, User currentUser) {
+        if (fields == null) {
+            Task task = taskRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Tarea no encontrada con id: " + id));
+            validateMemberAccess(task.getBoard().getProject(), currentUser);
+            return mapToResponse(task);
+        }
+
+        Project project = taskRepository.findProjectByTaskId(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarea no encontrada con id: " + id));
-        return mapToResponse(task);
+        validateMemberAccess(project, currentUser);
+
+        return SparseTaskReads.find(taskRepository, TaskSpecifications.withId(id), fields).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Tarea no encontrada con id: " + id));
+    }
+
+    /**
+     * Tareas de un board en orden, opcionalmente filtradas (ver TaskFilter).
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getBoardTasks(Long projectId, Long boardId, TaskFilter filter, User currentUser) {
+        return getBoardTasks(projectId, boardId, filter, null, currentUser);
+    }
+
+    /**
+     * Con fields las tareas solo llevan esos campos y la consulta solo lee sus columnas.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getBoardTasks(Long projectId, Long boardId, TaskFilter filter, TaskFields fields,
+                                            User currentUser) {
+        Board board = boardRepository.findById(boardId)
+                .filter(b -> b.getProject().getId().equals(projectId))
+                .orElseThrow(() -> new ResourceNotFoundException("Board no encontrado con id: " + boardId));
+
+        validateMemberAccess(board.getProject(), currentUser);
+
+        if (fields != null) {
+            return SparseTaskReads.find(taskRepository,
+                    TaskFilters.toSpecification(TaskSpecifications.inBoards(List.of(boardId)), filter), fields);
+        }
+
+        List<Task> tasks = taskRepository.findAll(
+                TaskFilters.toSpecification(TaskSpecifications.inBoards(List.of(boardId)), filter)
+                        .and(TaskSpecifications.fetchAssigneeAndLabels()),
+                Sort.by("position"));
+
+        return tasks.stream().map(this::mapToResponse).collect(Collectors.toList());
+    }
+
+    /**
+     * Bandeja "mis tareas": las tareas asignadas al usuario en todos sus proyectos, por
+     * fecha límite y prioridad, paginadas por cursor.
+     */
+    @Transactional(readOnly = true)
+    public AssignedTasksResponse getMyTasks(String cursor, int limit, User currentUser) {
+        if (limit < 1) {
+            throw new BadRequestException("El límite debe ser mayor que cero");
+        }
+        int pageSize = Math.min(limit, MAX_ASSIGNED_PAGE_SIZE);
+
+        LocalDate afterDueKey = LocalDate.of(1, 1, 1);
+        int afterPriorityRank = -1;
+        long afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] values = KeysetCursor.decode(cursor, 3);
+            try {
+                afterDueKey = LocalDate.parse(values[0]);
+                afterPriorityRank = Integer.parseInt(values[1]);
+                afterId = Long.parseLong(values[2]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new BadRequestException("Cursor inválido");
+            }
+        }
+
+        // Se pide una fila de más para saber si hay página siguiente
+        List<AssignedTaskRow> rows = taskRepository.findAssignedToUser(
+                currentUser.getId(), afterDueKey, afterPriorityRank, afterId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        AssignedTaskRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return AssignedTasksResponse.builder()
+                .results(rows.stream().map(this::mapToAssignedResult).collect(Collectors.toList()))
+                .nextCursor(hasMore
+                        ? KeysetCursor.encode(last.getDueKey(), last.getPriorityRank(), last.getTaskId())
+                        : null)
+                .build();
     }
 
     @Transactional
@@ -84,6 +188,8 @@ public class TaskService {
 
         validateMemberAccess(task.getBoard().getProject(), currentUser);
 
+        TaskSnapshot before = TaskSnapshot.of(task);
+
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
 
@@ -95,6 +201,7 @@ public class TaskService {
         if (request.getBoardId() != null && !request.getBoardId().equals(task.getBoard().getId())) {
             Board newBoard = boardRepository.findById(request.getBoardId())
                     .orElseThrow(() -> new ResourceNotFoundException("Board no encontrado con id: " + request.getBoardId()));
+            lockBoards(task.getBoard().getId(), newBoard.getId());
             task.setBoard(newBoard);
         }
 
@@ -121,6 +228,7 @@ public class TaskService {
         }
 
         Task saved = taskRepository.save(task);
+        publishChange(TaskChangedEvent.Type.UPDATED, before, TaskSnapshot.of(saved), currentUser);
         return mapToResponse(saved);
     }
 
@@ -132,6 +240,7 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Tarea no encontrada con id: " + id));
 
         validateMemberAccess(task.getBoard().getProject(), currentUser);
+        lockBoards(task.getBoard().getId());
 
         // Reordenar posiciones del board original
         List<Task> boardTasks = taskRepository.findByBoardIdOrderByPositionAsc(task.getBoard().getId());
@@ -142,6 +251,7 @@ public class TaskService {
         taskRepository.saveAll(boardTasks);
 
         taskRepository.delete(task);
+        publishChange(TaskChangedEvent.Type.DELETED, TaskSnapshot.of(task), null, currentUser);
     }
 
     /**
@@ -160,8 +270,10 @@ public class TaskService {
         Board targetBoard = boardRepository.findById(request.getTargetBoardId())
                 .orElseThrow(() -> new ResourceNotFoundException("Board destino no encontrado con id: " + request.getTargetBoardId()));
 
+        TaskSnapshot before = TaskSnapshot.of(task);
         Board sourceBoard = task.getBoard();
         int newPosition = request.getNewPosition();
+        lockBoards(sourceBoard.getId(), targetBoard.getId());
 
         // a) Quitar la tarea del board original y reordenar
         List<Task> sourceTasks = taskRepository.findByBoardIdOrderByPositionAsc(sourceBoard.getId());
@@ -193,13 +305,41 @@ public class TaskService {
         task.setBoard(targetBoard);
         task.setPosition(newPosition);
         Task saved = taskRepository.save(task);
+        publishChange(TaskChangedEvent.Type.MOVED, before, TaskSnapshot.of(saved), currentUser);
 
         return mapToResponse(saved);
     }
 
+    /**
+     * Bloquea los boards cuyas posiciones se van a reescribir y aumenta su versión. Sin el
+     * bloqueo, dos movimientos concurrentes en los mismos boards reescriben las mismas filas
+     * de tasks en distinto orden y acaban en deadlock.
+     */
+    private void lockBoards(Long... boardIds) {
+        for (Board board : boardRepository.lockAllById(new TreeSet<>(Arrays.asList(boardIds)))) {
+            board.setVersion(board.getVersion() != null ? board.getVersion() + 1 : 1);
+        }
+    }
+
+    // --- Eventos ---
+
+    private void publishChange(TaskChangedEvent.Type type, TaskSnapshot before, TaskSnapshot after, User actor) {
+        eventPublisher.publishEvent(TaskChangedEvent.builder()
+                .type(type)
+                .before(before)
+                .after(after)
+                .actorId(actor.getId())
+                .at(LocalDateTime.now())
+                .build());
+    }
+
     // --- Validación de acceso ---
 
     private void validateMemberAccess(Project project, User currentUser) {
+        if (project.getDeletedAt() != null) {
+            throw new ResourceNotFoundException("Proyecto no encontrado con id: " + project.getId());
+        }
+
         boolean isOwner = project.getOwner().getId().equals(currentUser.getId());
         boolean isMember = project.getMembers().stream()
                 .anyMatch(m -> m.getId().equals(currentUser.getId()));
@@ -211,7 +351,7 @@ public class TaskService {
 
     // --- Mapper ---
 
-    private TaskResponse mapToResponse(Task task) {
+    TaskResponse mapToResponse(Task task) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -236,4 +376,17 @@ public class TaskService {
                 .createdAt(task.getCreatedAt() != null ? task.getCreatedAt().toString() : null)
                 .build();
     }
+
+    private AssignedTaskResult mapToAssignedResult(AssignedTaskRow row) {
+        return AssignedTaskResult.builder()
+                .taskId(row.getTaskId())
+                .title(row.getTitle())
+                .priority(row.getPriority())
+                .dueDate(row.getDueDate() != null ? row.getDueDate().toString() : null)
+                .boardId(row.getBoardId())
+                .boardName(row.getBoardName())
+                .projectId(row.getProjectId())
+                .projectName(row.getProjectName())
+                .build();
+    }
 }
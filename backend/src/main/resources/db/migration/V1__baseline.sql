@@ -0,0 +1,258 @@
+-- Esquema inicial: el que generaba Hibernate (ddl-auto: update) más db/search.sql.
+-- A partir de aquí cada cambio en las entidades necesita su migración V<n>__<descripcion>.sql.
+--
+-- En una base de datos que ya tenía el esquema creado por Hibernate no se ejecuta: el plugin
+-- de Flyway la marca como versión 1 (baselineOnMigrate) y aplica solo las siguientes.
+
+create table activity_log (
+    actor_id bigint,
+    id bigserial not null,
+    occurred_at timestamp(6) not null,
+    project_id bigint,
+    target_user_id bigint,
+    task_id bigint,
+    action varchar(30) not null check (action in ('TASK_CREATED','TASK_UPDATED','TASK_MOVED','TASK_DELETED','TASK_ARCHIVED','TASK_RESTORED','MEMBER_ADDED','MEMBER_REMOVED','ROLE_CHANGED')),
+    details varchar(500),
+    task_title varchar(255),
+    primary key (id)
+);
+
+create table archived_task_labels (
+    archived_task_id bigint not null,
+    label_id bigint
+);
+
+create table archived_tasks (
+    due_date date,
+    archived_at timestamp(6) not null,
+    assignee_id bigint,
+    board_id bigint not null,
+    created_at timestamp(6),
+    id bigserial not null,
+    original_task_id bigint not null,
+    project_id bigint not null,
+    updated_at timestamp(6),
+    board_name varchar(255),
+    description TEXT,
+    priority varchar(255) check (priority in ('LOW','MEDIUM','HIGH','URGENT')),
+    title varchar(255) not null,
+    primary key (id)
+);
+
+create table board_flow_daily (
+    day date not null,
+    board_id bigint not null,
+    dwell_count bigint not null,
+    dwell_over_30d bigint not null,
+    dwell_seconds bigint not null,
+    dwell_under_14d bigint not null,
+    dwell_under_1d bigint not null,
+    dwell_under_1h bigint not null,
+    dwell_under_30d bigint not null,
+    dwell_under_3d bigint not null,
+    dwell_under_7d bigint not null,
+    entered bigint not null,
+    exited bigint not null,
+    id bigserial not null,
+    project_id bigint not null,
+    primary key (id),
+    constraint uk_board_flow_daily_key unique (project_id, board_id, day)
+);
+
+create table boards (
+    position integer,
+    id bigserial not null,
+    project_id bigint not null,
+    version bigint,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table labels (
+    id bigserial not null,
+    project_id bigint not null,
+    color varchar(255) not null,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table project_members (
+    project_id bigint not null,
+    user_id bigint not null,
+    primary key (project_id, user_id)
+);
+
+create table project_task_counters (
+    id bigserial not null,
+    project_id bigint not null,
+    task_count bigint not null,
+    dimension varchar(20) not null check (dimension in ('TOTAL','BOARD','PRIORITY','ASSIGNEE')),
+    dimension_key varchar(40) not null,
+    primary key (id),
+    constraint uk_project_task_counters_key unique (project_id, dimension, dimension_key)
+);
+
+create table projects (
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    id bigserial not null,
+    owner_id bigint not null,
+    updated_at timestamp(6),
+    description varchar(255),
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table refresh_tokens (
+    created_at timestamp(6),
+    expiry_date timestamp(6) not null,
+    id bigserial not null,
+    user_id bigint not null,
+    token varchar(255) not null unique,
+    primary key (id)
+);
+
+create table task_labels (
+    label_id bigint not null,
+    task_id bigint not null,
+    primary key (label_id, task_id)
+);
+
+create table task_transitions (
+    from_board_id bigint,
+    id bigserial not null,
+    occurred_at timestamp(6) not null,
+    project_id bigint not null,
+    task_id bigint not null,
+    to_board_id bigint,
+    user_id bigint,
+    primary key (id)
+);
+
+create table tasks (
+    due_date date,
+    position integer,
+    assignee_id bigint,
+    board_id bigint not null,
+    created_at timestamp(6),
+    id bigserial not null,
+    updated_at timestamp(6),
+    description TEXT,
+    priority varchar(255) check (priority in ('LOW','MEDIUM','HIGH','URGENT')),
+    title varchar(255) not null,
+    primary key (id)
+);
+
+create table users (
+    created_at timestamp(6),
+    id bigserial not null,
+    updated_at timestamp(6),
+    email varchar(255) not null unique,
+    full_name varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) check (role in ('ADMIN','PROJECT_MANAGER','MEMBER')),
+    primary key (id)
+);
+
+create index idx_activity_log_project_id
+   on activity_log (project_id, id);
+
+create index idx_archived_tasks_project_archived_at
+   on archived_tasks (project_id, archived_at);
+
+create index idx_projects_deleted_at
+   on projects (deleted_at);
+
+create index idx_task_labels_label_task
+   on task_labels (label_id, task_id);
+
+create index idx_task_transitions_task_id
+   on task_transitions (task_id, id);
+
+create index idx_task_transitions_project_occurred_at
+   on task_transitions (project_id, occurred_at);
+
+create index idx_tasks_board_position
+   on tasks (board_id, position);
+
+create index idx_tasks_board_assignee
+   on tasks (board_id, assignee_id);
+
+create index idx_tasks_board_due_date
+   on tasks (board_id, due_date);
+
+create index idx_tasks_assignee_due_date
+   on tasks (assignee_id, due_date);
+
+create index idx_tasks_due_date
+   on tasks (due_date, id);
+
+alter table if exists archived_task_labels
+   add constraint FKso6f9b085ks46obi1gbd353j3
+   foreign key (archived_task_id)
+   references archived_tasks;
+
+alter table if exists boards
+   add constraint FK32qdrlyxkxq7cm48pviayc3e7
+   foreign key (project_id)
+   references projects;
+
+alter table if exists labels
+   add constraint FK3sxl6x5sa83ojn87msxofr650
+   foreign key (project_id)
+   references projects;
+
+alter table if exists project_members
+   add constraint FKgul2el0qjk5lsvig3wgajwm77
+   foreign key (user_id)
+   references users;
+
+alter table if exists project_members
+   add constraint FKdki1sp2homqsdcvqm9yrix31g
+   foreign key (project_id)
+   references projects;
+
+alter table if exists projects
+   add constraint FKmueqy6cpcwpfl8gnnag4idjt9
+   foreign key (owner_id)
+   references users;
+
+alter table if exists refresh_tokens
+   add constraint FK1lih5y2npsf8u5o3vhdb9y0os
+   foreign key (user_id)
+   references users;
+
+alter table if exists task_labels
+   add constraint FKlr49cbsj797rym78wepiid0sh
+   foreign key (label_id)
+   references labels;
+
+alter table if exists task_labels
+   add constraint FK7wi3dfqb8gx9kiysuy980sbus
+   foreign key (task_id)
+   references tasks;
+
+alter table if exists tasks
+   add constraint FKekr1dgiqktpyoip3qmp6lxsit
+   foreign key (assignee_id)
+   references users;
+
+alter table if exists tasks
+   add constraint FKitp79nb81vimv715wd9t8cjmf
+   foreign key (board_id)
+   references boards;
+
+-- Vector de búsqueda calculado por PostgreSQL: el título pesa más que la descripción.
+-- Se usa la configuración 'simple' (sin stemming) porque los textos mezclan idiomas.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- Filtro de visibilidad: proyectos propios y proyectos donde el usuario es miembro
+CREATE INDEX IF NOT EXISTS idx_projects_owner_id ON projects (owner_id);
+CREATE INDEX IF NOT EXISTS idx_project_members_user_id ON project_members (user_id);
+CREATE INDEX IF NOT EXISTS idx_boards_project_id ON boards (project_id);
@@ -0,0 +1,18 @@
+-- Índices de búsqueda que Hibernate (ddl-auto) no sabe generar. Se ejecuta en cada arranque
+-- después de crear el esquema, por eso todas las sentencias son idempotentes.
+-- Con el perfil prod no se ejecuta: lo mismo forma parte de db/migration/V1__baseline.sql.
+
+-- Vector de búsqueda calculado por PostgreSQL: el título pesa más que la descripción.
+-- Se usa la configuración 'simple' (sin stemming) porque los textos mezclan idiomas.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- Filtro de visibilidad: proyectos propios y proyectos donde el usuario es miembro
+CREATE INDEX IF NOT EXISTS idx_projects_owner_id ON projects (owner_id);
+CREATE INDEX IF NOT EXISTS idx_project_members_user_id ON project_members (user_id);
+CREATE INDEX IF NOT EXISTS idx_boards_project_id ON boards (project_id);
@@ -0,0 +1,61 @@
+package com.taskmanager.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private DataSource pool;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitedDataSource(pool, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("getConnection - sin permisos libres espera y lanza SQLTransientConnectionException")
+    void getConnection_sinPermisos_lanzaTrasEsperar() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("close - devuelve el permiso una sola vez aunque se cierre dos veces")
+    void close_dobleCierre_devuelveUnPermiso() throws SQLException {
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        first.close();
+        first.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        assertThatCode(() -> dataSource.getConnection()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("getConnection - si el pool falla el permiso se devuelve")
+    void getConnection_poolFalla_devuelvePermiso() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("caído"));
+
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+}
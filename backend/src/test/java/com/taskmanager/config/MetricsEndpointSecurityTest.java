@@ -0,0 +1,53 @@
+package com.taskmanager.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+// Los tests desactivan por defecto la exportación de métricas y con ella /actuator/prometheus
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("querycount")
+class MetricsEndpointSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - desde una dirección permitida retorna 200")
+    void prometheus_direccionPermitida_retorna200() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddr("127.0.0.1")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - desde otra dirección retorna 403 aunque no haga falta JWT")
+    void prometheus_direccionNoPermitida_retorna403() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddr("203.0.113.7")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/health - responde a cualquier dirección")
+    void health_cualquierDireccion_retorna200() throws Exception {
+        mockMvc.perform(get("/actuator/health").with(remoteAddr("203.0.113.7")))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskmanager.config;
+
+import com.taskmanager.dto.ProjectDetailResponse;
+import com.taskmanager.dto.SparseTaskResponse;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.entity.Task;
+import com.taskmanager.enums.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.util.ClassUtils;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NativeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("DTOs, builders de Lombok y enums quedan registrados para Jackson")
+    void registerHints_dtos_bindingReflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProjectDetailResponse.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TaskRequest.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TaskRequest.TaskRequestBuilder.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Priority.class)).accepts(hints);
+        // El serializador de @JsonSerialize(using = ...) se instancia por reflexión
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(SparseTaskResponse.class.getName() + "$Serializer"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("las entidades exponen campos y constructores a Hibernate")
+    void registerHints_entidades_camposYConstructores() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Task.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("las clases de jjwt que se cargan por nombre existen y están registradas")
+    void registerHints_jjwt_clasesExistentes() {
+        for (String type : NativeHints.JJWT_TYPES) {
+            assertThat(ClassUtils.isPresent(type, getClass().getClassLoader())).as(type).isTrue();
+            assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type))).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer"))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("proxy de Connection y recursos de cache y migraciones")
+    void registerHints_proxyYRecursos() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("ehcache.xml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__baseline.sql")).accepts(hints);
+    }
+}
@@ -0,0 +1,153 @@
+package com.taskmanager.config;
+
+import com.taskmanager.config.ReadWriteRoutingDataSource.Route;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Primario y réplica son dos bases H2 distintas, montadas igual que en DataSourceRoutingConfig
+ * (LazyConnectionDataSourceProxy sobre el enrutado); cada una responde con su nombre.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(new ReplicaLagGuard(Duration.ofSeconds(5)));
+        routing.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("sin transacción - usa el primario")
+    void sinTransaccion_usaPrimario() {
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("transacción readOnly - usa la réplica")
+    void transaccionReadOnly_usaReplica() {
+        authenticate("lector@test.com");
+
+        assertThat(currentNode(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("transacción de escritura - usa el primario")
+    void transaccionEscritura_usaPrimario() {
+        authenticate("escritor@test.com");
+
+        assertThat(currentNode(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("lectura tras una escritura confirmada del mismo usuario - vuelve al primario")
+    void lecturaTrasEscrituraConfirmada_usaPrimario() {
+        authenticate("escritor@test.com");
+        readWrite.executeWithoutResult(status -> insertNote());
+
+        assertThat(currentNode(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("escritura deshecha - las lecturas siguen en la réplica")
+    void escrituraDeshecha_usaReplica() {
+        authenticate("escritor@test.com");
+        readWrite.executeWithoutResult(status -> {
+            insertNote();
+            status.setRollbackOnly();
+        });
+
+        assertThat(currentNode(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("escritura de otro usuario en el mismo hilo - no afecta a las lecturas")
+    void escrituraDeOtroUsuarioEnElMismoHilo_usaReplica() throws Exception {
+        ExecutorService pooledThread = Executors.newSingleThreadExecutor();
+        try {
+            String node = pooledThread.submit(() -> {
+                authenticate("otro@test.com");
+                readWrite.executeWithoutResult(status -> insertNote());
+
+                authenticate("lector@test.com");
+                return currentNode(readOnly);
+            }).get();
+
+            assertThat(node).isEqualTo("replica");
+        } finally {
+            pooledThread.shutdown();
+        }
+    }
+
+    private EmbeddedDatabase createDatabase(String node) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate setup = new JdbcTemplate(database);
+        setup.execute("CREATE TABLE node (name VARCHAR(20))");
+        setup.execute("CREATE TABLE note (body VARCHAR(20))");
+        setup.update("INSERT INTO node (name) VALUES (?)", node);
+        return database;
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private String currentNode(TransactionTemplate transaction) {
+        return transaction.execute(status -> currentNode());
+    }
+
+    private void insertNote() {
+        jdbcTemplate.update("INSERT INTO note (body) VALUES ('x')");
+    }
+
+    private void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskmanager.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SchemaVersionVerifierTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SchemaVersionVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        verifier = new SchemaVersionVerifier(jdbcTemplate, new PathMatchingResourcePatternResolver());
+    }
+
+    @Test
+    @DisplayName("la última migración del classpath es la versión esperada")
+    void latestMigration_classpath_ultimaVersion() throws Exception {
+        assertThat(verifier.latestMigration()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("esquema al día - arranca")
+    void run_esquemaAlDia_noFalla() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("1"));
+
+        assertThatCode(() -> verifier.run(new DefaultApplicationArguments())).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("base de datos sin migrar - falla el arranque")
+    void run_sinHistorial_lanzaExcepcion() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenThrow(new BadSqlGrammarException("versión", "SELECT", new SQLException("no existe")));
+
+        assertThatThrownBy(() -> verifier.run(new DefaultApplicationArguments()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("flyway:migrate");
+    }
+
+    @Test
+    @DisplayName("versiones numéricas - 1.10 va después de 1.9")
+    void versionOrder_partesNumericas() {
+        assertThat(SchemaVersionVerifier.VERSION_ORDER.compare("1.10", "1.9")).isPositive();
+        assertThat(SchemaVersionVerifier.VERSION_ORDER.compare("2", "1.9")).isPositive();
+        assertThat(SchemaVersionVerifier.VERSION_ORDER.compare("1.0", "1")).isZero();
+    }
+}
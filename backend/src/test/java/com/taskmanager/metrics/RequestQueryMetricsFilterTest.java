@@ -0,0 +1,66 @@
+package com.taskmanager.metrics;
+
+import com.taskmanager.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RequestQueryMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryBudgetProperties budget;
+    private RequestQueryMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        budget = new QueryBudgetProperties();
+        budget.setMaxStatements(3);
+        filter = new RequestQueryMetricsFilter(meterRegistry, budget);
+    }
+
+    @Test
+    @DisplayName("doFilter - registra sentencias y entidades de la petición etiquetadas por ruta")
+    void doFilter_conConsultas_registraPorRuta() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/7");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/projects/{id}");
+            RequestQueryStats.statementPrepared();
+            RequestQueryStats.statementPrepared();
+            RequestQueryStats.entityLoaded();
+        });
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.sql.statements")
+                .tag("uri", "/api/projects/{id}").tag("outcome", "SUCCESS").summary();
+        assertThat(statements.totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("http.server.requests.entity.loads").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.find("http.server.requests.query.budget.exceeded").counter()).isNull();
+
+        // Fuera de la petición ya no se cuenta
+        RequestQueryStats.statementPrepared();
+        assertThat(statements.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("doFilter - por encima del presupuesto de sentencias incrementa el contador de exceso")
+    void doFilter_superaPresupuesto_incrementaContador() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < 4; i++) {
+                RequestQueryStats.statementPrepared();
+            }
+        });
+
+        assertThat(meterRegistry.get("http.server.requests.query.budget.exceeded").tag("uri", "UNKNOWN").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskmanager.metrics;
+
+import com.taskmanager.entity.Label;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Role;
+import com.taskmanager.exception.ServiceUnavailableException;
+import com.taskmanager.service.CacheStatisticsService;
+import com.taskmanager.support.QueryCountTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Cache de segundo nivel - métricas por región")
+class SecondLevelCacheMetricsTest extends QueryCountTestSupport {
+
+    private static final String LABEL_REGION = Label.class.getName();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("cache.gets - cuenta aciertos y fallos de la región sin generate_statistics")
+    void cacheGets_sinEstadisticasDeHibernate_cuentaAciertosYFallos() {
+        User owner = seedUser(Role.PROJECT_MANAGER);
+        Long labelId = seedProject(owner, 1, 1).labelIds().get(0);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        double hitsBefore = gets("hit");
+        double missesBefore = gets("miss");
+
+        labelRepository.findById(labelId);
+        labelRepository.findById(labelId);
+
+        assertThat(gets("miss")).isGreaterThan(missesBefore);
+        assertThat(gets("hit")).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    @DisplayName("getRegionStats - con las estadísticas de Hibernate desactivadas lanza ServiceUnavailableException")
+    void getRegionStats_estadisticasDesactivadas_lanzaServiceUnavailable() {
+        User admin = seedUser(Role.ADMIN);
+
+        assertThatThrownBy(() -> cacheStatisticsService.getRegionStats(admin))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", LABEL_REGION).tag("result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskmanager.scheduling;
+
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Role;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * El buffer se llena desde el listener AFTER_COMMIT de una transacción ya confirmada; las
+ * entradas tienen que acabar guardadas y no en esa transacción terminada.
+ */
+@DisplayName("ActivityLogWriter - buffer lleno tras el commit")
+@TestPropertySource(properties = {
+        "app.activity.buffer-size=2",
+        "app.activity.flush-interval=PT1H",
+        "app.activity.offer-timeout=PT10S"
+})
+class ActivityLogWriterPersistenceTest extends QueryCountTestSupport {
+
+    @Autowired
+    private ActivityLogWriter writer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("onTaskChanged - con el buffer lleno las entradas confirmadas se guardan")
+    void onTaskChanged_bufferLlenoTrasCommit_guardaTodas() {
+        User owner = seedUser(Role.PROJECT_MANAGER);
+        SeededProject project = seedProject(owner, 2, 5);
+        writer.flush();
+        Long from = project.boardIds().get(0);
+        Long to = project.boardIds().get(1);
+        List<Long> taskIds = project.taskIds().get(0);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (Long taskId : taskIds) {
+                eventPublisher.publishEvent(TaskChangedEvent.builder()
+                        .type(TaskChangedEvent.Type.MOVED)
+                        .before(TaskSnapshot.builder().taskId(taskId).projectId(project.projectId()).boardId(from).build())
+                        .after(TaskSnapshot.builder().taskId(taskId).projectId(project.projectId()).boardId(to).build())
+                        .actorId(owner.getId())
+                        .at(LocalDateTime.now())
+                        .build());
+            }
+        });
+        writer.flush();
+
+        Integer moved = jdbcTemplate.queryForObject(
+                "select count(*) from activity_log where project_id = ? and action = 'TASK_MOVED'",
+                Integer.class, project.projectId());
+        assertThat(moved).isEqualTo(taskIds.size());
+    }
+}
@@ -0,0 +1,128 @@
+package com.taskmanager.scheduling;
+
+import com.taskmanager.config.ActivityProperties;
+import com.taskmanager.entity.ActivityEntry;
+import com.taskmanager.enums.ActivityAction;
+import com.taskmanager.enums.AuditDurability;
+import com.taskmanager.event.AuditEvent;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.repository.ActivityJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityLogWriterTest {
+
+    @Mock
+    private ActivityJdbcRepository activityRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler flushScheduler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ActivityProperties properties;
+    private ActivityLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ActivityProperties();
+        properties.setBufferSize(2);
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        writer = new ActivityLogWriter(activityRepository, properties, transactionManager, flushScheduler, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - encola sin escribir y el flush inserta el lote")
+    void onTaskChanged_moverTarea_seEscribeEnElFlush() {
+        writer.onTaskChanged(moved(1L, 3L));
+
+        verifyNoInteractions(activityRepository);
+        assertThat(writer.pending()).isEqualTo(1);
+
+        writer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActivityEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityRepository).insertAll(captor.capture());
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        assertThat(captor.getValue())
+                .extracting(ActivityEntry::getAction, ActivityEntry::getTaskTitle, ActivityEntry::getDetails)
+                .containsExactly(tuple(ActivityAction.TASK_MOVED, "Tarea", "board 1 -> 3"));
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - con el buffer lleno pide el vaciado al planificador y no escribe en el hilo")
+    void onTaskChanged_bufferLleno_pideVaciadoYDescartaTrasEsperar() {
+        writer.onTaskChanged(moved(1L, 2L));
+        writer.onTaskChanged(moved(2L, 3L));
+        writer.onTaskChanged(moved(3L, 1L));
+
+        verify(flushScheduler).schedule(any(Runnable.class), any(Instant.class));
+        verifyNoInteractions(activityRepository, transactionManager);
+        assertThat(writer.pending()).isEqualTo(2);
+        assertThat(meterRegistry.counter("buffer.entries.dropped", "buffer", "activity").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onAudit - con durabilidad SYNC escribe al momento y no pasa por el buffer")
+    void onAudit_durabilidadSync_escribeAlMomento() {
+        AuditEvent event = AuditEvent.builder()
+                .type(AuditEvent.Type.ROLE_CHANGED)
+                .actorId(1L)
+                .targetUserId(5L)
+                .details("MEMBER -> ADMIN")
+                .at(LocalDateTime.now())
+                .build();
+
+        writer.onAudit(event);
+        writer.onAuditCommitted(event);
+
+        verify(activityRepository, times(1)).insertAll(argThat(batch ->
+                batch.size() == 1 && batch.get(0).getAction() == ActivityAction.ROLE_CHANGED));
+        assertThat(writer.pending()).isZero();
+
+        properties.setAuditDurability(AuditDurability.ASYNC);
+        writer.onAudit(event);
+        writer.onAuditCommitted(event);
+
+        assertThat(writer.pending()).isEqualTo(1);
+    }
+
+    private TaskChangedEvent moved(Long fromBoardId, Long toBoardId) {
+        return TaskChangedEvent.builder()
+                .type(TaskChangedEvent.Type.MOVED)
+                .before(snapshot(fromBoardId))
+                .after(snapshot(toBoardId))
+                .actorId(1L)
+                .at(LocalDateTime.now())
+                .build();
+    }
+
+    private TaskSnapshot snapshot(Long boardId) {
+        return TaskSnapshot.builder().taskId(100L).projectId(1L).boardId(boardId).title("Tarea").build();
+    }
+}
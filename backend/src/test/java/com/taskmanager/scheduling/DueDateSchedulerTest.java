@@ -0,0 +1,157 @@
+package com.taskmanager.scheduling;
+
+import com.taskmanager.config.DueDateProperties;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskDueEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.repository.TaskDueRow;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.*;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DueDateSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private DueDateScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        DueDateProperties properties = new DueDateProperties();
+        properties.setZone(ZONE);
+        properties.setReminderLead(Duration.ofHours(6));
+
+        clock = new MutableClock(LocalDate.of(2030, 1, 1).atTime(12, 0).atZone(ZONE).toInstant());
+        scheduler = new DueDateScheduler(taskRepository, eventPublisher, properties, clock);
+    }
+
+    @Test
+    @DisplayName("refreshWindow - la segunda carga solo lee los días nuevos de la ventana")
+    void refreshWindow_segundaCarga_soloLeeDiasNuevos() {
+        when(taskRepository.findDueBetween(any(), any(), any(), anyLong(), any())).thenReturn(List.of());
+
+        scheduler.refreshWindow();
+        clock.advance(Duration.ofDays(1));
+        scheduler.refreshWindow();
+
+        verify(taskRepository).findDueBetween(eq(LocalDate.of(2030, 1, 1)), eq(LocalDate.of(2030, 1, 3)),
+                eq(LocalDate.of(2029, 12, 31)), eq(0L), any());
+        verify(taskRepository).findDueBetween(eq(LocalDate.of(2030, 1, 4)), eq(LocalDate.of(2030, 1, 4)),
+                eq(LocalDate.of(2030, 1, 3)), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("tick - publica recordatorio y vencimiento de una tarea programada por evento")
+    void tick_tareaConFechaHoy_publicaRecordatorioYVencimiento() {
+        LocalDate today = LocalDate.of(2030, 1, 1);
+        scheduler.onTaskChanged(changed(today));
+        assertThat(scheduler.pendingTimers()).isEqualTo(2);
+
+        TaskDueRow row = mock(TaskDueRow.class);
+        when(row.getId()).thenReturn(7L);
+        when(row.getDueDate()).thenReturn(today);
+        when(taskRepository.findDueRowsByIdIn(List.of(7L))).thenReturn(List.of(row));
+
+        // Recordatorio a las 18:00 (6 h antes de medianoche) y vencimiento a medianoche
+        clock.advance(Duration.ofHours(6));
+        scheduler.tick();
+        clock.advance(Duration.ofHours(6));
+        scheduler.tick();
+
+        ArgumentCaptor<TaskDueEvent> captor = ArgumentCaptor.forClass(TaskDueEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(TaskDueEvent::getType)
+                .containsExactly(TaskDueEvent.Type.REMINDER, TaskDueEvent.Type.OVERDUE);
+        assertThat(scheduler.pendingTimers()).isZero();
+    }
+
+    @Test
+    @DisplayName("tick - una tarea de un proyecto eliminado no publica eventos y su temporizador se descarta")
+    void tick_proyectoEliminado_noPublicaEventos() {
+        LocalDate today = LocalDate.of(2030, 1, 1);
+        scheduler.onTaskChanged(changed(today));
+
+        // findDueRowsByIdIn excluye las tareas de proyectos eliminados (deletedAt no nulo)
+        when(taskRepository.findDueRowsByIdIn(List.of(7L))).thenReturn(List.of());
+
+        clock.advance(Duration.ofHours(12));
+        scheduler.tick();
+
+        verify(eventPublisher, never()).publishEvent(any(TaskDueEvent.class));
+        assertThat(scheduler.pendingTimers()).isZero();
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - quitar la fecha límite cancela los temporizadores")
+    void onTaskChanged_sinFecha_cancelaTemporizadores() {
+        scheduler.onTaskChanged(changed(LocalDate.of(2030, 1, 2)));
+
+        scheduler.onTaskChanged(TaskChangedEvent.builder()
+                .type(TaskChangedEvent.Type.UPDATED)
+                .before(snapshot(LocalDate.of(2030, 1, 2)))
+                .after(snapshot(null))
+                .build());
+
+        assertThat(scheduler.pendingTimers()).isZero();
+    }
+
+    private TaskChangedEvent changed(LocalDate dueDate) {
+        return TaskChangedEvent.builder()
+                .type(TaskChangedEvent.Type.CREATED)
+                .after(snapshot(dueDate))
+                .build();
+    }
+
+    private TaskSnapshot snapshot(LocalDate dueDate) {
+        return TaskSnapshot.builder().taskId(7L).projectId(1L).boardId(1L).dueDate(dueDate).build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskmanager.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("advanceTo - vence en el tick del deadline y nunca antes")
+    void advanceTo_deadlineEnPrimerNivel_venceSinAdelantarse() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        wheel.schedule("a", 25);
+
+        assertThat(wheel.advanceTo(24)).isEmpty();
+        assertThat(wheel.advanceTo(30)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advanceTo - deadlines de niveles superiores bajan de nivel y vencen en orden")
+    void advanceTo_deadlinesLejanos_vencenEnSuMomento() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 4, 0);
+        // Intervalos: nivel 0 = 4, nivel 1 = 16, nivel 2 = 64, nivel 3 = 256
+        int[] deadlines = {3, 5, 17, 63, 200, 1000};
+        for (int deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Integer> fired = new ArrayList<>();
+        for (long now = 0; now <= 1000; now++) {
+            for (Integer key : wheel.advanceTo(now)) {
+                assertThat((long) key).isEqualTo(now);
+                fired.add(key);
+            }
+        }
+
+        assertThat(fired).containsExactly(3, 5, 17, 63, 200, 1000);
+    }
+
+    @Test
+    @DisplayName("schedule - reprogramar o cancelar sustituye el temporizador anterior")
+    void schedule_reprogramarYCancelar_soloQuedaUltimo() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 8, 0);
+        wheel.schedule("a", 5);
+        wheel.schedule("a", 50);
+        wheel.schedule("b", 6);
+        assertThat(wheel.cancel("b")).isTrue();
+
+        assertThat(wheel.advanceTo(10)).isEmpty();
+        assertThat(wheel.advanceTo(50)).containsExactly("a");
+        assertThat(wheel.cancel("a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("schedule - deadline ya pasado se devuelve en el siguiente avance")
+    void schedule_deadlinePasado_venceEnSiguienteAvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 8, 100);
+        wheel.schedule("tarde", 40);
+
+        assertThat(wheel.contains("tarde")).isTrue();
+        assertThat(wheel.advanceTo(100)).containsExactly("tarde");
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanager.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("offer - con el buffer lleno devuelve false y drain libera las celdas")
+    void offer_bufferLleno_devuelveFalse() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 3)).isEqualTo(3);
+        assertThat(buffer.offer(4)).isTrue();
+        buffer.drain(drained::add, 10);
+
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("offer - varios productores concurrentes entregan cada elemento exactamente una vez")
+    void offer_productoresConcurrentes_entregaTodoUnaVez() throws Exception {
+        int producers = 4;
+        int perProducer = 5_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        List<Integer> duplicates = new ArrayList<>();
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (received.size() + duplicates.size() < producers * perProducer && System.nanoTime() < deadline) {
+            int drained = buffer.drain(value -> {
+                if (!received.add(value)) {
+                    duplicates.add(value);
+                }
+            }, 32);
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        executor.shutdownNow();
+
+        assertThat(duplicates).isEmpty();
+        assertThat(received).hasSize(producers * perProducer);
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskmanager.scheduling;
+
+import com.taskmanager.config.AnalyticsProperties;
+import com.taskmanager.entity.BoardFlowDaily;
+import com.taskmanager.entity.TaskTransition;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.repository.TaskFlowJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskTransitionWriterTest {
+
+    private static final LocalDateTime MORNING = LocalDate.of(2030, 1, 7).atTime(10, 0);
+
+    @Mock
+    private TaskFlowJdbcRepository flowRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler flushScheduler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskTransitionWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new TaskTransitionWriter(flowRepository, new AnalyticsProperties(), transactionManager,
+                flushScheduler, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - un cambio sin cambio de board no se registra")
+    void onTaskChanged_mismoBoard_noEncola() {
+        writer.onTaskChanged(event(TaskChangedEvent.Type.UPDATED, snapshot(1L), snapshot(1L), MORNING));
+
+        assertThat(writer.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush - escribe el lote en una transacción propia y agrega entradas, salidas y tiempo en columna por día")
+    void flush_creacionYMovimiento_agregaPorBoardYDia() {
+        when(flowRepository.findLastTransitions(anySet())).thenReturn(Map.of());
+
+        writer.onTaskChanged(event(TaskChangedEvent.Type.CREATED, null, snapshot(1L), MORNING));
+        writer.onTaskChanged(event(TaskChangedEvent.Type.MOVED, snapshot(1L), snapshot(2L), MORNING.plusHours(3)));
+        writer.flush();
+
+        verify(flowRepository).insertTransitions(argThat(batch -> batch.size() == 2));
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BoardFlowDaily>> captor = ArgumentCaptor.forClass(List.class);
+        verify(flowRepository).addDaily(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(BoardFlowDaily::getBoardId, BoardFlowDaily::getEntered, BoardFlowDaily::getExited,
+                        BoardFlowDaily::getDwellSeconds, BoardFlowDaily::getDwellUnder1d)
+                .containsExactly(tuple(1L, 1L, 1L, 3 * 3600L, 1L), tuple(2L, 1L, 0L, 0L, 0L));
+        assertThat(writer.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - con la cola llena pide el vaciado al planificador y no escribe en el hilo")
+    void onTaskChanged_colaLlena_pideVaciadoYDescartaTrasEsperar() {
+        AnalyticsProperties properties = new AnalyticsProperties();
+        properties.setQueueCapacity(1);
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        writer = new TaskTransitionWriter(flowRepository, properties, transactionManager, flushScheduler, meterRegistry);
+
+        writer.onTaskChanged(event(TaskChangedEvent.Type.CREATED, null, snapshot(1L), MORNING));
+        writer.onTaskChanged(event(TaskChangedEvent.Type.MOVED, snapshot(1L), snapshot(2L), MORNING.plusHours(1)));
+
+        verify(flushScheduler).schedule(any(Runnable.class), any(Instant.class));
+        verifyNoInteractions(flowRepository, transactionManager);
+        assertThat(writer.pending()).isEqualTo(1);
+        assertThat(meterRegistry.counter("buffer.entries.dropped", "buffer", "task-transitions").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("aggregate - sin entrada registrada la salida no cuenta en el histograma")
+    void aggregate_sinEntradaPrevia_noCuentaTiempo() {
+        TaskTransition move = TaskTransition.builder()
+                .taskId(100L).projectId(1L).fromBoardId(1L).toBoardId(2L).occurredAt(MORNING).build();
+
+        List<BoardFlowDaily> rows = TaskTransitionWriter.aggregate(List.of(move), Map.of());
+
+        assertThat(rows).extracting(BoardFlowDaily::getBoardId, BoardFlowDaily::getExited, BoardFlowDaily::getDwellCount)
+                .containsExactly(tuple(1L, 1L, 0L), tuple(2L, 0L, 0L));
+    }
+
+    private TaskChangedEvent event(TaskChangedEvent.Type type, TaskSnapshot before, TaskSnapshot after, LocalDateTime at) {
+        return TaskChangedEvent.builder().type(type).before(before).after(after).actorId(1L).at(at).build();
+    }
+
+    private TaskSnapshot snapshot(Long boardId) {
+        return TaskSnapshot.builder().taskId(100L).projectId(1L).boardId(boardId).build();
+    }
+}
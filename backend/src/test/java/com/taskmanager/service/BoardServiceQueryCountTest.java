@@ -0,0 +1,44 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.BoardReorderRequest;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Role;
+import com.taskmanager.support.QueryCount;
+import com.taskmanager.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoardService - número de consultas")
+class BoardServiceQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Test
+    @DisplayName("reorderBoards carga los boards de una vez con 3 o 20 boards")
+    void reorderBoards_muchosBoards_mismasConsultas() {
+        User owner = seedUser(Role.PROJECT_MANAGER);
+        SeededProject small = seedProject(owner, 3, 2);
+        SeededProject large = seedProject(owner, 20, 2);
+
+        QueryCount smallCount = measure(() -> swapFirstTwo(small, owner));
+        QueryCount largeCount = measure(() -> swapFirstTwo(large, owner));
+
+        // Solo cambian de posición dos boards: dos UPDATE sea cual sea el tamaño
+        assertThat(smallCount).isEqualTo(QueryCount.of(3, 0, 2, 0));
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    private void swapFirstTwo(SeededProject project, User owner) {
+        List<Long> boardIds = new ArrayList<>(project.boardIds());
+        Collections.swap(boardIds, 0, 1);
+        boardService.reorderBoards(project.projectId(), BoardReorderRequest.builder().boardIds(boardIds).build(), owner);
+    }
+}
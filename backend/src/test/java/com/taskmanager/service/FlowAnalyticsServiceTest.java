@@ -0,0 +1,124 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.ArchiveProperties;
+import com.taskmanager.dto.CumulativeFlowResponse;
+import com.taskmanager.dto.WeeklyThroughput;
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.BoardFlowDaily;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Role;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.repository.BoardFlowDailyRepository;
+import com.taskmanager.repository.BoardFlowNetRow;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlowAnalyticsServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    @Mock
+    private BoardFlowDailyRepository flowRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private FlowAnalyticsService flowAnalyticsService;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        flowAnalyticsService = new FlowAnalyticsService(flowRepository, projectRepository, boardRepository,
+                new ArchiveProperties());
+
+        owner = User.builder().id(1L).email("owner@test.com").fullName("Owner").role(Role.ADMIN).build();
+        Project project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(owner)
+                .members(new HashSet<>(Set.of(owner)))
+                .build();
+
+        lenient().when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+        lenient().when(boardRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(
+                Board.builder().id(10L).name("Por Hacer").position(0).project(project).build(),
+                Board.builder().id(11L).name("Hecho").position(1).project(project).build()));
+    }
+
+    @Test
+    @DisplayName("getCumulativeFlow - parte del acumulado anterior y suma los agregados de cada día")
+    void getCumulativeFlow_conHistorico_acumulaPorDia() {
+        when(flowRepository.sumNetBefore(1L, MONDAY)).thenReturn(List.of(net(10L, 5L)));
+        when(flowRepository.findByProjectIdAndDayBetweenOrderByDayAsc(1L, MONDAY, MONDAY.plusDays(2))).thenReturn(List.of(
+                daily(10L, MONDAY, 1, 2),
+                daily(11L, MONDAY, 2, 0),
+                daily(10L, MONDAY.plusDays(2), 0, 1)));
+
+        CumulativeFlowResponse flow = flowAnalyticsService.getCumulativeFlow(1L, "2030-01-07", "2030-01-09", owner);
+
+        assertThat(flow.getPoints()).extracting("date", "counts").containsExactly(
+                tuple("2030-01-07", List.of(4L, 2L)),
+                tuple("2030-01-08", List.of(4L, 2L)),
+                tuple("2030-01-09", List.of(3L, 2L)));
+        assertThat(flow.getBoards()).extracting("boardId", "count").containsExactly(tuple(10L, 3L), tuple(11L, 2L));
+    }
+
+    @Test
+    @DisplayName("getThroughput - cuenta entradas en boards de terminadas por semana, incluidas las vacías")
+    void getThroughput_variasSemanas_agrupaPorLunes() {
+        when(flowRepository.findByProjectIdAndDayBetweenOrderByDayAsc(1L, MONDAY, MONDAY.plusDays(13))).thenReturn(List.of(
+                daily(11L, MONDAY.plusDays(1), 2, 0),
+                daily(11L, MONDAY.plusDays(4), 1, 0),
+                daily(10L, MONDAY.plusDays(4), 7, 0)));
+
+        List<WeeklyThroughput> weeks = flowAnalyticsService.getThroughput(1L, "2030-01-07", "2030-01-20", owner);
+
+        assertThat(weeks).extracting("weekStart", "completed")
+                .containsExactly(tuple("2030-01-07", 3L), tuple("2030-01-14", 0L));
+    }
+
+    @Test
+    @DisplayName("getCumulativeFlow - un rango de más de un año lanza BadRequestException")
+    void getCumulativeFlow_rangoExcesivo_lanzaBadRequest() {
+        assertThatThrownBy(() -> flowAnalyticsService.getCumulativeFlow(1L, "2028-01-01", "2030-01-01", owner))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(flowRepository);
+    }
+
+    private BoardFlowDaily daily(Long boardId, LocalDate day, long entered, long exited) {
+        return BoardFlowDaily.builder().projectId(1L).boardId(boardId).day(day).entered(entered).exited(exited).build();
+    }
+
+    private BoardFlowNetRow net(Long boardId, Long net) {
+        return new BoardFlowNetRow() {
+            @Override
+            public Long getBoardId() {
+                return boardId;
+            }
+
+            @Override
+            public Long getNet() {
+                return net;
+            }
+        };
+    }
+}
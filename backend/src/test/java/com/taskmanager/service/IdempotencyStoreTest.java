@@ -0,0 +1,193 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.IdempotencyProperties;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.DuplicateResourceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private MutableClock clock;
+    private IdempotencyProperties properties;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-05-06T10:00:00Z"));
+        properties = new IdempotencyProperties();
+        properties.setMaxEntries(3);
+        properties.setTtl(Duration.ofHours(1));
+        store = new IdempotencyStore(properties, clock);
+    }
+
+    @Test
+    @DisplayName("execute - un reintento con la misma clave recibe la respuesta original sin repetir la operación")
+    void execute_reintento_devuelveRespuestaOriginal() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = store.execute(1L, "k1", List.of("create", "T1"), () -> "tarea-" + calls.incrementAndGet());
+        String retry = store.execute(1L, "k1", List.of("create", "T1"), () -> "tarea-" + calls.incrementAndGet());
+
+        assertThat(retry).isEqualTo(first).isEqualTo("tarea-1");
+        assertThat(calls).hasValue(1);
+        // Otro usuario con la misma clave no comparte respuesta
+        assertThat(store.execute(2L, "k1", List.of("create", "T1"), () -> "tarea-" + calls.incrementAndGet()))
+                .isEqualTo("tarea-2");
+    }
+
+    @Test
+    @DisplayName("execute - la misma clave con otra petición lanza DuplicateResourceException")
+    void execute_otraHuella_lanzaConflicto() {
+        store.execute(1L, "k1", List.of("move", 5L, "board-2"), () -> "movida");
+
+        assertThatThrownBy(() -> store.execute(1L, "k1", List.of("move", 5L, "board-3"), () -> "otra"))
+                .isInstanceOf(DuplicateResourceException.class);
+        assertThatThrownBy(() -> store.execute(1L, " ", List.of("move"), () -> "otra"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("execute - un duplicado concurrente espera a la primera petición y recibe su resultado")
+    void execute_duplicadoConcurrente_esperaResultado() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> store.execute(1L, "k1", "crear", () -> {
+                calls.incrementAndGet();
+                running.countDown();
+                await(release);
+                return "tarea";
+            }));
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> duplicate = executor.submit(() -> store.execute(1L, "k1", "crear", () -> {
+                calls.incrementAndGet();
+                return "duplicada";
+            }));
+
+            Thread.sleep(100);
+            assertThat(duplicate.isDone()).isFalse();
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("tarea");
+            assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("tarea");
+            assertThat(calls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute - si la operación falla la clave se libera para el siguiente reintento")
+    void execute_operacionFallida_liberaClave() {
+        assertThatThrownBy(() -> store.execute(1L, "k1", "crear", () -> {
+            throw new IllegalStateException("fallo");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(store.execute(1L, "k1", "crear", () -> "tarea")).isEqualTo("tarea");
+    }
+
+    @Test
+    @DisplayName("evictExpired - caduca las claves tras el TTL y el tamaño no supera max-entries")
+    void evictExpired_caducaYAcotaTamano() {
+        for (int i = 0; i < 5; i++) {
+            store.execute(1L, "k" + i, "crear", () -> "tarea");
+        }
+        assertThat(store.size()).isEqualTo(3);
+
+        clock.advance(Duration.ofMinutes(61));
+        store.evictExpired();
+
+        assertThat(store.size()).isZero();
+        assertThat(store.execute(1L, "k4", "crear", () -> "nueva")).isEqualTo("nueva");
+    }
+
+    @Test
+    @DisplayName("execute - al llenarse no descarta una clave en curso; su reintento sigue esperando el resultado")
+    void execute_capacidadLlenaConClaveEnCurso_noLaDescarta() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> store.execute(1L, "lenta", "crear", () -> {
+                calls.incrementAndGet();
+                running.countDown();
+                await(release);
+                return "tarea";
+            }));
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 5; i++) {
+                store.execute(1L, "k" + i, "crear", () -> "otra");
+            }
+            assertThat(store.size()).isEqualTo(3);
+
+            Future<String> retry = executor.submit(() -> store.execute(1L, "lenta", "crear", () -> {
+                calls.incrementAndGet();
+                return "duplicada";
+            }));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("tarea");
+            assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo("tarea");
+            assertThat(calls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
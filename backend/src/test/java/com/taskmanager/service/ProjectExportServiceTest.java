@@ -0,0 +1,129 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.ExportFormat;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Role;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.LabelRepository;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectExportServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private LabelRepository labelRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ProjectExportService exportService;
+
+    private User owner;
+    private Project project;
+    private Board board;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ProjectExportService(projectRepository, boardRepository, labelRepository,
+                taskRepository, entityManager, new ObjectMapper());
+
+        owner = User.builder().id(1L).email("sara@test.com").fullName("Sara Pulgarin").role(Role.ADMIN).build();
+        project = Project.builder()
+                .id(1L)
+                .name("Proyecto Test")
+                .owner(owner)
+                .members(new HashSet<>(Set.of(owner)))
+                .boards(new ArrayList<>())
+                .build();
+        board = Board.builder().id(5L).name("Por Hacer").position(0).project(project).tasks(new ArrayList<>()).build();
+        task = Task.builder()
+                .id(10L)
+                .title("Tarea, con coma")
+                .description("Línea 1\nLínea 2")
+                .priority(Priority.HIGH)
+                .position(0)
+                .board(board)
+                .labels(new HashSet<>())
+                .build();
+    }
+
+    @Test
+    @DisplayName("export - NDJSON escribe un registro por línea")
+    void export_ndjson_escribeUnRegistroPorLinea() throws Exception {
+        stubProject();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(1L, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("{\"type\":\"project\"");
+        assertThat(lines[1]).contains("\"type\":\"member\"", "\"email\":\"sara@test.com\"");
+        assertThat(lines[2]).contains("\"type\":\"board\"", "\"name\":\"Por Hacer\"");
+        assertThat(lines[3]).contains("\"type\":\"task\"", "\"board_id\":5", "\"priority\":\"HIGH\"");
+        verify(taskRepository).streamByProjectId(1L);
+    }
+
+    @Test
+    @DisplayName("export - CSV escapa comas y saltos de línea")
+    void export_csv_escapaValores() throws Exception {
+        stubProject();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(1L, ExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("type,id,board_id,");
+        assertThat(csv).contains("\"Tarea, con coma\"", "\"Línea 1\nLínea 2\"");
+    }
+
+    @Test
+    @DisplayName("checkExportAccess - usuario ajeno al proyecto lanza AccessDeniedException")
+    void checkExportAccess_usuarioAjeno_lanzaAccessDenied() {
+        User outsider = User.builder().id(9L).email("otro@test.com").fullName("Otro").role(Role.MEMBER).build();
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+
+        assertThatThrownBy(() -> exportService.checkExportAccess(1L, outsider))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private void stubProject() {
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+        when(boardRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(board));
+        when(labelRepository.findByProjectId(1L)).thenReturn(List.of());
+        when(taskRepository.streamByProjectId(1L)).thenReturn(Stream.of(task));
+        when(taskRepository.streamLabelLinksByProjectId(1L)).thenReturn(Stream.empty());
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskmanager.service;
+
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Role;
+import com.taskmanager.support.QueryCount;
+import com.taskmanager.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProjectService - número de consultas")
+class ProjectServiceQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    @DisplayName("getProjectById hace las mismas consultas con 2 o 40 tareas por board")
+    void getProjectById_proyectoGrande_mismasConsultas() {
+        User owner = seedUser(Role.PROJECT_MANAGER);
+        SeededProject small = seedProject(owner, 3, 2);
+        SeededProject large = seedProject(owner, 3, 40);
+
+        QueryCount smallCount = measure(() -> projectService.getProjectById(small.projectId(), owner));
+        QueryCount largeCount = measure(() -> projectService.getProjectById(large.projectId(), owner));
+
+        assertThat(smallCount).isEqualTo(QueryCount.of(4, 0, 0, 0));
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    @DisplayName("getNormalizedProjectById hace las mismas consultas que getProjectById")
+    void getNormalizedProjectById_proyectoGrande_mismasConsultas() {
+        User owner = seedUser(Role.PROJECT_MANAGER);
+        SeededProject small = seedProject(owner, 3, 2);
+        SeededProject large = seedProject(owner, 3, 40);
+
+        QueryCount smallCount = measure(() -> projectService.getNormalizedProjectById(small.projectId(), null, owner));
+        QueryCount largeCount = measure(() -> projectService.getNormalizedProjectById(large.projectId(), null, owner));
+
+        assertThat(smallCount).isEqualTo(QueryCount.of(4, 0, 0, 0));
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    @DisplayName("getProjectById con fields sin description no lee la columna y no crece con el tamaño")
+    void getProjectById_fieldsSinDescripcion_noLeeDescripcion() {
+        User owner = seedUser(Role.PROJECT_MANAGER);
+        SeededProject small = seedProject(owner, 3, 2);
+        SeededProject large = seedProject(owner, 3, 40);
+        TaskFields fields = TaskFields.parse("title,priority,position,assignee,labels,dueDate");
+
+        QueryCount smallCount = measure(() -> projectService.getProjectById(small.projectId(), null, fields, owner));
+        QueryCount largeCount = measure(() -> projectService.getProjectById(large.projectId(), null, fields, owner));
+        List<String> sql = statements(() -> projectService.getProjectById(large.projectId(), null,
+                TaskFields.parse("title,position"), owner));
+
+        // Proyecto, boards, tareas, etiquetas, owner y miembros; a diferencia de la lectura completa,
+        // el owner no llega como responsable de una tarea cargada como entidad
+        assertThat(smallCount).isEqualTo(QueryCount.of(6, 0, 0, 0));
+        assertThat(largeCount).isEqualTo(smallCount);
+        assertThat(sql).filteredOn(statement -> statement.contains("from tasks"))
+                .singleElement()
+                .satisfies(statement -> assertThat(statement).doesNotContain("description", "assignee_id", "due_date"));
+    }
+
+    @Test
+    @DisplayName("getMyProjects hace una sola consulta con 2 o 15 proyectos")
+    void getMyProjects_muchosProyectos_unaConsulta() {
+        User fewOwner = seedUser(Role.PROJECT_MANAGER);
+        User manyOwner = seedUser(Role.PROJECT_MANAGER);
+        for (int i = 0; i < 2; i++) {
+            seedProject(fewOwner, 1, 3);
+        }
+        for (int i = 0; i < 15; i++) {
+            seedProject(manyOwner, 1, 3);
+        }
+
+        QueryCount few = measure(() -> assertThat(projectService.getMyProjects(fewOwner)).hasSize(2));
+        QueryCount many = measure(() -> assertThat(projectService.getMyProjects(manyOwner)).hasSize(15));
+
+        assertThat(few).isEqualTo(QueryCount.of(1, 0, 0, 0));
+        assertThat(many).isEqualTo(few);
+    }
+}
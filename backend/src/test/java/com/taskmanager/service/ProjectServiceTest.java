@@ -1,25 +1,44 @@
 package com.taskmanager.service;
 
+import com.taskmanager.config.ReplicaLagGuard;
+import com.taskmanager.dto.NormalizedProjectResponse;
 import com.taskmanager.dto.ProjectDetailResponse;
 import com.taskmanager.dto.ProjectRequest;
+import com.taskmanager.dto.TaskFilter;
 import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Label;
 import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
 import com.taskmanager.entity.User;
 import com.taskmanager.enums.Permission;
 import com.taskmanager.enums.Role;
+import com.taskmanager.event.AuditEvent;
 import com.taskmanager.exception.AccessDeniedException;
 import com.taskmanager.repository.BoardRepository;
 import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
 import com.taskmanager.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,9 +57,24 @@ class ProjectServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
     @Mock
     private PermissionService permissionService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProjectVersionTracker versionTracker;
+
+    @Mock
+    private ObjectProvider<ReplicaLagGuard> replicaLagGuard;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -153,4 +187,180 @@ class ProjectServiceTest {
         verify(permissionService).checkPermission(memberUser, Permission.PROJECT_DELETE);
         verify(projectRepository, never()).delete(any(Project.class));
     }
+
+    @Test
+    @DisplayName("deleteProject - como propietario marca el proyecto como eliminado sin borrarlo")
+    void deleteProject_comoPropietario_marcaComoEliminado() {
+        Project project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(pmUser)
+                .members(new HashSet<>(Set.of(pmUser)))
+                .build();
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+
+        projectService.deleteProject(1L, pmUser);
+
+        assertThat(project.getDeletedAt()).isNotNull();
+        verify(projectRepository).save(project);
+        verify(projectRepository, never()).delete(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("getProjectById - con filtro agrupa las tareas filtradas por board sin tocar Board.tasks")
+    @SuppressWarnings("unchecked")
+    void getProjectById_conFiltro_agrupaTareasPorBoard() {
+        Project project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(pmUser)
+                .members(new HashSet<>())
+                .build();
+        Board todo = Board.builder().id(10L).name("Por Hacer").position(0).project(project).tasks(new ArrayList<>()).build();
+        Board done = Board.builder().id(11L).name("Hecho").position(1).project(project).tasks(new ArrayList<>()).build();
+        Task urgent = Task.builder().id(100L).title("Urgente").position(0).board(done).labels(new HashSet<>()).build();
+
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+        when(boardRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(todo, done));
+        when(taskRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(List.of(urgent));
+
+        ProjectDetailResponse response = projectService.getProjectById(1L,
+                TaskFilter.builder().priority("URGENT").build(), pmUser);
+
+        assertThat(response.getBoards()).hasSize(2);
+        assertThat(response.getBoards().get(0).getTasks()).isEmpty();
+        assertThat(response.getBoards().get(1).getTasks()).extracting("id").containsExactly(100L);
+        assertThat(done.getTasks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("getProjectById - comprueba el acceso de cada usuario sobre el detalle cargado")
+    void getProjectById_sinSerMiembro_lanzaAccessDenied() {
+        Project project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(pmUser)
+                .members(new HashSet<>(Set.of(pmUser)))
+                .build();
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+        when(boardRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of());
+
+        assertThat(projectService.getProjectById(1L, pmUser).getName()).isEqualTo("Proyecto");
+        assertThatThrownBy(() -> projectService.getProjectById(1L, memberUser))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("getProjectById - quien acaba de escribir no se suma a la carga en curso de otro usuario")
+    void getProjectById_escrituraReciente_noCompartePrimeraCarga() throws Exception {
+        Project project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(pmUser)
+                .members(new HashSet<>(Set.of(pmUser, memberUser)))
+                .build();
+        ReplicaLagGuard lagGuard = new ReplicaLagGuard(Duration.ofSeconds(5));
+        lagGuard.recordWrite(memberUser.getEmail());
+        when(replicaLagGuard.getIfAvailable()).thenReturn(lagGuard);
+
+        CountDownLatch firstLoadStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstLoad = new CountDownLatch(1);
+        when(projectRepository.findActiveById(1L))
+                .thenAnswer(invocation -> {
+                    firstLoadStarted.countDown();
+                    releaseFirstLoad.await(5, TimeUnit.SECONDS);
+                    return Optional.of(project);
+                })
+                .thenReturn(Optional.of(project));
+        when(boardRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of());
+
+        ExecutorService replicaReader = Executors.newSingleThreadExecutor();
+        try {
+            Future<ProjectDetailResponse> first = replicaReader.submit(() -> projectService.getProjectById(1L, pmUser));
+            assertThat(firstLoadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(projectService.getProjectById(1L, memberUser).getName()).isEqualTo("Proyecto");
+            verify(projectRepository, times(2)).findActiveById(1L);
+
+            releaseFirstLoad.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS).getName()).isEqualTo("Proyecto");
+        } finally {
+            releaseFirstLoad.countDown();
+            replicaReader.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("getNormalizedProjectById - usuarios y etiquetas una sola vez; las tareas solo llevan ids")
+    @SuppressWarnings("unchecked")
+    void getNormalizedProjectById_tareasRepetidas_diccionariosSinDuplicados() {
+        Project project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(pmUser)
+                .members(new HashSet<>(Set.of(pmUser, memberUser)))
+                .build();
+        Board todo = Board.builder().id(10L).name("Por Hacer").position(0).project(project).tasks(new ArrayList<>()).build();
+        Label bug = Label.builder().id(50L).name("bug").color("#e74c3c").project(project).build();
+        Task first = Task.builder().id(100L).title("Uno").position(0).board(todo).assignee(memberUser)
+                .labels(new HashSet<>(Set.of(bug))).build();
+        Task second = Task.builder().id(101L).title("Dos").position(1).board(todo).assignee(memberUser)
+                .labels(new HashSet<>(Set.of(bug))).build();
+        Task third = Task.builder().id(102L).title("Tres").position(2).board(todo).assignee(adminUser)
+                .labels(new HashSet<>()).build();
+
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+        when(boardRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(todo));
+        when(taskRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(List.of(first, second, third));
+
+        NormalizedProjectResponse response = projectService.getNormalizedProjectById(1L, null, pmUser);
+
+        assertThat(response.getOwnerId()).isEqualTo(pmUser.getId());
+        assertThat(response.getMemberIds()).containsExactlyInAnyOrder(pmUser.getId(), memberUser.getId());
+        // El responsable que ya no es miembro también está en el diccionario
+        assertThat(response.getUsers()).containsOnlyKeys(pmUser.getId(), memberUser.getId(), adminUser.getId());
+        assertThat(response.getLabels()).containsOnlyKeys(50L);
+        assertThat(response.getBoards().get(0).getTasks())
+                .extracting("assigneeId")
+                .containsExactly(memberUser.getId(), memberUser.getId(), adminUser.getId());
+        assertThat(response.getBoards().get(0).getTasks().get(1).getLabelIds()).containsExactly(50L);
+        assertThat(todo.getTasks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("getNormalizedProjectById - sin ser miembro lanza AccessDenied")
+    void getNormalizedProjectById_sinSerMiembro_lanzaAccessDenied() {
+        Project project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(pmUser)
+                .members(new HashSet<>(Set.of(pmUser)))
+                .build();
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+        when(boardRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> projectService.getNormalizedProjectById(1L, null, memberUser))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("removeMember - como owner quita al miembro y publica el evento de auditoría")
+    void removeMember_comoOwner_publicaAuditoria() {
+        Project project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(pmUser)
+                .members(new HashSet<>(Set.of(pmUser, memberUser)))
+                .build();
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+
+        projectService.removeMember(1L, memberUser.getId(), pmUser);
+
+        assertThat(project.getMembers()).containsExactly(pmUser);
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(AuditEvent::getType, AuditEvent::getProjectId, AuditEvent::getActorId, AuditEvent::getTargetUserId)
+                .containsExactly(AuditEvent.Type.MEMBER_REMOVED, 1L, 2L, 3L);
+    }
 }
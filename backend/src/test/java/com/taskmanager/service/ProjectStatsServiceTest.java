@@ -0,0 +1,189 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.ArchiveProperties;
+import com.taskmanager.dto.ProjectStatsResponse;
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.ProjectTaskCounter;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.CounterDimension;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Role;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectStatsServiceTest {
+
+    @Mock
+    private ProjectTaskCounterRepository counterRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ProjectStatsService projectStatsService;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        projectStatsService = new ProjectStatsService(counterRepository, projectRepository, boardRepository,
+                userRepository, new ArchiveProperties());
+
+        owner = User.builder().id(1L).email("owner@test.com").fullName("Owner").role(Role.ADMIN).build();
+        project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(owner)
+                .members(new HashSet<>(Set.of(owner)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - mover una tarea solo ajusta los contadores de los dos boards")
+    void onTaskChanged_moverTarea_ajustaSoloBoards() {
+        when(counterRepository.existsByProjectIdAndDimension(1L, CounterDimension.TOTAL)).thenReturn(true);
+        when(counterRepository.increment(eq(1L), eq(CounterDimension.BOARD), anyString(), anyLong())).thenReturn(1);
+
+        projectStatsService.onTaskChanged(event(TaskChangedEvent.Type.MOVED, snapshot(10L, 1L), snapshot(11L, 1L)));
+
+        verify(counterRepository).increment(1L, CounterDimension.BOARD, "10", -1);
+        verify(counterRepository).increment(1L, CounterDimension.BOARD, "11", 1);
+        verify(counterRepository, times(2)).increment(anyLong(), any(), anyString(), anyLong());
+        verify(counterRepository, never()).lockProject(anyLong());
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - clave nueva bloquea el proyecto e inserta la fila")
+    void onTaskChanged_claveNueva_insertaFila() {
+        when(counterRepository.existsByProjectIdAndDimension(1L, CounterDimension.TOTAL)).thenReturn(true);
+        when(counterRepository.increment(anyLong(), any(), anyString(), anyLong())).thenReturn(1);
+        when(counterRepository.increment(1L, CounterDimension.ASSIGNEE, "7", 1)).thenReturn(0);
+
+        projectStatsService.onTaskChanged(event(TaskChangedEvent.Type.CREATED, null, snapshot(10L, 7L)));
+
+        verify(counterRepository).lockProject(1L);
+        ArgumentCaptor<ProjectTaskCounter> captor = ArgumentCaptor.forClass(ProjectTaskCounter.class);
+        verify(counterRepository).save(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ProjectTaskCounter::getDimension, ProjectTaskCounter::getDimensionKey, ProjectTaskCounter::getTaskCount)
+                .containsExactly(CounterDimension.ASSIGNEE, "7", 1L);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - cambios opuestos de responsable ajustan las filas en el mismo orden")
+    void onTaskChanged_cambiosOpuestos_mismoOrden() {
+        when(counterRepository.existsByProjectIdAndDimension(1L, CounterDimension.TOTAL)).thenReturn(true);
+        when(counterRepository.increment(eq(1L), eq(CounterDimension.ASSIGNEE), anyString(), anyLong())).thenReturn(1);
+
+        projectStatsService.onTaskChanged(event(TaskChangedEvent.Type.UPDATED, snapshot(10L, 8L), snapshot(10L, 7L)));
+        projectStatsService.onTaskChanged(event(TaskChangedEvent.Type.UPDATED, snapshot(10L, 7L), snapshot(10L, 8L)));
+
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(counterRepository, times(4)).increment(eq(1L), eq(CounterDimension.ASSIGNEE), keys.capture(), anyLong());
+        assertThat(keys.getAllValues()).containsExactly("7", "8", "7", "8");
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - sin contadores los reconstruye y no aplica el delta")
+    void onTaskChanged_sinContadores_reconstruye() {
+        when(counterRepository.existsByProjectIdAndDimension(1L, CounterDimension.TOTAL)).thenReturn(false);
+        when(counterRepository.countByBoard(1L)).thenReturn(List.of(row("10", 3L), row("11", 2L)));
+        when(counterRepository.countByPriority(1L)).thenReturn(List.of(row("HIGH", 5L)));
+        when(counterRepository.countByAssignee(1L)).thenReturn(List.of(row("unassigned", 5L)));
+
+        projectStatsService.onTaskChanged(event(TaskChangedEvent.Type.CREATED, null, snapshot(10L, null)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProjectTaskCounter>> captor = ArgumentCaptor.forClass(List.class);
+        verify(counterRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ProjectTaskCounter::getDimension, ProjectTaskCounter::getDimensionKey, ProjectTaskCounter::getTaskCount)
+                .contains(tuple(CounterDimension.TOTAL, "all", 5L), tuple(CounterDimension.BOARD, "11", 2L));
+        verify(counterRepository, never()).increment(anyLong(), any(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("getStats - combina contadores, boards sin tareas y vencidas")
+    void getStats_conContadores_devuelveResumen() {
+        User dev = User.builder().id(7L).email("dev@test.com").fullName("Dev").role(Role.MEMBER).build();
+        Board todo = Board.builder().id(10L).name("Por hacer").position(0).project(project).build();
+        Board done = Board.builder().id(11L).name("Hecho").position(1).project(project).build();
+
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+        when(counterRepository.findByProjectId(1L)).thenReturn(List.of(
+                counter(CounterDimension.TOTAL, "all", 4),
+                counter(CounterDimension.BOARD, "10", 4),
+                counter(CounterDimension.PRIORITY, "HIGH", 3),
+                counter(CounterDimension.PRIORITY, "LOW", 1),
+                counter(CounterDimension.ASSIGNEE, "7", 3),
+                counter(CounterDimension.ASSIGNEE, "unassigned", 1)));
+        when(counterRepository.countOverdue(eq(1L), any(LocalDate.class), eq(List.of("Hecho")))).thenReturn(2L);
+        when(boardRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(todo, done));
+        when(userRepository.findAllById(List.of(7L))).thenReturn(List.of(dev));
+
+        ProjectStatsResponse stats = projectStatsService.getStats(1L, owner);
+
+        assertThat(stats.getTotalTasks()).isEqualTo(4);
+        assertThat(stats.getUnassignedTasks()).isEqualTo(1);
+        assertThat(stats.getOverdueTasks()).isEqualTo(2);
+        assertThat(stats.getByBoard()).extracting("boardId", "count").containsExactly(tuple(10L, 4L), tuple(11L, 0L));
+        assertThat(stats.getByPriority()).containsEntry("HIGH", 3L).containsEntry("URGENT", 0L);
+        assertThat(stats.getByAssignee()).extracting("userId", "fullName", "count").containsExactly(tuple(7L, "Dev", 3L));
+        verify(counterRepository, never()).countByBoard(anyLong());
+    }
+
+    private TaskChangedEvent event(TaskChangedEvent.Type type, TaskSnapshot before, TaskSnapshot after) {
+        return TaskChangedEvent.builder().type(type).before(before).after(after).actorId(1L).build();
+    }
+
+    private TaskSnapshot snapshot(Long boardId, Long assigneeId) {
+        return TaskSnapshot.builder()
+                .taskId(100L)
+                .projectId(1L)
+                .boardId(boardId)
+                .priority(Priority.HIGH)
+                .assigneeId(assigneeId)
+                .build();
+    }
+
+    private ProjectTaskCounter counter(CounterDimension dimension, String key, long count) {
+        return ProjectTaskCounter.builder().projectId(1L).dimension(dimension).dimensionKey(key).taskCount(count).build();
+    }
+
+    private CounterRow row(String key, Long count) {
+        return new CounterRow() {
+            @Override
+            public String getKey() {
+                return key;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.taskmanager.service;
+
+import com.taskmanager.controller.RoleController;
+import com.taskmanager.dto.BoardRequest;
+import com.taskmanager.dto.ChangeRoleRequest;
+import com.taskmanager.dto.LabelRequest;
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Label;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Role;
+import com.taskmanager.support.QueryCountTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Las escrituras que pasan por JPA tienen que dejar la cache de segundo nivel al día: se
+ * calienta la entrada, se hace el cambio por el camino de siempre y se vuelve a leer.
+ */
+@DisplayName("Cache de segundo nivel - invalidación en escrituras")
+class SecondLevelCacheInvalidationTest extends QueryCountTestSupport {
+
+    private static final String MEMBERS_REGION = Project.class.getName() + ".members";
+
+    @Autowired
+    private LabelService labelService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private RoleController roleController;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("updateLabel - la siguiente lectura ve el nombre nuevo")
+    void updateLabel_cacheCaliente_leeNombreNuevo() {
+        User owner = seedUser(Role.PROJECT_MANAGER);
+        SeededProject project = seedProject(owner, 1, 2);
+        Long labelId = project.labelIds().get(0);
+        labelRepository.findById(labelId);
+        assertThat(cache().containsEntity(Label.class, labelId)).isTrue();
+
+        labelService.updateLabel(project.projectId(), labelId,
+                LabelRequest.builder().name("renombrada").color("#000000").build(), owner);
+
+        assertThat(labelRepository.findById(labelId).orElseThrow().getName()).isEqualTo("renombrada");
+    }
+
+    @Test
+    @DisplayName("changeUserRole - la siguiente lectura ve el rol nuevo")
+    void changeUserRole_cacheCaliente_leeRolNuevo() {
+        User admin = seedUser(Role.ADMIN);
+        User target = seedUser(Role.MEMBER);
+        userRepository.findById(target.getId());
+        assertThat(cache().containsEntity(User.class, target.getId())).isTrue();
+
+        roleController.changeUserRole(target.getId(), ChangeRoleRequest.builder().role("PROJECT_MANAGER").build(), admin);
+
+        assertThat(userRepository.findById(target.getId()).orElseThrow().getRole()).isEqualTo(Role.PROJECT_MANAGER);
+    }
+
+    @Test
+    @DisplayName("updateBoard - la siguiente lectura ve el nombre nuevo")
+    void updateBoard_cacheCaliente_leeNombreNuevo() {
+        User owner = seedUser(Role.PROJECT_MANAGER);
+        SeededProject project = seedProject(owner, 2, 1);
+        Long boardId = project.boardIds().get(0);
+        boardRepository.findById(boardId);
+        assertThat(cache().containsEntity(Board.class, boardId)).isTrue();
+
+        boardService.updateBoard(boardId, BoardRequest.builder().name("Renombrado").build(), owner);
+
+        assertThat(boardRepository.findById(boardId).orElseThrow().getName()).isEqualTo("Renombrado");
+    }
+
+    @Test
+    @DisplayName("addMember y removeMember - la colección de miembros cacheada se actualiza")
+    void addYRemoveMember_cacheCaliente_leeMiembrosNuevos() {
+        User owner = seedUser(Role.PROJECT_MANAGER);
+        User newcomer = seedUser(Role.MEMBER);
+        SeededProject project = seedProject(owner, 1, 1);
+        Set<Long> before = memberIds(project.projectId());
+        assertThat(cache().containsCollection(MEMBERS_REGION, project.projectId())).isTrue();
+
+        projectService.addMember(project.projectId(), newcomer.getEmail(), owner);
+        assertThat(memberIds(project.projectId())).containsAll(before).contains(newcomer.getId());
+
+        projectService.removeMember(project.projectId(), newcomer.getId(), owner);
+        assertThat(memberIds(project.projectId())).isEqualTo(before);
+    }
+
+    private Set<Long> memberIds(Long projectId) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                projectRepository.findById(projectId).orElseThrow().getMembers().stream()
+                        .map(User::getId)
+                        .collect(Collectors.toSet()));
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("execute - las llamadas concurrentes con la misma clave comparten una sola carga")
+    void execute_llamadasConcurrentes_compartenCarga() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "proyecto";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    return "otra carga";
+                })));
+            }
+            // Los seguidores tienen que haberse unido antes de liberar la carga
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("proyecto");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("proyecto");
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute - una carga fallida no queda guardada y la siguiente llamada vuelve a cargar")
+    void execute_cargaFallida_noSeGuarda() {
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> {
+            throw new ResourceNotFoundException("Proyecto no encontrado con id: 1");
+        })).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(singleFlight.execute(1L, () -> "proyecto")).isEqualTo("proyecto");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
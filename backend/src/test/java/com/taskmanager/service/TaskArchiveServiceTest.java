@@ -0,0 +1,207 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.ArchiveProperties;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.entity.*;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Role;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiveServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LabelRepository labelRepository;
+
+    @Mock
+    private PermissionService permissionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskArchiveService taskArchiveService;
+
+    private User owner;
+    private Project project;
+    private Board boardDone;
+
+    @BeforeEach
+    void setUp() {
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setEnabled(true);
+        properties.setBatchSize(2);
+
+        taskArchiveService = new TaskArchiveService(taskRepository, archivedTaskRepository, boardRepository,
+                projectRepository, userRepository, labelRepository, permissionService, properties, eventPublisher, transactionManager);
+
+        owner = User.builder().id(1L).email("owner@test.com").fullName("Owner").role(Role.ADMIN).build();
+
+        project = Project.builder()
+                .id(1L)
+                .name("Proyecto")
+                .owner(owner)
+                .members(new HashSet<>(Set.of(owner)))
+                .build();
+
+        boardDone = Board.builder().id(3L).name("Hecho").position(2).project(project).tasks(new ArrayList<>()).build();
+    }
+
+    @Test
+    @DisplayName("archiveCompletedTasks - archiva por lotes y renumera cada board una sola vez")
+    void archiveCompletedTasks_variosLotes_archivaYRenumera() {
+        Task t1 = doneTask(10L);
+        Task t2 = doneTask(11L);
+        Task t3 = doneTask(12L);
+        Task remaining = Task.builder().id(20L).title("Reciente").position(5).board(boardDone).build();
+
+        when(taskRepository.findArchivableIds(eq(List.of("Hecho")), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(10L, 11L), List.of(12L));
+        when(taskRepository.findBoardIdsByIdIn(any())).thenReturn(List.of(3L));
+        when(taskRepository.findArchivableIdsIn(eq(List.of(10L, 11L)), eq(List.of(3L)), eq(List.of("Hecho")), any(LocalDateTime.class)))
+                .thenReturn(List.of(10L, 11L));
+        when(taskRepository.findArchivableIdsIn(eq(List.of(12L)), eq(List.of(3L)), eq(List.of("Hecho")), any(LocalDateTime.class)))
+                .thenReturn(List.of(12L));
+        when(taskRepository.findAllWithLabelsByIdIn(List.of(10L, 11L))).thenReturn(List.of(t1, t2));
+        when(taskRepository.findAllWithLabelsByIdIn(List.of(12L))).thenReturn(List.of(t3));
+        when(taskRepository.findByBoardIdOrderByPositionAsc(3L)).thenReturn(new ArrayList<>(List.of(remaining)));
+        when(boardRepository.lockAllById(Set.of(3L))).thenReturn(List.of(boardDone));
+
+        taskArchiveService.archiveCompletedTasks();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArchivedTask>> captor = ArgumentCaptor.forClass(List.class);
+        verify(archivedTaskRepository, times(2)).saveAll(captor.capture());
+        assertThat(captor.getAllValues().get(0))
+                .extracting(ArchivedTask::getOriginalTaskId, ArchivedTask::getProjectId, ArchivedTask::getBoardName)
+                .containsExactly(tuple(10L, 1L, "Hecho"), tuple(11L, 1L, "Hecho"));
+
+        verify(taskRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+        verify(taskRepository).deleteAllByIdInBatch(List.of(12L));
+        verify(taskRepository, times(1)).findByBoardIdOrderByPositionAsc(3L);
+        verify(eventPublisher, times(3)).publishEvent(any(TaskChangedEvent.class));
+        assertThat(remaining.getPosition()).isEqualTo(0);
+        // Dos lotes y la renumeración: el board se bloquea y cambia de versión en cada uno
+        verify(boardRepository, times(3)).lockAllById(Set.of(3L));
+        assertThat(boardDone.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("archiveCompletedTasks - bloquea los boards antes de cargar y descarta las tareas que ya no cumplen")
+    void archiveCompletedTasks_tareaMovidaAntesDelBloqueo_noSeArchiva() {
+        Task t1 = doneTask(10L);
+
+        when(taskRepository.findArchivableIds(eq(List.of("Hecho")), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(10L, 11L));
+        when(taskRepository.findBoardIdsByIdIn(List.of(10L, 11L))).thenReturn(List.of(3L));
+        when(boardRepository.lockAllById(Set.of(3L))).thenReturn(List.of(boardDone));
+        // La 11 se movió a otro board entre la selección y el bloqueo
+        when(taskRepository.findArchivableIdsIn(eq(List.of(10L, 11L)), eq(List.of(3L)), eq(List.of("Hecho")), any(LocalDateTime.class)))
+                .thenReturn(List.of(10L));
+        when(taskRepository.findAllWithLabelsByIdIn(List.of(10L))).thenReturn(List.of(t1));
+        when(taskRepository.findByBoardIdOrderByPositionAsc(3L)).thenReturn(new ArrayList<>());
+
+        taskArchiveService.archiveCompletedTasks();
+
+        InOrder order = inOrder(boardRepository, taskRepository);
+        order.verify(boardRepository).lockAllById(Set.of(3L));
+        order.verify(taskRepository).findArchivableIdsIn(any(), any(), any(), any());
+        order.verify(taskRepository).findAllWithLabelsByIdIn(List.of(10L));
+        verify(taskRepository).deleteAllByIdInBatch(List.of(10L));
+        verify(taskRepository).deleteLabelLinksByTaskIds(List.of(10L));
+    }
+
+    @Test
+    @DisplayName("restoreTask - recrea la tarea al final de su board original y borra la copia archivada")
+    void restoreTask_boardExistente_restauraAlFinal() {
+        ArchivedTask archived = ArchivedTask.builder()
+                .id(5L)
+                .originalTaskId(10L)
+                .projectId(1L)
+                .boardId(3L)
+                .title("Terminada")
+                .priority(Priority.HIGH)
+                .labelIds(new HashSet<>())
+                .archivedAt(LocalDateTime.now())
+                .build();
+
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+        when(archivedTaskRepository.findByIdAndProjectId(5L, 1L)).thenReturn(Optional.of(archived));
+        when(boardRepository.findById(3L)).thenReturn(Optional.of(boardDone));
+        when(boardRepository.lockAllById(Set.of(3L))).thenReturn(List.of(boardDone));
+        when(taskRepository.findMaxPositionByBoardId(3L)).thenReturn(7);
+        when(taskRepository.save(any(Task.class))).thenAnswer(inv -> {
+            Task task = inv.getArgument(0);
+            task.setId(30L);
+            return task;
+        });
+
+        TaskResponse response = taskArchiveService.restoreTask(1L, 5L, owner);
+
+        assertThat(response.getId()).isEqualTo(30L);
+        assertThat(response.getPosition()).isEqualTo(8);
+        assertThat(response.getBoardId()).isEqualTo(3L);
+        assertThat(response.getPriority()).isEqualTo("HIGH");
+        assertThat(boardDone.getVersion()).isEqualTo(1L);
+        verify(archivedTaskRepository).delete(archived);
+    }
+
+    @Test
+    @DisplayName("searchArchive - usuario ajeno al proyecto lanza AccessDeniedException")
+    void searchArchive_usuarioAjeno_lanzaAccessDenied() {
+        User outsider = User.builder().id(9L).email("x@test.com").fullName("X").role(Role.MEMBER).build();
+        when(projectRepository.findActiveById(1L)).thenReturn(Optional.of(project));
+
+        assertThatThrownBy(() -> taskArchiveService.searchArchive(1L, "bug", 0, 20, outsider))
+                .isInstanceOf(AccessDeniedException.class);
+
+        verifyNoInteractions(archivedTaskRepository);
+    }
+
+    private Task doneTask(Long id) {
+        return Task.builder()
+                .id(id)
+                .title("Tarea " + id)
+                .priority(Priority.LOW)
+                .position(id.intValue())
+                .board(boardDone)
+                .labels(new HashSet<>())
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.*;
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Role;
+import com.taskmanager.enums.TaskOperationType;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.LabelRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LabelRepository labelRepository;
+
+    @Mock
+    private PermissionService permissionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskBatchService taskBatchService;
+    private SimpleTransactionStatus transactionStatus;
+
+    private User owner;
+    private Board todo;
+    private Board done;
+    private Task task1;
+    private Task task2;
+
+    @BeforeEach
+    void setUp() {
+        taskBatchService = new TaskBatchService(taskRepository, boardRepository, userRepository, labelRepository,
+                permissionService, eventPublisher, transactionManager);
+        transactionStatus = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+
+        owner = User.builder().id(1L).email("sara@test.com").fullName("Sara").role(Role.ADMIN).build();
+        Project project = Project.builder().id(1L).name("Proyecto").owner(owner).members(new HashSet<>(Set.of(owner))).build();
+        todo = Board.builder().id(10L).name("Por Hacer").position(0).project(project).version(2L).build();
+        done = Board.builder().id(11L).name("Hecho").position(1).project(project).build();
+        task1 = Task.builder().id(1L).title("Tarea 1").priority(Priority.HIGH).position(0).board(todo).labels(new HashSet<>()).build();
+        task2 = Task.builder().id(2L).title("Tarea 2").priority(Priority.LOW).position(1).board(todo).labels(new HashSet<>()).build();
+
+        lenient().when(boardRepository.lockAllById(any())).thenReturn(List.of(todo, done));
+        lenient().when(taskRepository.findByBoardIdOrderByPositionAsc(10L)).thenReturn(List.of(task1, task2));
+        lenient().when(taskRepository.findByBoardIdOrderByPositionAsc(11L)).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("execute - aplica las operaciones en orden con una búsqueda por entidad y renumera cada board una vez")
+    void execute_variasOperaciones_cargaUnaVezYRenumeraUnaVezPorBoard() {
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task1, task2));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task saved = invocation.getArgument(0);
+            saved.setId(3L);
+            return saved;
+        });
+
+        TaskBatchRequest request = new TaskBatchRequest(List.of(
+                TaskOperation.builder().type(TaskOperationType.MOVE).taskId(1L).move(new TaskMoveRequest(11L, 5)).build(),
+                TaskOperation.builder().type(TaskOperationType.CREATE)
+                        .task(TaskRequest.builder().title("Nueva").boardId(11L).build()).build(),
+                TaskOperation.builder().type(TaskOperationType.MOVE).taskId(2L).move(new TaskMoveRequest(11L, 0)).build()));
+
+        TaskBatchResponse response = taskBatchService.execute(request, owner);
+
+        assertThat(response.isApplied()).isTrue();
+        assertThat(response.getResults()).extracting(TaskOperationResult::getStatus).containsExactly(200, 201, 200);
+        assertThat(task2.getPosition()).isZero();
+        assertThat(task1.getPosition()).isEqualTo(1);
+        assertThat(response.getResults().get(1).getTask().getPosition()).isEqualTo(2);
+        assertThat(todo.getVersion()).isEqualTo(3L);
+        assertThat(done.getVersion()).isEqualTo(1L);
+
+        verify(taskRepository, times(1)).findAllById(any());
+        verify(boardRepository, times(1)).lockAllById(any());
+        verify(taskRepository, times(1)).findByBoardIdOrderByPositionAsc(10L);
+        verify(taskRepository, times(1)).findByBoardIdOrderByPositionAsc(11L);
+        verify(labelRepository, never()).findAllById(any());
+        verify(eventPublisher, times(3)).publishEvent(any(TaskChangedEvent.class));
+        assertThat(transactionStatus.isRollbackOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("execute - si una operación falla se marca la transacción para rollback y el resto queda en 424")
+    void execute_operacionFallida_deshaceElLote() {
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task1));
+
+        TaskBatchRequest request = new TaskBatchRequest(List.of(
+                TaskOperation.builder().type(TaskOperationType.MOVE).taskId(1L).move(new TaskMoveRequest(11L, 0)).build(),
+                TaskOperation.builder().type(TaskOperationType.DELETE).taskId(99L).build()));
+
+        TaskBatchResponse response = taskBatchService.execute(request, owner);
+
+        assertThat(response.isApplied()).isFalse();
+        assertThat(response.getResults()).extracting(TaskOperationResult::getStatus).containsExactly(424, 404);
+        assertThat(response.getResults().get(1).getError()).contains("99");
+        assertThat(transactionStatus.isRollbackOnly()).isTrue();
+        verify(taskRepository, never()).delete(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("execute - una operación sin taskId se rechaza con 400 en su índice y no en todo el lote")
+    void execute_operacionSinTaskId_rechazaEsaOperacion() {
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task1));
+
+        TaskBatchRequest request = new TaskBatchRequest(List.of(
+                TaskOperation.builder().type(TaskOperationType.MOVE).taskId(1L).move(new TaskMoveRequest(11L, 0)).build(),
+                TaskOperation.builder().type(TaskOperationType.DELETE).build()));
+
+        TaskBatchResponse response = taskBatchService.execute(request, owner);
+
+        assertThat(response.isApplied()).isFalse();
+        assertThat(response.getResults()).extracting(TaskOperationResult::getStatus).containsExactly(424, 400);
+        assertThat(response.getResults().get(1).getError()).contains("taskId");
+        assertThat(transactionStatus.isRollbackOnly()).isTrue();
+        verify(taskRepository).findAllById(Set.of(1L));
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TaskFieldsTest {
+
+    @Test
+    @DisplayName("sin parámetro devuelve null: tarea completa")
+    void parse_sinParametro_null() {
+        assertThat(TaskFields.parse(null)).isNull();
+        assertThat(TaskFields.parse(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("incluye siempre el id y solo selecciona atributos de Task")
+    void parse_campos_idYAtributos() {
+        TaskFields fields = TaskFields.parse("title, labels,assignee,boardId");
+
+        assertThat(fields.names()).containsExactlyInAnyOrder("id", "title", "labels", "assignee", "boardId");
+        assertThat(fields.attributes()).containsExactlyInAnyOrder("title", "assignee");
+        assertThat(fields).isEqualTo(TaskFields.parse("boardId,assignee,labels,title"));
+    }
+
+    @Test
+    @DisplayName("campo desconocido lanza BadRequestException")
+    void parse_campoDesconocido_lanzaBadRequest() {
+        assertThatThrownBy(() -> TaskFields.parse("title,password"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("password");
+    }
+}
@@ -0,0 +1,196 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.MoveCoalescingProperties;
+import com.taskmanager.config.ReplicaLagGuard;
+import com.taskmanager.dto.TaskMoveAck;
+import com.taskmanager.dto.TaskMoveRequest;
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Role;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskMoveCoalescerTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private PermissionService permissionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<ReplicaLagGuard> replicaLagGuard;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MoveCoalescingProperties properties;
+    private ThreadPoolTaskScheduler batchScheduler;
+    private TaskMoveCoalescer coalescer;
+
+    private User owner;
+    private Project project;
+    private Board todo;
+    private Board done;
+    private Task task1;
+    private Task task2;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MoveCoalescingProperties();
+        properties.setWindow(Duration.ofMillis(300));
+        batchScheduler = new ThreadPoolTaskScheduler();
+        batchScheduler.setThreadNamePrefix("move-batch-");
+        batchScheduler.initialize();
+        coalescer = new TaskMoveCoalescer(taskRepository, boardRepository, permissionService, eventPublisher,
+                properties, batchScheduler, replicaLagGuard, transactionManager);
+
+        owner = User.builder().id(1L).email("sara@test.com").fullName("Sara").role(Role.ADMIN).build();
+        project = Project.builder().id(1L).name("Proyecto").owner(owner).members(new HashSet<>(Set.of(owner))).build();
+        todo = Board.builder().id(10L).name("Por Hacer").position(0).project(project).version(4L).build();
+        done = Board.builder().id(11L).name("Hecho").position(1).project(project).build();
+        task1 = Task.builder().id(1L).title("Tarea 1").priority(Priority.HIGH).position(0).board(todo).build();
+        task2 = Task.builder().id(2L).title("Tarea 2").priority(Priority.LOW).position(1).board(todo).build();
+
+        lenient().when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+        lenient().when(taskRepository.findById(2L)).thenReturn(Optional.of(task2));
+        lenient().when(boardRepository.findById(10L)).thenReturn(Optional.of(todo));
+        lenient().when(boardRepository.findById(11L)).thenReturn(Optional.of(done));
+        lenient().when(boardRepository.lockByProjectId(1L)).thenReturn(List.of(todo, done));
+        lenient().when(taskRepository.findByBoardIdOrderByPositionAsc(10L)).thenReturn(List.of(task1, task2));
+        lenient().when(taskRepository.findByBoardIdOrderByPositionAsc(11L)).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("moveTask - desactivado aplica el movimiento al momento, renumera y sube la versión de los boards")
+    void moveTask_desactivado_aplicaAlMomento() {
+        properties.setEnabled(false);
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task1));
+
+        TaskMoveAck ack = coalescer.moveTask(1L, new TaskMoveRequest(11L, 0), owner);
+
+        assertThat(ack.getBoardId()).isEqualTo(11L);
+        assertThat(ack.getPosition()).isZero();
+        assertThat(ack.getBoardVersion()).isEqualTo(1L);
+        assertThat(ack.isSuperseded()).isFalse();
+        assertThat(task2.getPosition()).isZero();
+        assertThat(todo.getVersion()).isEqualTo(5L);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("moveTask - varios movimientos de la misma tarea dentro de la ventana aplican solo el último")
+    void moveTask_movimientosSeguidos_aplicaSoloElUltimo() throws Exception {
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task1));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<TaskMoveAck> first = executor.submit(() -> coalescer.moveTask(1L, new TaskMoveRequest(11L, 0), owner));
+            Thread.sleep(100);
+            Future<TaskMoveAck> last = executor.submit(() -> coalescer.moveTask(1L, new TaskMoveRequest(10L, 1), owner));
+
+            TaskMoveAck firstAck = first.get(5, TimeUnit.SECONDS);
+            TaskMoveAck lastAck = last.get(5, TimeUnit.SECONDS);
+
+            assertThat(firstAck.isSuperseded()).isTrue();
+            assertThat(lastAck.isSuperseded()).isFalse();
+            assertThat(List.of(firstAck, lastAck)).allSatisfy(ack -> {
+                assertThat(ack.getBoardId()).isEqualTo(10L);
+                assertThat(ack.getPosition()).isEqualTo(1);
+                assertThat(ack.getBatchSize()).isEqualTo(2);
+            });
+            assertThat(task2.getPosition()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(boardRepository, times(1)).lockByProjectId(1L);
+        verify(taskRepository, times(1)).findByBoardIdOrderByPositionAsc(10L);
+        verify(taskRepository, never()).findByBoardIdOrderByPositionAsc(11L);
+        ArgumentCaptor<TaskChangedEvent> captor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getAfter().getBoardId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("moveTask - el lote se aplica en el planificador y registra la escritura de cada autor")
+    void moveTask_lote_seAplicaFueraDelHiloDeLaPeticion() {
+        ReplicaLagGuard lagGuard = new ReplicaLagGuard(Duration.ofSeconds(5));
+        when(replicaLagGuard.getIfAvailable()).thenReturn(lagGuard);
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task1));
+        List<String> applyThreads = new ArrayList<>();
+        when(boardRepository.lockByProjectId(1L)).thenAnswer(invocation -> {
+            applyThreads.add(Thread.currentThread().getName());
+            return List.of(todo, done);
+        });
+
+        TaskMoveAck ack = coalescer.moveTask(1L, new TaskMoveRequest(11L, 0), owner);
+
+        assertThat(ack.getBoardId()).isEqualTo(11L);
+        assertThat(applyThreads).singleElement().asString().startsWith("move-batch-");
+        assertThat(lagGuard.mustReadFromPrimary(owner.getEmail())).isTrue();
+    }
+
+    @Test
+    @DisplayName("moveTask - en un proyecto eliminado lanza ResourceNotFoundException sin abrir lote")
+    void moveTask_proyectoEliminado_lanzaNotFound() {
+        project.setDeletedAt(LocalDateTime.now());
+
+        assertThatThrownBy(() -> coalescer.moveTask(1L, new TaskMoveRequest(11L, 0), owner))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(boardRepository, never()).lockByProjectId(any());
+    }
+
+    @Test
+    @DisplayName("moveTask - a un board de otro proyecto lanza BadRequestException sin abrir lote")
+    void moveTask_boardDeOtroProyecto_lanzaBadRequest() {
+        Project other = Project.builder().id(2L).owner(owner).members(new HashSet<>()).build();
+        Board foreign = Board.builder().id(20L).name("Ajeno").project(other).build();
+        when(boardRepository.findById(20L)).thenReturn(Optional.of(foreign));
+
+        assertThatThrownBy(() -> coalescer.moveTask(1L, new TaskMoveRequest(20L, 0), owner))
+                .isInstanceOf(BadRequestException.class);
+        verify(boardRepository, never()).lockByProjectId(any());
+    }
+}
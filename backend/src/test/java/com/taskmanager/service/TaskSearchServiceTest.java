@@ -0,0 +1,84 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskSearchResponse;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Role;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSearchRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskSearchService taskSearchService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(7L).email("user@test.com").fullName("User").role(Role.MEMBER).build();
+    }
+
+    @Test
+    @DisplayName("toPrefixTsQuery - descarta operadores y busca cada término como prefijo")
+    void toPrefixTsQuery_textoConOperadores_generaTerminosPrefijo() {
+        assertThat(TaskSearchService.toPrefixTsQuery("Diseño  pant!|&:* diseño"))
+                .isEqualTo("diseño:* & pant:*");
+
+        assertThatThrownBy(() -> TaskSearchService.toPrefixTsQuery("&|!"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("search - con más filas que el límite devuelve cursor y la siguiente página continúa desde él")
+    void search_masFilasQueLimite_devuelveCursorReutilizable() {
+        TaskSearchRow first = row(10L, 0.5f);
+        TaskSearchRow second = row(11L, 0.25f);
+        when(taskRepository.search(7L, "login:*", Float.MAX_VALUE, 0L, 2)).thenReturn(List.of(first, second));
+
+        TaskSearchResponse page = taskSearchService.search("login", null, 1, user);
+
+        assertThat(page.getResults()).extracting("taskId").containsExactly(10L);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        when(taskRepository.search(7L, "login:*", 0.5f, 10L, 2)).thenReturn(List.of(second));
+
+        TaskSearchResponse next = taskSearchService.search("login", page.getNextCursor(), 1, user);
+
+        assertThat(next.getResults()).extracting("taskId").containsExactly(11L);
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("search - cursor manipulado lanza BadRequestException")
+    void search_cursorInvalido_lanzaBadRequest() {
+        assertThatThrownBy(() -> taskSearchService.search("login", "no-es-un-cursor", 20, user))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(taskRepository, never()).search(anyLong(), anyString(), anyFloat(), anyLong(), anyInt());
+    }
+
+    private TaskSearchRow row(Long taskId, float rank) {
+        TaskSearchRow row = mock(TaskSearchRow.class);
+        lenient().when(row.getTaskId()).thenReturn(taskId);
+        lenient().when(row.getRank()).thenReturn(rank);
+        return row;
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskMoveRequest;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Role;
+import com.taskmanager.support.QueryCount;
+import com.taskmanager.support.QueryCountTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskService - número de consultas")
+class TaskServiceQueryCountTest extends QueryCountTestSupport {
+
+    private static final int SMALL = 2;
+    private static final int LARGE = 30;
+
+    @Autowired
+    private TaskService taskService;
+
+    private User owner;
+    private SeededProject small;
+    private SeededProject large;
+
+    @BeforeEach
+    void setUp() {
+        owner = seedUser(Role.PROJECT_MANAGER);
+        small = seedProject(owner, 3, SMALL);
+        large = seedProject(owner, 3, LARGE);
+    }
+
+    @Test
+    @DisplayName("createTask hace las mismas consultas en un proyecto pequeño y en uno grande")
+    void createTask_proyectoGrande_mismasConsultas() {
+        QueryCount smallCount = measure(() -> create(small));
+        QueryCount largeCount = measure(() -> create(large));
+
+        assertThat(smallCount).isEqualTo(QueryCount.of(7, 3, 5, 0));
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    @DisplayName("moveTask al final de otro board no depende del tamaño del proyecto")
+    void moveTask_alFinal_mismasConsultas() {
+        QueryCount smallCount = measure(() -> moveLastTaskTo(small, SMALL));
+        QueryCount largeCount = measure(() -> moveLastTaskTo(large, LARGE));
+
+        assertThat(smallCount).isEqualTo(QueryCount.of(10, 0, 5, 0));
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    @DisplayName("moveTask al principio solo añade un UPDATE por cada tarea desplazada")
+    void moveTask_alPrincipio_unUpdatePorTareaDesplazada() {
+        QueryCount smallCount = measure(() -> moveLastTaskTo(small, 0));
+        QueryCount largeCount = measure(() -> moveLastTaskTo(large, 0));
+
+        // Las posiciones son por fila: las tareas del board destino bajan un puesto cada una
+        assertThat(smallCount).isEqualTo(QueryCount.of(10, 0, 5 + SMALL, 0));
+        assertThat(largeCount).isEqualTo(QueryCount.of(10, 0, 5 + LARGE, 0));
+    }
+
+    @Test
+    @DisplayName("deleteTask de la última tarea no depende del tamaño del proyecto")
+    void deleteTask_ultimaTarea_mismasConsultas() {
+        QueryCount smallCount = measure(() -> taskService.deleteTask(last(small.taskIds().get(0)), owner));
+        QueryCount largeCount = measure(() -> taskService.deleteTask(last(large.taskIds().get(0)), owner));
+
+        assertThat(smallCount).isEqualTo(QueryCount.of(7, 0, 5, 2));
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    /**
+     * Responsable y prioridad que ya existen en los contadores del proyecto, para que la
+     * creación solo incremente filas y no inserte claves nuevas.
+     */
+    private void create(SeededProject project) {
+        taskService.createTask(TaskRequest.builder()
+                .title("Nueva tarea")
+                .priority("LOW")
+                .boardId(project.boardIds().get(0))
+                .assigneeId(owner.getId())
+                .labelIds(project.labelIds().subList(0, 2))
+                .build(), owner);
+    }
+
+    private void moveLastTaskTo(SeededProject project, int position) {
+        taskService.moveTask(last(project.taskIds().get(0)), TaskMoveRequest.builder()
+                .targetBoardId(project.boardIds().get(1))
+                .newPosition(position)
+                .build(), owner);
+    }
+
+    private static Long last(List<Long> ids) {
+        return ids.get(ids.size() - 1);
+    }
+}
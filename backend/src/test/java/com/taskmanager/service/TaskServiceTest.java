@@ -1,5 +1,10 @@
 package com.taskmanager.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.AssignedTasksResponse;
+import com.taskmanager.dto.SparseTaskResponse;
+import com.taskmanager.dto.TaskFilter;
 import com.taskmanager.dto.TaskMoveRequest;
 import com.taskmanager.dto.TaskRequest;
 import com.taskmanager.dto.TaskResponse;
@@ -10,24 +15,37 @@ import com.taskmanager.entity.User;
 import com.taskmanager.enums.Permission;
 import com.taskmanager.enums.Priority;
 import com.taskmanager.enums.Role;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.AccessDeniedException;
+import com.taskmanager.exception.BadRequestException;
 import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.AssignedTaskRow;
 import com.taskmanager.repository.BoardRepository;
 import com.taskmanager.repository.LabelRepository;
+import com.taskmanager.repository.TaskColumnsRow;
+import com.taskmanager.repository.TaskLabelRow;
 import com.taskmanager.repository.TaskRepository;
 import com.taskmanager.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +66,9 @@ class TaskServiceTest {
     @Mock
     private PermissionService permissionService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -201,4 +222,142 @@ class TaskServiceTest {
         verify(taskRepository).saveAll(anyList());
         assertThat(task2.getPosition()).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("deleteTask - publica TaskChangedEvent DELETED con el estado previo")
+    void deleteTask_existente_publicaEventoDeleted() {
+        task1.setDueDate(LocalDate.of(2030, 1, 1));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+        when(taskRepository.findByBoardIdOrderByPositionAsc(1L))
+                .thenReturn(new ArrayList<>(List.of(task1, task2)));
+
+        taskService.deleteTask(1L, owner);
+
+        ArgumentCaptor<TaskChangedEvent> captor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        TaskChangedEvent event = captor.getValue();
+        assertThat(event.getType()).isEqualTo(TaskChangedEvent.Type.DELETED);
+        assertThat(event.getAfter()).isNull();
+        assertThat(event.getBefore().getDueDate()).isEqualTo(LocalDate.of(2030, 1, 1));
+        assertThat(event.getProjectId()).isEqualTo(1L);
+        assertThat(event.getActorId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("getBoardTasks - board de otro proyecto lanza ResourceNotFoundException")
+    void getBoardTasks_boardDeOtroProyecto_lanzaNotFound() {
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(boardTodo));
+
+        assertThatThrownBy(() -> taskService.getBoardTasks(99L, 1L, new TaskFilter(), owner))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("getBoardTasks - filtro con fecha inválida lanza BadRequestException")
+    @SuppressWarnings("unchecked")
+    void getBoardTasks_fechaInvalida_lanzaBadRequest() {
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(boardTodo));
+
+        TaskFilter filter = TaskFilter.builder().dueFrom("mañana").build();
+
+        assertThatThrownBy(() -> taskService.getBoardTasks(1L, 1L, filter, owner))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("getTaskById - un miembro del proyecto lee la tarea completa")
+    void getTaskById_miembro_devuelveTarea() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+
+        TaskResponse response = taskService.getTaskById(1L, null, owner);
+
+        assertThat(response.getTitle()).isEqualTo("Tarea 1");
+    }
+
+    @Test
+    @DisplayName("getTaskById - un usuario ajeno al proyecto lanza AccessDeniedException, con o sin fields")
+    void getTaskById_usuarioAjeno_lanzaAccesoDenegado() {
+        User stranger = User.builder().id(9L).email("ajeno@test.com").role(Role.MEMBER).build();
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+        when(taskRepository.findProjectByTaskId(1L)).thenReturn(Optional.of(project));
+
+        assertThatThrownBy(() -> taskService.getTaskById(1L, null, stranger))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> taskService.getTaskById(1L, TaskFields.parse("title"), stranger))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(taskRepository, never()).findColumns(any(), anySet(), any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("getTaskById - una tarea de un proyecto eliminado no se encuentra")
+    void getTaskById_proyectoEliminado_lanzaNoEncontrado() {
+        project.setDeletedAt(LocalDateTime.now());
+        when(taskRepository.findProjectByTaskId(1L)).thenReturn(Optional.of(project));
+
+        assertThatThrownBy(() -> taskService.getTaskById(1L, TaskFields.parse("title"), owner))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("getBoardTasks - con fields solo pide esas columnas y el JSON lleva exactamente esos campos")
+    @SuppressWarnings("unchecked")
+    void getBoardTasks_conFields_soloColumnasPedidas() throws Exception {
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(boardTodo));
+        TaskColumnsRow row = new TaskColumnsRow(7L, 1L, "Sin descripción", null, Priority.HIGH, 0, null, null,
+                null, null, null, null);
+        when(taskRepository.findColumns(any(Specification.class), anySet(), any(Sort.class))).thenReturn(List.of(row));
+        TaskLabelRow label = mock(TaskLabelRow.class);
+        when(label.getTaskId()).thenReturn(7L);
+        when(label.getLabelId()).thenReturn(3L);
+        when(label.getName()).thenReturn("bug");
+        when(taskRepository.findLabelRowsByTaskIdIn(List.of(7L))).thenReturn(List.of(label));
+
+        List<TaskResponse> tasks = taskService.getBoardTasks(1L, 1L, null,
+                TaskFields.parse("title,priority,labels,dueDate"), owner);
+
+        ArgumentCaptor<Set<String>> attributes = ArgumentCaptor.forClass(Set.class);
+        verify(taskRepository).findColumns(any(Specification.class), attributes.capture(), any(Sort.class));
+        assertThat(attributes.getValue()).containsExactlyInAnyOrder("title", "priority", "dueDate");
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Sort.class));
+        assertThat(tasks).singleElement()
+                .isInstanceOf(SparseTaskResponse.class)
+                .satisfies(task -> {
+                    assertThat(task.getTitle()).isEqualTo("Sin descripción");
+                    assertThat(task.getPriority()).isEqualTo("HIGH");
+                    assertThat(task.getLabels()).extracting("name").containsExactly("bug");
+                    assertThat(task.getDescription()).isNull();
+                    assertThat(task.getBoardId()).isNull();
+                });
+
+        // Un campo pedido sin valor sale como null; uno no pedido no sale
+        JsonNode json = new ObjectMapper().valueToTree(tasks.get(0));
+        assertThat(json.fieldNames()).toIterable()
+                .containsExactly("id", "title", "priority", "labels", "dueDate");
+        assertThat(json.get("dueDate").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("getMyTasks - con más tareas que el límite devuelve cursor con las claves de la última fila")
+    void getMyTasks_masTareasQueLimite_devuelveCursor() {
+        AssignedTaskRow first = mock(AssignedTaskRow.class);
+        when(first.getTaskId()).thenReturn(5L);
+        when(first.getDueKey()).thenReturn(LocalDate.of(2030, 1, 2));
+        when(first.getPriorityRank()).thenReturn(1);
+        AssignedTaskRow extra = mock(AssignedTaskRow.class);
+
+        when(taskRepository.findAssignedToUser(1L, LocalDate.of(1, 1, 1), -1, 0L, 2)).thenReturn(List.of(first, extra));
+
+        AssignedTasksResponse page = taskService.getMyTasks(null, 1, owner);
+
+        assertThat(page.getResults()).extracting("taskId").containsExactly(5L);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        when(taskRepository.findAssignedToUser(1L, LocalDate.of(2030, 1, 2), 1, 5L, 2)).thenReturn(List.of());
+
+        assertThat(taskService.getMyTasks(page.getNextCursor(), 1, owner).getResults()).isEmpty();
+    }
 }
@@ -0,0 +1,22 @@
+package com.taskmanager.support;
+
+/**
+ * Sentencias SQL por tipo. "other" recoge lo que no es SELECT/INSERT/UPDATE/DELETE
+ * (por ejemplo SET o CALL).
+ */
+public record QueryCount(int select, int insert, int update, int delete, int other) {
+
+    public static QueryCount of(int select, int insert, int update, int delete) {
+        return new QueryCount(select, insert, update, delete, 0);
+    }
+
+    public int total() {
+        return select + insert + update + delete + other;
+    }
+
+    @Override
+    public String toString() {
+        return "SELECT=" + select + " INSERT=" + insert + " UPDATE=" + update + " DELETE=" + delete
+                + (other > 0 ? " OTHER=" + other : "");
+    }
+}
@@ -0,0 +1,177 @@
+package com.taskmanager.support;
+
+import com.taskmanager.entity.Board;
+import com.taskmanager.entity.Label;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Role;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TaskSnapshot;
+import com.taskmanager.repository.BoardRepository;
+import com.taskmanager.repository.LabelRepository;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base de los tests de número de consultas: contexto completo sobre H2 (perfil
+ * querycount), proyectos sembrados con el tamaño que pida cada test y measure(...), que
+ * vacía la cache de segundo nivel y cuenta las sentencias de la llamada.
+ *
+ * La idea es medir la misma operación sobre un proyecto pequeño y otro grande: si el
+ * número de consultas cambia con el tamaño, hay un N+1.
+ */
+@SpringBootTest
+@ActiveProfiles("querycount")
+@Import(SqlStatementCounter.Config.class)
+public abstract class QueryCountTestSupport {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected ProjectRepository projectRepository;
+
+    @Autowired
+    protected BoardRepository boardRepository;
+
+    @Autowired
+    protected TaskRepository taskRepository;
+
+    @Autowired
+    protected LabelRepository labelRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    protected QueryCount measure(Runnable action) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        return SqlStatementCounter.count(action);
+    }
+
+    /**
+     * Las sentencias de la llamada en minúsculas, con la cache de segundo nivel vacía.
+     */
+    protected List<String> statements(Runnable action) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        return SqlStatementCounter.statements(action);
+    }
+
+    protected User seedUser(Role role) {
+        int n = SEQUENCE.incrementAndGet();
+        return userRepository.save(User.builder()
+                .email("usuario" + n + "@test.com")
+                .password("x")
+                .fullName("Usuario " + n)
+                .role(role)
+                .build());
+    }
+
+    /**
+     * Proyecto con boardCount boards y tasksPerBoard tareas en cada uno. Miembros (además del
+     * owner) y etiquetas crecen con tasksPerBoard; cada tarea tiene responsable y dos etiquetas.
+     *
+     * Las tareas se guardan sin publicar eventos, así que al final se publica uno para que
+     * ProjectStatsService construya los contadores del proyecto; si no, la primera escritura
+     * medida los reconstruiría y su número de INSERT dependería del tamaño.
+     */
+    protected SeededProject seedProject(User owner, int boardCount, int tasksPerBoard) {
+        int members = tasksPerBoard;
+        int labelCount = tasksPerBoard;
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            int n = SEQUENCE.incrementAndGet();
+            List<User> team = new ArrayList<>(List.of(owner));
+            for (int i = 0; i < members; i++) {
+                team.add(seedUser(Role.MEMBER));
+            }
+
+            Project project = projectRepository.save(Project.builder()
+                    .name("Proyecto " + n)
+                    .owner(owner)
+                    .members(new HashSet<>(team))
+                    .boards(new ArrayList<>())
+                    .build());
+
+            List<Label> labels = new ArrayList<>();
+            for (int i = 0; i < labelCount; i++) {
+                labels.add(Label.builder().name("etiqueta-" + i).color("#3498db").project(project).build());
+            }
+            labelRepository.saveAll(labels);
+
+            List<Board> boards = new ArrayList<>();
+            for (int i = 0; i < boardCount; i++) {
+                boards.add(Board.builder().name("Board " + i).position(i).project(project).tasks(new ArrayList<>()).build());
+            }
+            boardRepository.saveAll(boards);
+
+            List<List<Long>> taskIds = new ArrayList<>();
+            List<Task> seeded = new ArrayList<>();
+            for (Board board : boards) {
+                List<Task> tasks = new ArrayList<>();
+                for (int i = 0; i < tasksPerBoard; i++) {
+                    Set<Label> taskLabels = new HashSet<>();
+                    if (!labels.isEmpty()) {
+                        taskLabels.add(labels.get(i % labels.size()));
+                        taskLabels.add(labels.get((i + 1) % labels.size()));
+                    }
+                    tasks.add(Task.builder()
+                            .title("Tarea " + i + " de " + board.getName())
+                            .priority(Priority.values()[i % Priority.values().length])
+                            .position(i)
+                            .board(board)
+                            .assignee(team.get(i % team.size()))
+                            .labels(taskLabels)
+                            .dueDate(i % 2 == 0 ? LocalDate.of(2030, 1, 1).plusDays(i) : null)
+                            .build());
+                }
+                taskIds.add(taskRepository.saveAll(tasks).stream().map(Task::getId).toList());
+                seeded.addAll(tasks);
+            }
+
+            if (!seeded.isEmpty()) {
+                eventPublisher.publishEvent(TaskChangedEvent.builder()
+                        .type(TaskChangedEvent.Type.CREATED)
+                        .after(TaskSnapshot.of(seeded.get(0)))
+                        .actorId(owner.getId())
+                        .at(LocalDateTime.now())
+                        .build());
+            }
+
+            return new SeededProject(project.getId(), boards.stream().map(Board::getId).toList(), taskIds,
+                    labels.stream().map(Label::getId).toList());
+        });
+    }
+
+    /**
+     * Ids de lo sembrado; taskIds.get(b) son las tareas del board b en orden de posición.
+     */
+    protected record SeededProject(Long projectId, List<Long> boardIds, List<List<Long>> taskIds, List<Long> labelIds) {
+    }
+}
@@ -0,0 +1,192 @@
+package com.taskmanager.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Cuenta las sentencias SQL que se envían a la base de datos desde el hilo que llama a
+ * count(...), clasificadas por tipo. Se cuenta a nivel JDBC (cada prepareStatement y cada
+ * Statement.execute*), así que incluye consultas nativas, @Modifying y las que añaden los
+ * listeners síncronos. Los escritores asíncronos (actividad, transiciones) corren en otros
+ * hilos y no se cuentan.
+ *
+ * Se activa importando SqlStatementCounter.Config, que envuelve el DataSource.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "addBatch");
+
+    private SqlStatementCounter() {
+    }
+
+    public static QueryCount count(Runnable action) {
+        return count(() -> {
+            action.run();
+            return null;
+        }).queries();
+    }
+
+    /**
+     * Las sentencias de la llamada, en orden, para comprobar qué columnas se leen.
+     */
+    public static List<String> statements(Runnable action) {
+        Counts previous = CURRENT.get();
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        try {
+            action.run();
+            return List.copyOf(counts.statements);
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static <T> Counted<T> count(Supplier<T> action) {
+        Counts previous = CURRENT.get();
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        try {
+            T result = action.get();
+            return new Counted<>(result, counts.toQueryCount());
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void record(String sql) {
+        Counts counts = CURRENT.get();
+        if (counts == null || sql == null) {
+            return;
+        }
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        counts.statements.add(statement);
+        if (statement.startsWith("select") || statement.startsWith("with")) {
+            counts.select++;
+        } else if (statement.startsWith("insert") || statement.startsWith("merge")) {
+            counts.insert++;
+        } else if (statement.startsWith("update")) {
+            counts.update++;
+        } else if (statement.startsWith("delete")) {
+            counts.delete++;
+        } else {
+            counts.other++;
+        }
+    }
+
+    public record Counted<T>(T result, QueryCount queries) {
+    }
+
+    private static class Counts {
+
+        private int select;
+        private int insert;
+        private int update;
+        private int delete;
+        private int other;
+        private final List<String> statements = new ArrayList<>();
+
+        QueryCount toQueryCount() {
+            return new QueryCount(select, insert, update, delete, other);
+        }
+    }
+
+    // --- Proxies JDBC ---
+
+    private static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args, result) ->
+                result instanceof Connection connection && method.getName().equals("getConnection")
+                        ? wrap(connection)
+                        : result);
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            String name = method.getName();
+            if ((name.equals("prepareStatement") || name.equals("prepareCall")) && args != null) {
+                record((String) args[0]);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return wrap(statement);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrap(Statement statement) {
+        return proxy(Statement.class, statement, (method, args, result) -> result, (method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName()) && args != null && args.length > 0 && args[0] instanceof String sql) {
+                record(sql);
+            }
+        });
+    }
+
+    private interface ResultHandler {
+
+        Object handle(Method method, Object[] args, Object result);
+    }
+
+    private interface BeforeCall {
+
+        void before(Method method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ResultHandler after) {
+        return proxy(type, target, after, (method, args) -> {
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultHandler after, BeforeCall before) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("unwrap") && args != null && args[0] == type) {
+                return proxy;
+            }
+            before.before(method, args);
+            try {
+                return after.handle(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public static BeanPostProcessor sqlStatementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}